@@ -0,0 +1,35 @@
+package com.example.practice_shop.config;
+
+import java.util.concurrent.Executors;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    /**
+     * Redis Pub/Sub 구독 컨테이너
+     * 좌석/대기열 중계 메시지는 발행 순서대로 처리해야 하므로 단일 스레드에서 전달합니다.
+     * @param connectionFactory
+     * @return
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(relayListenerExecutor());
+        return container;
+    }
+
+    private TaskExecutor relayListenerExecutor() {
+        return new TaskExecutorAdapter(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-relay");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+}
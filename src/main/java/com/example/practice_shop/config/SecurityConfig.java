@@ -1,10 +1,15 @@
 package com.example.practice_shop.config;
 
+import com.example.practice_shop.repository.QueueRepository;
 import com.example.practice_shop.security.JwtAuthenticationFilter;
 import com.example.practice_shop.security.JwtTokenProvider;
 import com.example.practice_shop.security.OAuth2AuthenticationSuccessHandler;
+import com.example.practice_shop.security.QueueTokenFilter;
 import com.example.practice_shop.service.CustomOAuth2UserService;
+import com.example.practice_shop.service.queue.QueueTokenCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -36,13 +41,17 @@ public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomOAuth2UserService customOauth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
+    private final QueueTokenCodec queueTokenCodec;
+    private final QueueRepository queueRepository;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Queue-Token", "queue-token"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Queue-Token", "queue-token",
+                "Idempotency-Key", "idempotency-key"));
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -61,11 +70,13 @@ public class SecurityConfig {
     /**
      * Spring Security의 필터 체인을 설정합니다.
      * @param http HttpSecurity 객체
+     * @param queueGateEnabled 예매 요청에 입장 허용된 대기열 토큰을 요구할지 여부
      * @return 구성된 SecurityFilterChain
      * @throws Exception 설정 중 예외 발생 시
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${queue.gate.enabled:true}") boolean queueGateEnabled) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
@@ -75,6 +86,7 @@ public class SecurityConfig {
                 .requestMatchers("/ws/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/products/**").permitAll() // 상품 조회는 모두 허용
                 .requestMatchers(HttpMethod.GET, "/api/events/**").permitAll() // 공연 조회는 모두 허용
+                .requestMatchers(HttpMethod.GET, "/api/showtimes/*/seats/realtime", "/api/showtimes/*/seats/realtime/changes").permitAll() // 좌석 실시간 토픽과 같이 공개
                 .requestMatchers("/api/queue/**").permitAll() // 대기열 진입/조회 허용 (익명/로그인 모두)
                 .requestMatchers("/api/admin/**").hasRole("ADMIN") // 관리자 권한 필요
                 .anyRequest().authenticated()
@@ -91,6 +103,11 @@ public class SecurityConfig {
                 .successHandler(oAuth2AuthenticationSuccessHandler) // OAuth2 인증 성공 핸들러 설정
             );
 
+        if (queueGateEnabled) {
+            // JWT 인증 이후에 토큰의 사용자와 로그인 사용자를 비교합니다.
+            http.addFilterAfter(new QueueTokenFilter(queueTokenCodec, queueRepository, objectMapper), UsernamePasswordAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 }
@@ -0,0 +1,7 @@
+package com.example.practice_shop.constant;
+
+public enum PaymentOutboxStatus {
+    PENDING,   // PG 호출 대기 또는 재시도 대기
+    SUCCEEDED, // PG 호출 성공 및 결과 반영 완료
+    FAILED     // 재시도 불가 실패 또는 재시도 횟수 초과
+}
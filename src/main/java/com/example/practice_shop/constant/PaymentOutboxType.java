@@ -0,0 +1,6 @@
+package com.example.practice_shop.constant;
+
+public enum PaymentOutboxType {
+    CONFIRM, // 결제 승인
+    REFUND   // 결제 취소(환불)
+}
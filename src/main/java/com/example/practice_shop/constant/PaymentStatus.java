@@ -4,7 +4,9 @@ public enum PaymentStatus {
     PENDING("결제 대기"),
     PAID("결제 완료"),
     FAILED("결제 실패"),
-    REFUNDED("환불 완료");
+    REFUND_PENDING("환불 대기"),
+    REFUNDED("환불 완료"),
+    REFUND_FAILED("환불 실패"); // 재시도로 해결되지 않아 관리자 확인이 필요한 환불
 
     public final String description;
 
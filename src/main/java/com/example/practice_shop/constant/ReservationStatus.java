@@ -1,8 +1,9 @@
 package com.example.practice_shop.constant;
 
 public enum ReservationStatus {
-    PENDING_PAYMENT, // 결제 대기 중
-    CONFIRMED,       // 예매 확정
-    PAID,            // 결제 완료
-    CANCELLED        // 예매 취소
+    PENDING_PAYMENT,     // 결제 대기 중
+    PAYMENT_IN_PROGRESS, // 결제 승인 처리 중 (PG 호출 대기/재시도)
+    CONFIRMED,           // 예매 확정
+    PAID,                // 결제 완료
+    CANCELLED            // 예매 취소
 }
\ No newline at end of file
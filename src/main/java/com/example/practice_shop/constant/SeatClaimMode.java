@@ -0,0 +1,9 @@
+package com.example.practice_shop.constant;
+
+public enum SeatClaimMode {
+    PESSIMISTIC_LOCK,   // DB 행 잠금(PESSIMISTIC_WRITE)으로 좌석 선점
+    CONDITIONAL_UPDATE, // status='AVAILABLE' 조건의 UPDATE 한 번으로 좌석 선점 (기본값)
+    REDIS_SCRIPT,       // Redis Lua 스크립트로 좌석을 일괄 선점한 뒤 DB에 반영
+    IN_MEMORY,          // 애플리케이션 메모리의 좌석 비트맵으로 선점한 뒤 DB에 반영 (단일 노드)
+    SEQUENCED           // 회차별 단일 스레드 샤드에서 순서대로 메모리 선점 후 그룹 커밋 (단일 노드)
+}
@@ -0,0 +1,8 @@
+package com.example.practice_shop.constant;
+
+public enum SeatClaimResult {
+    CLAIMED,      // 모든 좌석 선점 성공
+    CONFLICT,     // 이미 선점된 좌석이 있음
+    UNKNOWN_SEAT, // 회차에 존재하지 않는 좌석이 포함됨
+    NOT_LOADED    // 회차 좌석 상태가 아직 적재되지 않음
+}
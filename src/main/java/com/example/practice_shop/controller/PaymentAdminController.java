@@ -0,0 +1,34 @@
+package com.example.practice_shop.controller;
+
+import com.example.practice_shop.dtos.Payment.RefundFailureResponse;
+import com.example.practice_shop.service.payment.PaymentOutboxService;
+import io.swagger.v3.oas.annotations.Operation;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/payments")
+@RequiredArgsConstructor
+public class PaymentAdminController {
+
+    private final PaymentOutboxService paymentOutboxService;
+
+    @GetMapping("/refund-failures")
+    @Operation(summary = "실패한 환불 조회", description = "재시도로 해결되지 않아 환불 실패 상태로 남은 환불 목록을 조회합니다.")
+    public ResponseEntity<List<RefundFailureResponse>> getRefundFailures() {
+        return ResponseEntity.ok(paymentOutboxService.findFailedRefunds());
+    }
+
+    @PostMapping("/refund-failures/{outboxId}/retry")
+    @Operation(summary = "실패한 환불 재시도", description = "실패한 환불을 다시 시도하도록 되돌립니다. 결제 아웃박스 워커가 처리합니다.")
+    public ResponseEntity<Void> retryRefund(@PathVariable Long outboxId) {
+        paymentOutboxService.retryRefund(outboxId);
+        return ResponseEntity.noContent().build();
+    }
+}
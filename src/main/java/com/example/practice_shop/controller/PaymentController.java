@@ -1,16 +1,20 @@
 package com.example.practice_shop.controller;
 
+import com.example.practice_shop.dtos.Payment.PaymentConfirmResponse;
 import com.example.practice_shop.dtos.Payment.TossPaymentConfirmRequest;
+import com.example.practice_shop.service.idempotency.IdempotencyService;
 import com.example.practice_shop.service.payment.PaymentProcessorStrategy;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,24 +24,29 @@ import org.springframework.web.bind.annotation.RestController;
 public class PaymentController {
 
     private final List<PaymentProcessorStrategy> paymentProcessors;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 토스 결제 승인
      * @param authentication
+     * @param idempotencyKey 같은 키로 재시도하면 토스 API를 다시 호출하지 않고 처음 결과를 반환 (다른 내용의 요청이면 422)
      * @param request
-     * @return
+     * @return 승인 완료면 200, 승인이 아직 끝나지 않았으면 202 (같은 요청으로 다시 확인)
      */
     @PostMapping("/toss/confirm")
-    @Operation(summary = "토스 결제 승인", description = "토스 결제 성공 후 결제 내역을 검증하고 주문을 확정합니다.")
-    public ResponseEntity<?> confirmTossPayment(Authentication authentication,
-                                                            @Valid @RequestBody TossPaymentConfirmRequest request) {
+    @Operation(summary = "토스 결제 승인", description = "토스 결제 성공 후 결제 내역을 검증하고 주문을 확정합니다. 승인이 지연되면 202와 함께 처리 중 상태를 반환합니다.")
+    public ResponseEntity<PaymentConfirmResponse> confirmTossPayment(Authentication authentication,
+                                                @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                @Valid @RequestBody TossPaymentConfirmRequest request) {
         
         PaymentProcessorStrategy processor = paymentProcessors.stream()
                 .filter(p -> p.supports(request.getOrderId()))
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 주문 유형입니다."));
         
-        processor.process(request);
-        return ResponseEntity.ok("Payment confirmed");
+        // 처리 중(202) 결과는 저장하지 않으므로 같은 키로 다시 확인하면 그때의 결과를 받습니다.
+        PaymentConfirmResponse result = idempotencyService.execute("toss-confirm", authentication.getName(), idempotencyKey, request,
+                PaymentConfirmResponse.class, () -> processor.process(request), PaymentConfirmResponse::isCompleted);
+        return ResponseEntity.status(result.isCompleted() ? HttpStatus.OK : HttpStatus.ACCEPTED).body(result);
     }
 }
@@ -0,0 +1,37 @@
+package com.example.practice_shop.controller;
+
+import com.example.practice_shop.dtos.queue.AdmissionOverrideRequest;
+import com.example.practice_shop.dtos.queue.AdmissionStatusResponse;
+import com.example.practice_shop.service.queue.AdmissionController;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/queue")
+@RequiredArgsConstructor
+public class QueueAdminController {
+
+    private final AdmissionController admissionController;
+
+    @GetMapping("/{eventId}/admission")
+    @Operation(summary = "대기열 입장 속도 조회", description = "이벤트의 틱당 입장 허용 수와 조절에 사용한 예매 경로 상태를 조회합니다.")
+    public ResponseEntity<AdmissionStatusResponse> getAdmission(@PathVariable Long eventId) {
+        return ResponseEntity.ok(admissionController.status(eventId));
+    }
+
+    @PutMapping("/{eventId}/admission")
+    @Operation(summary = "대기열 입장 속도 지정", description = "이벤트의 틱당 입장 허용 수를 고정합니다. perTick을 비우면 자동 조절로 되돌립니다.")
+    public ResponseEntity<AdmissionStatusResponse> overrideAdmission(@PathVariable Long eventId,
+                                                                     @Valid @RequestBody AdmissionOverrideRequest request) {
+        admissionController.override(eventId, request.getPerTick());
+        return ResponseEntity.ok(admissionController.status(eventId));
+    }
+}
@@ -21,20 +21,24 @@ public class QueueController {
 
     /**
      * 대기열 진입/상태 조회 API 컨트롤러.
-     * 프론트는 enter로 토큰을 받고, status를 폴링하며 ready 여부를 확인한다.
+     * 프론트는 enter로 토큰을 받고, /topic/queue/{eventId}(진행 상황)와 /topic/queue/ready/{readyChannel}(입장 허용)을 구독한다.
+     * 입장 허용 후 예매 요청에는 Queue-Token 헤더로 토큰을 보낸다.
+     * status는 재연결 직후 순번을 다시 맞출 때만 호출한다.
      */
     private final QueueService queueService;
 
     @PostMapping("/enter/{eventId}")
-    @Operation(summary = "대기열 진입", description = "대기열 토큰을 발급하고 현재 순번을 반환합니다.")
+    @Operation(summary = "대기열 진입", description = "대기열 토큰을 발급하고 현재 순번을 반환합니다. 로그인 사용자는 회원 등급 레인에 들어갑니다.")
     public ResponseEntity<QueueEnterResponse> enter(@PathVariable Long eventId, @RequestParam(required = false) String userId, Authentication authentication) {
-        String finalUserId = authentication != null ? authentication.getName() : userId;
-        return ResponseEntity.ok(queueService.enter(eventId, finalUserId));
+        String authenticatedEmail = authentication != null ? authentication.getName() : null;
+        String finalUserId = authenticatedEmail != null ? authenticatedEmail : userId;
+        return ResponseEntity.ok(queueService.enter(eventId, finalUserId, authenticatedEmail));
     }
 
     @GetMapping("/status")
-    @Operation(summary = "대기열 상태 조회", description = "토큰으로 대기열 순번과 입장 가능 여부를 확인합니다.")
-    public ResponseEntity<QueueStatusResponse> status(@RequestParam String token) {
-        return ResponseEntity.ok(queueService.status(token));
+    @Operation(summary = "대기열 상태 조회", description = "토큰으로 대기열 순번과 입장 가능 여부를 확인합니다. approximate=true면 대기열을 조회하지 않고 워터마크로 대략적인 순번을 계산합니다.")
+    public ResponseEntity<QueueStatusResponse> status(@RequestParam String token,
+                                                      @RequestParam(defaultValue = "false") boolean approximate) {
+        return ResponseEntity.ok(approximate ? queueService.approximateStatus(token) : queueService.status(token));
     }
 }
@@ -1,14 +1,16 @@
 package com.example.practice_shop.controller;
 
-import com.example.practice_shop.repository.SeatInventoryRepository;
+import com.example.practice_shop.dtos.ticketing.SeatChangesResponse;
 import com.example.practice_shop.service.SeatRealtimeService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,22 +18,43 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class SeatRealtimeController {
 
-    private final SeatInventoryRepository seatInventoryRepository;
     private final SeatRealtimeService seatRealtimeService;
 
     /**
      * 좌석 상태 브로드캐스트
+     * 좌석을 직접 보내지 않고 resync 메시지를 보내, 구독자가 스냅샷을 다시 받게 합니다.
      * @param showtimeId
      * @return
      */
     @PostMapping("/broadcast")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "좌석 상태 브로드캐스트", description = "해당 회차의 좌석 상태를 WebSocket으로 전송합니다.")
+    @Operation(summary = "좌석 상태 브로드캐스트", description = "해당 회차의 구독자와 노드별 좌석 캐시가 전체 좌석 상태를 다시 받도록 resync 메시지를 전송합니다.")
     public ResponseEntity<Void> broadcast(@PathVariable Long showtimeId) {
-        var inventories = seatInventoryRepository.findAll().stream()
-                .filter(inv -> inv.getShowtime() != null && showtimeId.equals(inv.getShowtime().getId()))
-                .toList();
-        seatRealtimeService.broadcastSeatStatuses(showtimeId, inventories);
+        seatRealtimeService.requestResync(showtimeId);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * 좌석 스냅샷
+     * @param showtimeId
+     * @return
+     */
+    @GetMapping
+    @Operation(summary = "좌석 스냅샷", description = "회차 전체 좌석 상태와 일련번호를 반환합니다. 이후에는 /topic/seat/{showtimeId}에서 이 seq보다 큰 메시지만 적용하면 됩니다.")
+    public ResponseEntity<SeatChangesResponse> snapshot(@PathVariable Long showtimeId) {
+        return ResponseEntity.ok(seatRealtimeService.snapshot(showtimeId));
+    }
+
+    /**
+     * 좌석 변경 따라잡기
+     * @param showtimeId
+     * @param since 마지막으로 받은 메시지의 seq (없으면 전체 스냅샷)
+     * @return
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "좌석 변경 따라잡기", description = "since 이후의 좌석 변경을 좌석별 마지막 상태로 합쳐 반환합니다. 보관 구간보다 오래되었으면 전체 스냅샷을 반환합니다.")
+    public ResponseEntity<SeatChangesResponse> changes(@PathVariable Long showtimeId,
+                                                       @RequestParam(required = false) Long since) {
+        return ResponseEntity.ok(seatRealtimeService.changesSince(showtimeId, since));
+    }
 }
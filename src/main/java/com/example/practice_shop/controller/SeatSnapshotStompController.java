@@ -0,0 +1,26 @@
+package com.example.practice_shop.controller;
+
+import com.example.practice_shop.dtos.ticketing.SeatChangesResponse;
+import com.example.practice_shop.service.SeatRealtimeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class SeatSnapshotStompController {
+
+    private final SeatRealtimeService seatRealtimeService;
+
+    /**
+     * 구독 시점 좌석 스냅샷
+     * /app/seat/{showtimeId}를 구독하면 스냅샷을 한 번 응답하고, 이후 변경은 /topic/seat/{showtimeId}로 받습니다.
+     * @param showtimeId
+     * @return
+     */
+    @SubscribeMapping("/seat/{showtimeId}")
+    public SeatChangesResponse snapshot(@DestinationVariable Long showtimeId) {
+        return seatRealtimeService.snapshot(showtimeId);
+    }
+}
@@ -1,8 +1,17 @@
 package com.example.practice_shop.controller;
 
+import com.example.practice_shop.dtos.common.CursorPageResponse;
+import com.example.practice_shop.dtos.ticketing.BestAvailableRequest;
 import com.example.practice_shop.dtos.ticketing.ReservationResponse;
+import com.example.practice_shop.dtos.ticketing.SeatHoldResponse;
 import com.example.practice_shop.dtos.ticketing.SeatSelectionRequest;
+import com.example.practice_shop.security.QueueTokenFilter;
 import com.example.practice_shop.service.TicketingService;
+import com.example.practice_shop.service.idempotency.IdempotencyService;
+import com.example.practice_shop.service.queue.QueueAdmissionGuard;
+import com.example.practice_shop.service.queue.QueueToken;
+import com.example.practice_shop.service.seat.BestAvailableSeatAllocator;
+import com.example.practice_shop.service.seat.SeatHoldService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +20,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -23,22 +35,71 @@ import java.util.List;
 public class TicketingController {
 
     private final TicketingService ticketingService;
+    private final SeatHoldService seatHoldService;
+    private final BestAvailableSeatAllocator bestAvailableSeatAllocator;
+    private final IdempotencyService idempotencyService;
+    private final QueueAdmissionGuard queueAdmissionGuard;
 
     /**
      * 좌석 선택 및 예매 생성
      * @param authentication
+     * @param idempotencyKey 같은 키로 재시도하면 처음 생성된 예매를 그대로 반환 (다른 내용의 요청이면 422)
+     * @param admittedEventId QueueTokenFilter가 검증한 대기열 토큰의 이벤트 ID
+     * @param admittedToken QueueTokenFilter가 서명을 확인한 대기열 토큰 (처음 처리할 때만 사용 처리)
      * @param request
      * @return
      */
     @PostMapping("/reserve")
     @Operation(summary = "좌석 선택 및 예매 생성", description = "선택한 좌석으로 예매를 생성하고 결제 전 단계까지 진행합니다.")
     public ResponseEntity<ReservationResponse> reserveSeats(Authentication authentication,
+                                                            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                            @RequestAttribute(name = QueueTokenFilter.ADMITTED_EVENT_ID, required = false) Long admittedEventId,
+                                                            @RequestAttribute(name = QueueTokenFilter.ADMITTED_TOKEN, required = false) QueueToken admittedToken,
                                                             @Valid @RequestBody SeatSelectionRequest request) {
+        queueAdmissionGuard.checkShowtime(admittedEventId, request.getShowtimeId());
         String email = authentication.getName();
-        ReservationResponse reservation = ticketingService.createReservation(email, request);
+        // 토큰 사용 처리를 멱등 처리 안에서 하므로, 같은 키의 재시도는 사용한 토큰으로도 처음 예매를 돌려받습니다.
+        ReservationResponse reservation = idempotencyService.execute("reserve", email, idempotencyKey, request, ReservationResponse.class,
+                () -> queueAdmissionGuard.admit(admittedToken, () -> ticketingService.createReservation(email, request)));
         return ResponseEntity.ok(reservation);
     }
 
+    /**
+     * 연속 좌석 자동 배정 및 예매 생성
+     * @param authentication
+     * @param admittedEventId QueueTokenFilter가 검증한 대기열 토큰의 이벤트 ID
+     * @param admittedToken QueueTokenFilter가 서명을 확인한 대기열 토큰
+     * @param request
+     * @return
+     */
+    @PostMapping("/reserve/best-available")
+    @Operation(summary = "연속 좌석 자동 배정 예매", description = "구역/가격 조건에 맞는 연속 좌석 N석을 자동으로 배정해 예매를 생성합니다.")
+    public ResponseEntity<ReservationResponse> reserveBestAvailable(Authentication authentication,
+                                                                    @RequestAttribute(name = QueueTokenFilter.ADMITTED_EVENT_ID, required = false) Long admittedEventId,
+                                                                    @RequestAttribute(name = QueueTokenFilter.ADMITTED_TOKEN, required = false) QueueToken admittedToken,
+                                                                    @Valid @RequestBody BestAvailableRequest request) {
+        queueAdmissionGuard.checkShowtime(admittedEventId, request.getShowtimeId());
+        String email = authentication.getName();
+        return ResponseEntity.ok(queueAdmissionGuard.admit(admittedToken, () -> bestAvailableSeatAllocator.reserve(email, request)));
+    }
+
+    /**
+     * 좌석 임시 선점
+     * @param authentication
+     * @param admittedEventId QueueTokenFilter가 검증한 대기열 토큰의 이벤트 ID
+     * @param request
+     * @return
+     */
+    @PostMapping("/hold")
+    @Operation(summary = "좌석 임시 선점", description = "선택한 좌석을 일정 시간 동안 선점합니다. 만료 전에 fromHold=true로 예매해야 합니다.")
+    public ResponseEntity<SeatHoldResponse> holdSeats(Authentication authentication,
+                                                      @RequestAttribute(name = QueueTokenFilter.ADMITTED_EVENT_ID, required = false) Long admittedEventId,
+                                                      @Valid @RequestBody SeatSelectionRequest request) {
+        queueAdmissionGuard.checkShowtime(admittedEventId, request.getShowtimeId());
+        String email = authentication.getName();
+        return ResponseEntity.ok(seatHoldService.hold(email, request));
+    }
+
     /**
      * 내 예매 내역 조회
      * @param authentication
@@ -51,6 +112,22 @@ public class TicketingController {
         return ResponseEntity.ok(ticketingService.getUserReservations(email));
     }
 
+    /**
+     * 내 예매 내역 페이지 조회 (커서 기반)
+     * @param authentication
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size 페이지 크기
+     * @return
+     */
+    @GetMapping("/reservations/page")
+    @Operation(summary = "내 예매 내역 페이지 조회", description = "사용자의 예매 내역을 최신순으로 커서 기반 페이지 단위로 조회합니다.")
+    public ResponseEntity<CursorPageResponse<ReservationResponse>> getMyReservationPage(Authentication authentication,
+                                                                                     @RequestParam(required = false) Long cursor,
+                                                                                     @RequestParam(defaultValue = "20") int size) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(ticketingService.getUserReservationPage(email, cursor, size));
+    }
+
     /**
      * 예매 취소
      * @param authentication
@@ -0,0 +1,21 @@
+package com.example.practice_shop.dtos.Payment;
+
+import com.example.practice_shop.constant.ReservationStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+public class PaymentConfirmResponse {
+    private String orderId;
+    private ReservationStatus status; // PAID면 승인 완료(200), PAYMENT_IN_PROGRESS면 승인 처리 중(202, 같은 요청으로 다시 확인)
+    private String message;
+
+    @JsonIgnore
+    public boolean isCompleted() {
+        return status != ReservationStatus.PAYMENT_IN_PROGRESS;
+    }
+}
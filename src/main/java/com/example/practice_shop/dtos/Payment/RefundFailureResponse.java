@@ -0,0 +1,17 @@
+package com.example.practice_shop.dtos.Payment;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RefundFailureResponse {
+    private Long outboxId;
+    private Long reservationId;
+    private String orderId;
+    private String paymentKey;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime failedAt;
+}
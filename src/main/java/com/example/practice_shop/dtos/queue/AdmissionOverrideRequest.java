@@ -0,0 +1,16 @@
+package com.example.practice_shop.dtos.queue;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionOverrideRequest {
+    @Min(value = 0, message = "허용 수는 0 이상이어야 합니다.")
+    private Integer perTick; // 비우면 자동 조절로 되돌립니다.
+}
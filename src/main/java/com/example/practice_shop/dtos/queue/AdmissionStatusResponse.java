@@ -0,0 +1,21 @@
+package com.example.practice_shop.dtos.queue;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class AdmissionStatusResponse {
+    private Long eventId;
+    private boolean automatic;         // false면 관리자가 지정한 고정 허용 수 사용
+    private int ratePerTick;           // 자동 조절된 틱당 허용 수
+    private Integer overridePerTick;   // 관리자가 지정한 틱당 허용 수
+    private int lastBatch;             // 직전 틱에 허용하려던 수
+    private long lastAdmitted;         // 직전 틱에 실제로 허용한 수
+    private long readyCount;           // 입장 허용 후 아직 만료되지 않은 토큰 수
+    private long reservationP99Millis;
+    private double poolUtilization;
+    private int lockWaiters;
+}
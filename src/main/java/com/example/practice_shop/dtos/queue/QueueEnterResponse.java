@@ -1,5 +1,6 @@
 package com.example.practice_shop.dtos.queue;
 
+import com.example.practice_shop.constant.UserGrade;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,5 +10,8 @@ import lombok.Getter;
 @AllArgsConstructor
 public class QueueEnterResponse {
     private String token;
+    private UserGrade lane; // 대기열 레인 (회원 등급), position/admittedTotal은 레인 기준
     private long position;
+    private String readyChannel; // 입장 허용 알림 채널 (/topic/queue/ready/{readyChannel})
+    private long admittedTotal; // 진입 시점의 누적 입장 허용 수 (/topic/queue/{eventId} 진행 메시지와 비교해 순번 계산)
 }
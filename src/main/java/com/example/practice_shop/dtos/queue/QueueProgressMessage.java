@@ -0,0 +1,30 @@
+package com.example.practice_shop.dtos.queue;
+
+import com.example.practice_shop.constant.UserGrade;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * 이벤트 대기열 진행 상황 메시지입니다. (/topic/queue/{eventId})
+ * 클라이언트는 자기 레인의 값을 진입 시 받은 position, admittedTotal과 비교해 순번을 계산합니다.
+ * 현재 순번 = 진입 시 position - (admittedTotal - 진입 시 admittedTotal)
+ */
+@Getter
+@Builder
+@Jacksonized
+public class QueueProgressMessage {
+    private Long eventId;
+    private List<LaneProgress> lanes;
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class LaneProgress {
+        private UserGrade lane;
+        private long admittedTotal;        // 레인 누적 입장 허용 수
+        private long waiting;              // 레인 대기 인원
+        private double admitRatePerSecond; // 레인 최근 초당 입장 허용 수 (예상 대기 시간 = 순번 / 이 값)
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.practice_shop.dtos.queue;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * 입장 허용 메시지입니다. (/topic/queue/ready/{readyChannel})
+ */
+@Getter
+@Builder
+@Jacksonized
+public class QueueReadyMessage {
+    private Long eventId;
+    private boolean ready;
+    private long readyExpiresAt; // 입장 허용 만료 시각 (epoch ms)
+}
@@ -1,5 +1,6 @@
 package com.example.practice_shop.dtos.queue;
 
+import com.example.practice_shop.constant.UserGrade;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,5 +10,9 @@ import lombok.Getter;
 @AllArgsConstructor
 public class QueueStatusResponse {
     private boolean ready;
+    private UserGrade lane; // 대기열 레인 (회원 등급), position/admittedTotal은 레인 기준
     private long position;
+    private long admittedTotal; // 조회 시점의 누적 입장 허용 수 (푸시 메시지로 계산한 순번을 다시 맞출 때 사용)
+    private long etaSeconds;    // 예상 대기 시간(초), 알 수 없으면 -1
+    private boolean approximate; // 워터마크로 계산한 대략적인 순번이면 true
 }
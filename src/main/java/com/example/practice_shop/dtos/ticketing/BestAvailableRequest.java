@@ -0,0 +1,27 @@
+package com.example.practice_shop.dtos.ticketing;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BestAvailableRequest {
+    @NotNull(message = "회차 ID는 필수입니다.")
+    private Long showtimeId;
+
+    @NotNull(message = "좌석 수는 필수입니다.")
+    @Min(value = 1, message = "좌석은 1석 이상 요청해야 합니다.")
+    @Max(value = 10, message = "좌석은 최대 10석까지 요청할 수 있습니다.")
+    private Integer quantity;
+
+    private String sectionName; // 비어 있으면 모든 구역
+    private BigDecimal price;   // 비어 있으면 모든 가격대
+}
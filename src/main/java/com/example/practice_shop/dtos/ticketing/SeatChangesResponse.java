@@ -0,0 +1,14 @@
+package com.example.practice_shop.dtos.ticketing;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SeatChangesResponse {
+    private Long showtimeId;
+    private long seq;          // 이 응답까지 반영된 일련번호. 이후에는 seq보다 큰 메시지만 적용하면 됩니다.
+    private boolean snapshot;  // true면 seats가 회차 전체 좌석(요청한 구간이 너무 오래되어 전체 스냅샷으로 대신함)
+    private List<SeatStatusMessage.SeatStatusItem> seats;
+}
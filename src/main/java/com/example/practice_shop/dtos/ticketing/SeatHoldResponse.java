@@ -0,0 +1,14 @@
+package com.example.practice_shop.dtos.ticketing;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SeatHoldResponse {
+    private Long showtimeId;
+    private List<Long> seatIds;
+    private LocalDateTime holdExpiresAt; // 이 시각까지 예매하지 않으면 좌석이 자동 반환됩니다.
+}
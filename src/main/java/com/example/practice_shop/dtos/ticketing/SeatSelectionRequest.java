@@ -15,4 +15,9 @@ public class SeatSelectionRequest {
 
     @NotEmpty(message = "좌석을 하나 이상 선택해야 합니다.")
     private List<Long> seatIds;
+
+    /**
+     * true이면 본인이 선점(HOLD)한 좌석을 예매로 전환합니다.
+     */
+    private Boolean fromHold;
 }
\ No newline at end of file
@@ -5,15 +5,20 @@ import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class SeatStatusMessage {
     private Long showtimeId;
+    private long seq; // 회차별로 1씩 증가 (모든 노드 공통). 받은 seq가 직전 seq + 1이 아니면 /changes?since=직전 seq로 따라잡습니다.
+    private boolean resync; // true면 변경 내용이 너무 많아 버려졌으므로 /changes로 스냅샷을 다시 받아야 합니다.
     private List<SeatStatusItem> seats;
 
     @Getter
     @Builder
+    @Jacksonized
     public static class SeatStatusItem {
         private Long seatInventoryId;
         private Long seatId;
@@ -1,5 +1,6 @@
 package com.example.practice_shop.dtos.ticketing;
 
+import com.example.practice_shop.constant.SeatClaimMode;
 import com.example.practice_shop.constant.ShowtimeStatus;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
@@ -26,4 +27,5 @@ public class ShowtimeRequest {
     private LocalDateTime salesCloseAt;
     private Integer capacity;
     private ShowtimeStatus status;
+    private SeatClaimMode seatClaimMode;
 }
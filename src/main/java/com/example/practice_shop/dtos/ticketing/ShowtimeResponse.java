@@ -1,5 +1,6 @@
 package com.example.practice_shop.dtos.ticketing;
 
+import com.example.practice_shop.constant.SeatClaimMode;
 import com.example.practice_shop.constant.ShowtimeStatus;
 import java.time.LocalDateTime;
 import lombok.Builder;
@@ -19,4 +20,5 @@ public class ShowtimeResponse {
     private LocalDateTime salesCloseAt;
     private Integer capacity;
     private ShowtimeStatus status;
+    private SeatClaimMode seatClaimMode;
 }
@@ -0,0 +1,76 @@
+package com.example.practice_shop.entity;
+
+import com.example.practice_shop.constant.PaymentOutboxStatus;
+import com.example.practice_shop.constant.PaymentOutboxType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * PG 호출 의도를 기록하는 아웃박스입니다.
+ * 예약/결제 변경과 같은 트랜잭션에서 저장되고, 커밋 후 트랜잭션 밖에서 PG를 호출합니다.
+ */
+@Entity
+@Table(name = "payment_outbox", indexes = {
+        @Index(name = "idx_payment_outbox_status_next_attempt_at", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "payment_outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentOutboxType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentOutboxStatus status;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(nullable = false)
+    private String orderId;
+
+    @Column(nullable = false)
+    private String paymentKey;
+
+    private Long amount;
+
+    private String cancelReason;
+
+    /**
+     * 실패한 PG 호출 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 이 시각 이후에 워커가 PG 호출을 (재)시도합니다.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+}
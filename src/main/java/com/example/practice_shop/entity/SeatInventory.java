@@ -8,9 +8,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -20,7 +22,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "seat_inventory")
+@Table(name = "seat_inventory", indexes = {
+        @Index(name = "idx_seat_inventory_status_hold_expires_at", columnList = "status, hold_expires_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -53,4 +57,17 @@ public class SeatInventory extends BaseTimeEntity {
     private SeatStatus status;
 
     private LocalDateTime holdExpiresAt;
+
+    /**
+     * 좌석을 선점(HOLD)한 사용자 ID
+     */
+    @Column(name = "hold_user_id")
+    private Long holdUserId;
+
+    /**
+     * 낙관적 락 버전 (벌크 UPDATE도 함께 증가시킵니다)
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
 }
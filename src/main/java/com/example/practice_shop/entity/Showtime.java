@@ -1,5 +1,6 @@
 package com.example.practice_shop.entity;
 
+import com.example.practice_shop.constant.SeatClaimMode;
 import com.example.practice_shop.constant.ShowtimeStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -56,7 +57,23 @@ public class Showtime extends BaseTimeEntity {
     @Column(nullable = false)
     private ShowtimeStatus status;
 
+    /**
+     * 좌석 선점 방식 (경쟁이 심한 회차는 REDIS_SCRIPT 권장)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "seat_claim_mode")
+    @Builder.Default
+    private SeatClaimMode seatClaimMode = SeatClaimMode.CONDITIONAL_UPDATE;
+
     @Builder.Default
     @OneToMany(mappedBy = "showtime")
     private List<SeatInventory> seatInventories = new ArrayList<>();
+
+    /**
+     * 좌석 선점 방식을 반환합니다. 값이 없는 기존 회차는 조건부 UPDATE 방식으로 동작합니다.
+     * @return 좌석 선점 방식
+     */
+    public SeatClaimMode getSeatClaimMode() {
+        return seatClaimMode != null ? seatClaimMode : SeatClaimMode.CONDITIONAL_UPDATE;
+    }
 }
@@ -12,6 +12,9 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C001", "유효하지 않은 입력 값입니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "C002", "허용되지 않은 메소드입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C003", "서버 내부 오류입니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "C004", "다른 요청과 동시에 변경되었습니다. 다시 시도해주세요."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "C005", "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "C006", "같은 멱등키로 다른 내용의 요청을 보냈습니다."),
 
     // User
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "사용자를 찾을 수 없습니다."),
@@ -26,6 +29,20 @@ public enum ErrorCode {
     RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "T004", "예매 정보를 찾을 수 없습니다."),
     ALREADY_CANCELLED_RESERVATION(HttpStatus.BAD_REQUEST, "T005", "이미 취소된 예매입니다."),
     INVALID_PAYMENT_AMOUNT(HttpStatus.BAD_REQUEST, "T006", "결제 금액이 일치하지 않습니다."),
+    SEAT_NOT_HELD(HttpStatus.CONFLICT, "T007", "선점하지 않은 좌석입니다."),
+    SEAT_HOLD_EXPIRED(HttpStatus.CONFLICT, "T008", "좌석 선점 시간이 만료되었습니다."),
+    INVALID_RESERVATION_STATUS(HttpStatus.CONFLICT, "T009", "결제할 수 없는 예매 상태입니다."),
+    CONTIGUOUS_SEATS_NOT_AVAILABLE(HttpStatus.CONFLICT, "T010", "조건에 맞는 연속 좌석이 없습니다."),
+    SEQUENCER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "T011", "예매 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "T012", "결제 승인에 실패했습니다."),
+    PAYMENT_PROCESSING(HttpStatus.CONFLICT, "T013", "결제 승인을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    REFUND_NOT_FAILED(HttpStatus.CONFLICT, "T014", "재시도할 수 있는 실패한 환불이 아닙니다."),
+
+    // Queue
+    INVALID_QUEUE_TOKEN(HttpStatus.FORBIDDEN, "Q001", "유효한 대기열 토큰이 필요합니다."),
+    QUEUE_NOT_ADMITTED(HttpStatus.FORBIDDEN, "Q002", "아직 입장 순서가 아니거나 입장 시간이 만료되었습니다."),
+    QUEUE_EVENT_MISMATCH(HttpStatus.FORBIDDEN, "Q003", "다른 공연의 대기열 토큰입니다."),
+    QUEUE_TOKEN_IN_USE(HttpStatus.CONFLICT, "Q004", "같은 대기열 토큰으로 처리 중인 예매가 있습니다."),
 
     // Product
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "상품을 찾을 수 없습니다."),
@@ -3,6 +3,7 @@ package com.example.practice_shop.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -56,6 +57,17 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(ErrorCode.INVALID_INPUT_VALUE, e.getMessage()));
     }
 
+    /**
+     * 낙관적 락(@Version) 충돌을 처리합니다.
+     * 같은 행을 다른 트랜잭션이 먼저 변경한 경우 (409 Conflict)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    protected ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        log.warn("handleOptimisticLockingFailure: {}", e.getMessage());
+        return ResponseEntity.status(ErrorCode.CONCURRENT_MODIFICATION.getStatus())
+                .body(new ErrorResponse(ErrorCode.CONCURRENT_MODIFICATION));
+    }
+
     /**
      * 예상치 못한 모든 Exception을 처리합니다.
      * 서버 내부 오류 (500 Internal Server Error)
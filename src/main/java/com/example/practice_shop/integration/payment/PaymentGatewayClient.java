@@ -0,0 +1,24 @@
+package com.example.practice_shop.integration.payment;
+
+import com.example.practice_shop.dtos.Payment.TossPaymentConfirmRequest;
+import com.example.practice_shop.dtos.Payment.TossPaymentConfirmResponse;
+
+public interface PaymentGatewayClient {
+    /**
+     * 결제 승인을 요청합니다.
+     * @param request 결제 승인 요청 정보
+     * @param idempotencyKey 재시도해도 한 번만 승인되도록 PG에 전달하는 멱등키
+     * @return 결제 승인 응답 정보
+     * @throws PaymentGatewayException PG 호출 실패
+     */
+    TossPaymentConfirmResponse confirm(TossPaymentConfirmRequest request, String idempotencyKey);
+
+    /**
+     * 결제 취소(환불)를 요청합니다.
+     * @param paymentKey 결제 키
+     * @param cancelReason 취소 사유
+     * @param idempotencyKey 재시도해도 한 번만 취소되도록 PG에 전달하는 멱등키
+     * @throws PaymentGatewayException PG 호출 실패
+     */
+    void cancel(String paymentKey, String cancelReason, String idempotencyKey);
+}
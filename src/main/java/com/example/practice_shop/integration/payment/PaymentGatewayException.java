@@ -0,0 +1,18 @@
+package com.example.practice_shop.integration.payment;
+
+import lombok.Getter;
+
+/**
+ * PG 호출 실패를 나타냅니다. retryable이 true이면 같은 요청을 다시 보내 성공할 수 있는 실패입니다.
+ * (네트워크 오류, 5xx, 429 등)
+ */
+@Getter
+public class PaymentGatewayException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public PaymentGatewayException(String message, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.practice_shop.integration.payment;
+
+import com.example.practice_shop.dtos.Payment.TossPaymentConfirmRequest;
+import com.example.practice_shop.dtos.Payment.TossPaymentConfirmResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬/테스트용 PG입니다. (payment.gateway=stub)
+ * 외부 호출 없이 승인/취소를 성공 처리하며, 결제 키가 "fail-"로 시작하면 재시도 불가 실패를,
+ * "retry-"로 시작하면 재시도 가능 실패를 흉내 냅니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.gateway", havingValue = "stub")
+public class StubPaymentGatewayClient implements PaymentGatewayClient {
+
+    @Override
+    public TossPaymentConfirmResponse confirm(TossPaymentConfirmRequest request, String idempotencyKey) {
+        simulateFailure(request.getPaymentKey());
+        log.info("[stub-pg] confirm orderId={} amount={} key={}", request.getOrderId(), request.getAmount(), idempotencyKey);
+        return new TossPaymentConfirmResponse();
+    }
+
+    @Override
+    public void cancel(String paymentKey, String cancelReason, String idempotencyKey) {
+        simulateFailure(paymentKey);
+        log.info("[stub-pg] cancel paymentKey={} reason={} key={}", paymentKey, cancelReason, idempotencyKey);
+    }
+
+    private void simulateFailure(String paymentKey) {
+        if (paymentKey.startsWith("fail-")) {
+            throw new PaymentGatewayException("stub PG rejected " + paymentKey, false, null);
+        }
+        if (paymentKey.startsWith("retry-")) {
+            throw new PaymentGatewayException("stub PG unavailable", true, null);
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.example.practice_shop.integration.toss;
 
 import com.example.practice_shop.dtos.Payment.TossPaymentConfirmRequest;
 import com.example.practice_shop.dtos.Payment.TossPaymentConfirmResponse;
+import com.example.practice_shop.integration.payment.PaymentGatewayClient;
+import com.example.practice_shop.integration.payment.PaymentGatewayException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -11,6 +14,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
@@ -18,7 +22,8 @@ import java.util.Base64;
 
 @Component
 @RequiredArgsConstructor
-public class TossPaymentClient {
+@ConditionalOnProperty(name = "payment.gateway", havingValue = "toss", matchIfMissing = true)
+public class TossPaymentClient implements PaymentGatewayClient {
     /**
      * HTTP 통신을 위한 RestTemplate
      */
@@ -39,16 +44,16 @@ public class TossPaymentClient {
     /**
      * 토스 결제 승인 요청
      * @param request 결제 승인 요청 정보
+     * @param idempotencyKey 토스 멱등키 (같은 키로 재시도하면 토스가 처음 결과를 반환)
      * @return 결제 승인 응답 정보
      */
-    public TossPaymentConfirmResponse confirmPayment(TossPaymentConfirmRequest request) {
+    @Override
+    public TossPaymentConfirmResponse confirm(TossPaymentConfirmRequest request, String idempotencyKey) {
         if (secretKey == null || secretKey.isBlank()) {
             throw new IllegalStateException("토스 시크릿 키가 설정되지 않았습니다.");
         }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.add(HttpHeaders.AUTHORIZATION, buildBasicAuthHeader());
+        HttpHeaders headers = buildHeaders(idempotencyKey);
 
         HttpEntity<TossPaymentConfirmRequest> entity = new HttpEntity<>(request, headers);
         try {
@@ -60,7 +65,9 @@ public class TossPaymentClient {
             );
             return response.getBody();
         } catch (HttpStatusCodeException ex) {
-            throw new IllegalStateException("토스 결제 승인 실패: " + ex.getResponseBodyAsString(), ex);
+            throw new PaymentGatewayException("토스 결제 승인 실패: " + ex.getResponseBodyAsString(), isRetryable(ex), ex);
+        } catch (ResourceAccessException ex) {
+            throw new PaymentGatewayException("토스 결제 승인 요청 실패: " + ex.getMessage(), true, ex);
         }
     }
 
@@ -68,15 +75,15 @@ public class TossPaymentClient {
      * 토스 결제 취소 요청
      * @param paymentKey 결제 키
      * @param cancelReason 취소 사유
+     * @param idempotencyKey 토스 멱등키 (같은 키로 재시도하면 토스가 처음 결과를 반환)
      */
-    public void cancelPayment(String paymentKey, String cancelReason) {
+    @Override
+    public void cancel(String paymentKey, String cancelReason, String idempotencyKey) {
         if (secretKey == null || secretKey.isBlank()) {
             throw new IllegalStateException("토스 시크릿 키가 설정되지 않았습니다.");
         }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.add(HttpHeaders.AUTHORIZATION, buildBasicAuthHeader());
+        HttpHeaders headers = buildHeaders(idempotencyKey);
 
         String url = "https://api.tosspayments.com/v1/payments/" + paymentKey + "/cancel";
         String body = String.format("{\"cancelReason\": \"%s\"}", cancelReason);
@@ -85,10 +92,34 @@ public class TossPaymentClient {
         try {
             restTemplate.postForEntity(url, entity, String.class);
         } catch (HttpStatusCodeException ex) {
-            throw new IllegalStateException("토스 결제 취소 실패: " + ex.getResponseBodyAsString(), ex);
+            throw new PaymentGatewayException("토스 결제 취소 실패: " + ex.getResponseBodyAsString(), isRetryable(ex), ex);
+        } catch (ResourceAccessException ex) {
+            throw new PaymentGatewayException("토스 결제 취소 요청 실패: " + ex.getMessage(), true, ex);
         }
     }
 
+    /**
+     * 공통 요청 헤더 생성
+     * @param idempotencyKey 토스 멱등키
+     * @return
+     */
+    private HttpHeaders buildHeaders(String idempotencyKey) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.add(HttpHeaders.AUTHORIZATION, buildBasicAuthHeader());
+        headers.add("Idempotency-Key", idempotencyKey);
+        return headers;
+    }
+
+    /**
+     * 서버 오류와 요청 한도 초과는 다시 보내면 성공할 수 있습니다.
+     * @param ex
+     * @return
+     */
+    private boolean isRetryable(HttpStatusCodeException ex) {
+        return ex.getStatusCode().is5xxServerError() || ex.getStatusCode().value() == 429;
+    }
+
     /**
      * Basic Auth 헤더 생성
      * @return
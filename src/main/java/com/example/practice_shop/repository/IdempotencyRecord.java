@@ -0,0 +1,13 @@
+package com.example.practice_shop.repository;
+
+/**
+ * 멱등키에 저장된 처리 상태입니다.
+ * @param fingerprint 처음 요청한 본문의 해시 (같은 키로 다른 요청이 오면 거절하기 위해 보관)
+ * @param result 직렬화된 응답 (처리 중이면 null)
+ */
+public record IdempotencyRecord(String fingerprint, String result) {
+
+    public boolean isCompleted() {
+        return result != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.practice_shop.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IdempotencyRepository {
+    boolean tryBegin(String key, String fingerprint, Duration ttl);
+    Optional<IdempotencyRecord> find(String key);
+    void complete(String key, String fingerprint, String result, Duration ttl);
+    void remove(String key);
+}
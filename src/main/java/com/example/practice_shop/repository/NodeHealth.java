@@ -0,0 +1,12 @@
+package com.example.practice_shop.repository;
+
+/**
+ * 노드 하나가 보고한 예매 경로 상태입니다.
+ * @param nodeId 보고한 노드 ID
+ * @param reservationP99Millis 그 노드의 최근 예매 요청 p99 처리 시간(ms)
+ * @param poolUtilization 그 노드의 DB 커넥션 풀 사용률 (0.0 ~ 1.0)
+ * @param lockWaiters DB에서 잠금을 기다리는 세션 수
+ * @param reportedAt 보고 시각 (epoch ms)
+ */
+public record NodeHealth(String nodeId, long reservationP99Millis, double poolUtilization, int lockWaiters, long reportedAt) {
+}
@@ -0,0 +1,32 @@
+package com.example.practice_shop.repository;
+
+import com.example.practice_shop.constant.PaymentOutboxStatus;
+import com.example.practice_shop.constant.PaymentOutboxType;
+import com.example.practice_shop.entity.PaymentOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from PaymentOutbox o where o.id = :id")
+    Optional<PaymentOutbox> findByIdWithLock(Long id);
+
+    /**
+     * 시도할 시각이 된 아웃박스를 잠금과 함께 조회합니다. 다른 노드가 잡고 있는 행은 건너뜁니다. (SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from PaymentOutbox o where o.status = :status and o.nextAttemptAt <= :now order by o.nextAttemptAt")
+    List<PaymentOutbox> findDueWithLock(PaymentOutboxStatus status, LocalDateTime now, Pageable pageable);
+
+    List<PaymentOutbox> findByTypeAndStatusOrderByIdDesc(PaymentOutboxType type, PaymentOutboxStatus status);
+}
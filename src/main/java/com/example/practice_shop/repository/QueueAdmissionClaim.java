@@ -0,0 +1,10 @@
+package com.example.practice_shop.repository;
+
+/**
+ * 입장 허용 토큰으로 예매를 시작할 때의 결과입니다.
+ */
+public enum QueueAdmissionClaim {
+    CLAIMED,   // 이 요청이 토큰을 사용 중으로 잡음
+    IN_USE,    // 같은 토큰으로 처리 중인 다른 예매 요청이 있음
+    NOT_READY  // 입장 허용되지 않았거나, 만료되었거나, 이미 사용됨
+}
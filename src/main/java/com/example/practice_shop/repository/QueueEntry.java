@@ -0,0 +1,10 @@
+package com.example.practice_shop.repository;
+
+/**
+ * 대기열 진입 결과입니다.
+ * @param rank 0부터 시작하는 순번
+ * @param admittedTotal 진입 시점까지 레인에서 입장 허용된 누적 토큰 수
+ * @param seq 레인 안에서 진입 순서대로 매긴 일련번호 (레인 대기열의 member와 score)
+ */
+public record QueueEntry(long rank, long admittedTotal, long seq) {
+}
@@ -0,0 +1,13 @@
+package com.example.practice_shop.repository;
+
+import com.example.practice_shop.constant.UserGrade;
+
+/**
+ * 레인별 대기열 진행 상황입니다.
+ * @param lane 레인 (회원 등급)
+ * @param admittedTotal 레인 누적 입장 허용 수
+ * @param waiting 레인 대기 인원
+ * @param ratePerSecond 레인 최근 초당 입장 허용 수 (지수 이동 평균)
+ */
+public record QueueLaneProgress(UserGrade lane, long admittedTotal, long waiting, double ratePerSecond) {
+}
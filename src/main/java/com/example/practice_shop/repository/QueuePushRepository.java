@@ -0,0 +1,7 @@
+package com.example.practice_shop.repository;
+
+public interface QueuePushRepository {
+    String CHANNEL = "queue:push";
+
+    void publish(String payload);
+}
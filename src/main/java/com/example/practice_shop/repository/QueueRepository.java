@@ -1,17 +1,31 @@
 package com.example.practice_shop.repository;
 
+import com.example.practice_shop.constant.UserGrade;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 public interface QueueRepository {
-    void addToQueue(Long eventId, String token, long score);
-    void saveTokenMeta(String token, Map<String, String> meta);
-    Long getRank(Long eventId, String token);
-    Map<Object, Object> getTokenMeta(String token);
-    boolean isReady(Long eventId, String token);
-    Set<String> getTokensInRange(Long eventId, long start, long end);
-    void removeFromQueue(Long eventId, String token);
-    void markReady(Long eventId, String token, Duration ttl);
-    Set<String> scanQueueKeys(int count);
+    QueueEntry enter(Long eventId, UserGrade lane, Duration ttl);
+    Long getRank(Long eventId, UserGrade lane, long seq);
+    boolean isReady(Long eventId, UserGrade lane, long seq);
+    QueueAdmissionClaim claimAdmission(Long eventId, UserGrade lane, long seq, Duration lockTtl);
+    void releaseAdmission(Long eventId, UserGrade lane, long seq, boolean consume);
+    void removeFromQueue(Long eventId, UserGrade lane, long seq);
+    List<String> admitBatch(Long eventId, String nodeId, int count, Map<UserGrade, Integer> laneWeights, Duration ttl, Duration counterTtl);
+    long getAdmittedTotal(Long eventId, UserGrade lane);
+    List<QueueLaneProgress> getProgress(Long eventId);
+    QueueWatermark getWatermark(Long eventId, UserGrade lane);
+    long countReady(Long eventId);
+    Set<Long> findActiveEventIds();
+    boolean acquireOwnership(Long eventId, String nodeId, Duration lease);
+    void releaseOwnership(Long eventId, String nodeId);
+    void heartbeat(String nodeId, long now, long expireBefore);
+    Set<String> findLiveNodes(long aliveSince);
+    void removeNode(String nodeId);
+    void reportHealth(NodeHealth health);
+    List<NodeHealth> findHealth(long reportedSince);
+    Integer getAdmissionOverride(Long eventId);
+    void setAdmissionOverride(Long eventId, Integer perTick);
 }
@@ -0,0 +1,11 @@
+package com.example.practice_shop.repository;
+
+/**
+ * 레인 대기열의 입장 허용 워터마크입니다.
+ * @param seq 마지막으로 입장 허용한 토큰의 일련번호 (이 값 이하는 모두 입장 허용됨)
+ * @param ratePerSecond 최근 초당 입장 허용 수 (지수 이동 평균)
+ */
+public record QueueWatermark(long seq, double ratePerSecond) {
+
+    public static final QueueWatermark EMPTY = new QueueWatermark(0, 0);
+}
@@ -0,0 +1,57 @@
+package com.example.practice_shop.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 멱등키별 처리 상태를 Redis String(idempotency:{scope}:{user}:{key})으로 관리합니다.
+ * 처리 중에는 IN_PROGRESS:{요청 해시}를, 처리가 끝나면 DONE:{요청 해시}:{직렬화된 응답}을 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisIdempotencyRepository implements IdempotencyRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS_PREFIX = "IN_PROGRESS:";
+    private static final String RESULT_PREFIX = "DONE:";
+
+    @Override
+    public boolean tryBegin(String key, String fingerprint, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, IN_PROGRESS_PREFIX + fingerprint, ttl));
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (value.startsWith(IN_PROGRESS_PREFIX)) {
+            return Optional.of(new IdempotencyRecord(value.substring(IN_PROGRESS_PREFIX.length()), null));
+        }
+        if (value.startsWith(RESULT_PREFIX)) {
+            // 해시에는 ':'가 없으므로 첫 ':'까지가 해시입니다.
+            int separator = value.indexOf(':', RESULT_PREFIX.length());
+            if (separator > 0) {
+                return Optional.of(new IdempotencyRecord(value.substring(RESULT_PREFIX.length(), separator),
+                        value.substring(separator + 1)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, String result, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, RESULT_PREFIX + fingerprint + ":" + result, ttl);
+    }
+
+    @Override
+    public void remove(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+}
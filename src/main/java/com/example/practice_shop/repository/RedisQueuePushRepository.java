@@ -0,0 +1,20 @@
+package com.example.practice_shop.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 대기열 푸시 메시지를 Redis 채널(queue:push)로 모든 노드에 중계합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisQueuePushRepository implements QueuePushRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void publish(String payload) {
+        redisTemplate.convertAndSend(CHANNEL, payload);
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.practice_shop.repository;
 
+import com.example.practice_shop.constant.UserGrade;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -17,79 +20,409 @@ public class RedisQueueRepository implements QueueRepository {
 
     private final StringRedisTemplate redisTemplate;
 
-    private static final String QUEUE_KEY_PREFIX = "queue:"; // 큐 키
-    private static final String READY_KEY_PREFIX = "queue:ready:"; // 허용 토큰 모음
-    private static final String TOKEN_KEY_PREFIX = "queue:token:"; // 토큰 메타 정보
+    private static final String QUEUE_KEY_PREFIX = "queue:"; // 레인별 대기열 (queue:{eventId}:{lane}, member/score = 레인 일련번호)
+    private static final String ACTIVE_KEY = "queue:active"; // 대기자가 있는 이벤트 ID (SET)
+    private static final String READY_KEY_PREFIX = "queue:ready-at:"; // 허용 토큰 (ZSET, member = {lane}:{seq}, score = 만료 시각 ms)
+    private static final String ADMITTED_KEY_PREFIX = "queue:admitted:"; // 레인별 누적 입장 허용 수 (HASH)
+    private static final String SEQ_KEY_PREFIX = "queue:seq:"; // 레인별 진입 일련번호 (HASH)
+    private static final String SWRR_KEY_PREFIX = "queue:swrr:"; // 레인별 가중 라운드 로빈 current 값 (HASH, 틱 사이에도 유지)
+    private static final String OWNER_KEY_PREFIX = "queue:owner:"; // 이벤트 입장 처리 담당 노드 (lease)
+    private static final String NODES_KEY = "queue:nodes"; // 살아있는 노드 (ZSET, score = 마지막 heartbeat ms)
+    private static final String HEALTH_KEY = "queue:health"; // 노드별 예매 경로 상태 (HASH, field = 노드 ID, value = p99:pool:lockWaiters:reportedAt)
+    private static final String OVERRIDE_KEY = "queue:admission:override"; // 관리자가 지정한 틱당 허용 수 (HASH)
+    private static final String CLAIM_KEY_PREFIX = "queue:claim:"; // 예매 처리 중인 허용 토큰 (queue:claim:{eventId}:{lane}:{seq}, 짧은 TTL)
+    private static final String WATERMARK_KEY_PREFIX = "queue:watermark:"; // 레인별 입장 허용 워터마크 (HASH: seq:{lane}, rate:{lane}, updatedAt:{lane})
+
+    private static final List<UserGrade> LANES = List.of(UserGrade.values());
+
+    /**
+     * 일련번호 발급, 레인 대기열 등록, 순번 조회를 한 번의 왕복으로 처리합니다.
+     * 레인 대기열의 member와 score 모두 레인별 일련번호라서, 워터마크와의 차이가 곧 레인 안의 대략적인 순번이 됩니다.
+     * 토큰 정보는 서명된 토큰 안에 들어 있으므로 Redis에 따로 저장하지 않습니다.
+     * 이벤트를 활성 대기열 목록에도 등록합니다.
+     * 레인 대기열, 진입 일련번호, 누적 입장 허용 수의 TTL을 진입마다 연장하므로, 버려진 이벤트의 키는 TTL 뒤에 정리됩니다.
+     * TTL은 토큰 유효 시간보다 길어야 합니다. (일련번호가 다시 1부터 시작해도 살아 있는 토큰과 겹치지 않게)
+     * KEYS[1] = 레인 대기열, KEYS[2] = 누적 입장 허용 수, KEYS[3] = 진입 일련번호, KEYS[4] = 활성 대기열 목록
+     * ARGV[1] = 이벤트 ID, ARGV[2] = 레인, ARGV[3] = TTL(ms)
+     * 반환값: {레인 안에서 0부터 시작하는 순번, 레인 누적 입장 허용 수, 일련번호}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ENTER_SCRIPT = new DefaultRedisScript<>(
+            "local seq = redis.call('HINCRBY', KEYS[3], ARGV[2], 1) " +
+            "redis.call('ZADD', KEYS[1], seq, seq) " +
+            "redis.call('SADD', KEYS[4], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[3], ARGV[3]) " +
+            "return {redis.call('ZRANK', KEYS[1], seq), tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0'), seq}",
+            List.class);
+
+    /**
+     * 만료된 허용 토큰을 정리한 뒤, 레인들에서 N명을 가중 라운드 로빈(smooth weighted round-robin)으로 골라 허용합니다.
+     * 비어 있는 레인의 몫은 다른 레인이 가져가고, 레인마다 ZPOPMIN은 한 번만 호출합니다. (한 번의 왕복으로 원자적으로 처리)
+     * 레인별 current 값은 Redis에 저장해 다음 틱으로 이어 가므로, 틱당 허용 수가 작아도 낮은 가중치 레인이 차례를 받습니다.
+     * 비어 있던 레인은 current를 0으로 되돌려, 비어 있는 동안 몫이 쌓이지 않게 합니다.
+     * 대기자가 남아 있는 레인 대기열과 진입 일련번호의 TTL도 연장합니다.
+     * 이미 허용된 토큰의 만료 시각은 바뀌지 않습니다.
+     * 레인별 누적 입장 허용 수와 워터마크(마지막으로 허용한 일련번호, 초당 허용 수의 지수 이동 평균)도 함께 갱신합니다.
+     * 모든 레인이 비면 활성 대기열 목록에서 이벤트를 뺍니다. (진입과 같은 스크립트 안에서만 바뀌므로 경합 없음)
+     * 호출한 노드가 담당 lease를 갖고 있지 않으면 아무것도 하지 않습니다. (lease가 넘어간 뒤 늦게 도착한 요청 차단)
+     * KEYS[1] = 허용 토큰, KEYS[2] = 누적 입장 허용 수, KEYS[3] = 워터마크, KEYS[4] = 활성 대기열 목록, KEYS[5] = 담당 노드,
+     * KEYS[6] = 가중 라운드 로빈 상태, KEYS[7] = 진입 일련번호, KEYS[8..] = 레인 대기열
+     * ARGV[1] = N, ARGV[2] = 현재 시각(ms), ARGV[3] = TTL(ms), ARGV[4] = 누적 수 TTL(ms), ARGV[5] = 이벤트 ID, ARGV[6] = 노드 ID,
+     * ARGV[7..] = 레인 이름, 그 뒤로 레인 가중치
+     * 반환값: 입장 허용한 {lane}:{seq} 목록
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[5]) ~= ARGV[6] then return {} end " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[2]) " +
+            "local lanes = #KEYS - 7 " +
+            "local sizes, counts, current = {}, {}, {} " +
+            "local waiting = 0 " +
+            "for l = 1, lanes do " +
+            "  sizes[l] = redis.call('ZCARD', KEYS[7 + l]) " +
+            "  counts[l] = 0 " +
+            "  current[l] = 0 " +
+            "  if sizes[l] > 0 then current[l] = tonumber(redis.call('HGET', KEYS[6], ARGV[6 + l]) or '0') end " +
+            "  waiting = waiting + sizes[l] " +
+            "end " +
+            "local remaining = math.min(tonumber(ARGV[1]), waiting) " +
+            "for i = 1, remaining do " +
+            "  local best, total = nil, 0 " +
+            "  for l = 1, lanes do " +
+            "    if counts[l] < sizes[l] then " +
+            "      local weight = tonumber(ARGV[6 + lanes + l]) " +
+            "      current[l] = current[l] + weight " +
+            "      total = total + weight " +
+            "      if best == nil or current[l] > current[best] then best = l end " +
+            "    end " +
+            "  end " +
+            "  current[best] = current[best] - total " +
+            "  counts[best] = counts[best] + 1 " +
+            "end " +
+            "if remaining > 0 then " +
+            "  for l = 1, lanes do redis.call('HSET', KEYS[6], ARGV[6 + l], tostring(current[l])) end " +
+            "  redis.call('PEXPIRE', KEYS[6], ARGV[4]) " +
+            "end " +
+            "local admitted = {} " +
+            "local expiresAt = tonumber(ARGV[2]) + tonumber(ARGV[3]) " +
+            "for l = 1, lanes do " +
+            "  if counts[l] > 0 then " +
+            "    local lane = ARGV[6 + l] " +
+            "    local popped = redis.call('ZPOPMIN', KEYS[7 + l], counts[l]) " +
+            "    for i = 1, #popped, 2 do " +
+            "      local member = lane .. ':' .. popped[i] " +
+            "      redis.call('ZADD', KEYS[1], expiresAt, member) " +
+            "      admitted[#admitted + 1] = member " +
+            "    end " +
+            "    redis.call('HINCRBY', KEYS[2], lane, #popped / 2) " +
+            "    local prev = redis.call('HMGET', KEYS[3], 'updatedAt:' .. lane, 'rate:' .. lane) " +
+            "    local rate = tonumber(prev[2] or '0') " +
+            "    if prev[1] then " +
+            "      local elapsed = tonumber(ARGV[2]) - tonumber(prev[1]) " +
+            "      if elapsed > 0 then rate = 0.3 * ((#popped / 2) * 1000 / elapsed) + 0.7 * rate end " +
+            "    end " +
+            "    redis.call('HSET', KEYS[3], 'seq:' .. lane, popped[#popped], 'rate:' .. lane, tostring(rate), " +
+            "      'updatedAt:' .. lane, ARGV[2]) " +
+            "  end " +
+            "end " +
+            "for l = 1, lanes do " +
+            "  if counts[l] < sizes[l] then redis.call('PEXPIRE', KEYS[7 + l], ARGV[4]) end " +
+            "end " +
+            "if waiting - #admitted == 0 then redis.call('SREM', KEYS[4], ARGV[5]) end " +
+            "if #admitted > 0 then " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "  redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+            "  redis.call('PEXPIRE', KEYS[3], ARGV[4]) " +
+            "  redis.call('PEXPIRE', KEYS[7], ARGV[4]) " +
+            "end " +
+            "return admitted",
+            List.class);
+
+    /**
+     * 레인별 진행 상황을 한 번의 왕복으로 조회합니다.
+     * KEYS[1] = 누적 입장 허용 수, KEYS[2] = 워터마크, KEYS[3..] = 레인 대기열, ARGV[1..] = 레인 이름
+     * 반환값: 레인마다 {누적 입장 허용 수, 대기 인원, 초당 허용 수(문자열)}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PROGRESS_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} " +
+            "for l = 1, #ARGV do " +
+            "  result[#result + 1] = tonumber(redis.call('HGET', KEYS[1], ARGV[l]) or '0') " +
+            "  result[#result + 1] = redis.call('ZCARD', KEYS[2 + l]) " +
+            "  result[#result + 1] = redis.call('HGET', KEYS[2], 'rate:' .. ARGV[l]) or '0' " +
+            "end " +
+            "return result",
+            List.class);
+
+    /**
+     * 이벤트 담당 lease를 얻거나 연장합니다.
+     * KEYS[1] = 담당 노드, ARGV[1] = 노드 ID, ARGV[2] = lease(ms)
+     * 반환값: 1이면 담당, 0이면 다른 노드가 담당 중
+     */
+    private static final RedisScript<Long> ACQUIRE_OWNER_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('GET', KEYS[1]) " +
+            "if owner == false then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end " +
+            "if owner == ARGV[1] then redis.call('PEXPIRE', KEYS[1], ARGV[2]) return 1 end " +
+            "return 0",
+            Long.class);
+
+    /**
+     * 자신이 가진 이벤트 담당 lease만 반납합니다.
+     * KEYS[1] = 담당 노드, ARGV[1] = 노드 ID
+     */
+    private static final RedisScript<Long> RELEASE_OWNER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    /**
+     * 입장 허용 토큰이 유효한지 확인하고, 유효하면 예매 처리 중으로 잡습니다.
+     * 확인과 잡기를 한 번에 처리해, 같은 토큰으로 동시에 들어온 예매 요청 중 하나만 통과시킵니다.
+     * KEYS[1] = 허용 토큰, KEYS[2] = 처리 중 표시
+     * ARGV[1] = 허용 토큰 member, ARGV[2] = 현재 시각(ms), ARGV[3] = 처리 중 표시 TTL(ms)
+     * 반환값: 1 = 잡음, 0 = 이미 처리 중, -1 = 허용되지 않음
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local expiresAt = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if not expiresAt or tonumber(expiresAt) <= tonumber(ARGV[2]) then return -1 end " +
+            "if redis.call('SET', KEYS[2], '1', 'NX', 'PX', ARGV[3]) then return 1 end " +
+            "return 0",
+            Long.class);
+
+    @Override
+    public QueueEntry enter(Long eventId, UserGrade lane, Duration ttl) {
+        List<?> result = redisTemplate.execute(ENTER_SCRIPT,
+                List.of(laneKey(eventId, lane), admittedKey(eventId), seqKey(eventId), ACTIVE_KEY),
+                eventId.toString(), lane.name(), Long.toString(ttl.toMillis()));
+        return new QueueEntry(((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue(),
+                ((Number) result.get(2)).longValue());
+    }
+
+    @Override
+    public Long getRank(Long eventId, UserGrade lane, long seq) {
+        return redisTemplate.opsForZSet().rank(laneKey(eventId, lane), Long.toString(seq));
+    }
+
+    @Override
+    public boolean isReady(Long eventId, UserGrade lane, long seq) {
+        Double expiresAt = redisTemplate.opsForZSet().score(readyKey(eventId), readyMember(lane, seq));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public QueueAdmissionClaim claimAdmission(Long eventId, UserGrade lane, long seq, Duration lockTtl) {
+        Long result = redisTemplate.execute(CLAIM_SCRIPT, List.of(readyKey(eventId), claimKey(eventId, lane, seq)),
+                readyMember(lane, seq), Long.toString(System.currentTimeMillis()), Long.toString(lockTtl.toMillis()));
+        if (result == null || result < 0) {
+            return QueueAdmissionClaim.NOT_READY;
+        }
+        return result == 1 ? QueueAdmissionClaim.CLAIMED : QueueAdmissionClaim.IN_USE;
+    }
+
+    @Override
+    public void releaseAdmission(Long eventId, UserGrade lane, long seq, boolean consume) {
+        if (consume) {
+            // 토큰을 먼저 지워야, 처리 중 표시가 풀린 뒤 들어온 요청이 다시 통과하지 못합니다.
+            redisTemplate.opsForZSet().remove(readyKey(eventId), readyMember(lane, seq));
+        }
+        redisTemplate.delete(claimKey(eventId, lane, seq));
+    }
+
+    @Override
+    public void removeFromQueue(Long eventId, UserGrade lane, long seq) {
+        redisTemplate.opsForZSet().remove(laneKey(eventId, lane), Long.toString(seq));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> admitBatch(Long eventId, String nodeId, int count, Map<UserGrade, Integer> laneWeights,
+                                   Duration ttl, Duration counterTtl) {
+        List<String> keys = new ArrayList<>(7 + LANES.size());
+        keys.add(readyKey(eventId));
+        keys.add(admittedKey(eventId));
+        keys.add(watermarkKey(eventId));
+        keys.add(ACTIVE_KEY);
+        keys.add(ownerKey(eventId));
+        keys.add(swrrKey(eventId));
+        keys.add(seqKey(eventId));
+        List<String> args = new ArrayList<>(6 + LANES.size() * 2);
+        args.add(Integer.toString(count));
+        args.add(Long.toString(System.currentTimeMillis()));
+        args.add(Long.toString(ttl.toMillis()));
+        args.add(Long.toString(counterTtl.toMillis()));
+        args.add(eventId.toString());
+        args.add(nodeId);
+        for (UserGrade lane : LANES) {
+            keys.add(laneKey(eventId, lane));
+            args.add(lane.name());
+        }
+        for (UserGrade lane : LANES) {
+            args.add(Integer.toString(laneWeights.getOrDefault(lane, 1)));
+        }
+        List<String> admitted = redisTemplate.execute(ADMIT_SCRIPT, keys, args.toArray());
+        return admitted == null ? List.of() : admitted;
+    }
 
     @Override
-    public void addToQueue(Long eventId, String token, long score) {
-        String queueKey = queueKey(eventId);
-        redisTemplate.opsForZSet().add(queueKey, token, score);
+    public long getAdmittedTotal(Long eventId, UserGrade lane) {
+        Object admitted = redisTemplate.opsForHash().get(admittedKey(eventId), lane.name());
+        return admitted == null ? 0 : Long.parseLong((String) admitted);
     }
 
     @Override
-    public void saveTokenMeta(String token, Map<String, String> meta) {
-        redisTemplate.opsForHash().putAll(tokenKey(token), meta);
+    public List<QueueLaneProgress> getProgress(Long eventId) {
+        List<String> keys = new ArrayList<>(2 + LANES.size());
+        keys.add(admittedKey(eventId));
+        keys.add(watermarkKey(eventId));
+        LANES.forEach(lane -> keys.add(laneKey(eventId, lane)));
+        List<?> result = redisTemplate.execute(PROGRESS_SCRIPT, keys, LANES.stream().map(Enum::name).toArray());
+
+        List<QueueLaneProgress> progress = new ArrayList<>(LANES.size());
+        for (int i = 0; i < LANES.size(); i++) {
+            progress.add(new QueueLaneProgress(LANES.get(i),
+                    ((Number) result.get(i * 3)).longValue(),
+                    ((Number) result.get(i * 3 + 1)).longValue(),
+                    Double.parseDouble(result.get(i * 3 + 2).toString())));
+        }
+        return progress;
+    }
+
+    @Override
+    public QueueWatermark getWatermark(Long eventId, UserGrade lane) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(watermarkKey(eventId),
+                List.of("seq:" + lane.name(), "rate:" + lane.name()));
+        if (values.get(0) == null) {
+            return QueueWatermark.EMPTY;
+        }
+        double rate = values.get(1) == null ? 0 : Double.parseDouble((String) values.get(1));
+        return new QueueWatermark(Long.parseLong((String) values.get(0)), rate);
+    }
+
+    @Override
+    public long countReady(Long eventId) {
+        Long count = redisTemplate.opsForZSet().count(readyKey(eventId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Set<Long> findActiveEventIds() {
+        Set<String> members = redisTemplate.opsForSet().members(ACTIVE_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        Set<Long> eventIds = new HashSet<>(members.size());
+        members.forEach(member -> eventIds.add(Long.valueOf(member)));
+        return eventIds;
     }
 
     @Override
-    public Long getRank(Long eventId, String token) {
-        String queueKey = queueKey(eventId);
-        return redisTemplate.opsForZSet().rank(queueKey, token);
+    public boolean acquireOwnership(Long eventId, String nodeId, Duration lease) {
+        Long acquired = redisTemplate.execute(ACQUIRE_OWNER_SCRIPT, List.of(ownerKey(eventId)),
+                nodeId, Long.toString(lease.toMillis()));
+        return acquired != null && acquired == 1;
     }
 
     @Override
-    public Map<Object, Object> getTokenMeta(String token) {
-        return redisTemplate.opsForHash().entries(tokenKey(token));
+    public void releaseOwnership(Long eventId, String nodeId) {
+        redisTemplate.execute(RELEASE_OWNER_SCRIPT, List.of(ownerKey(eventId)), nodeId);
     }
 
     @Override
-    public boolean isReady(Long eventId, String token) {
-        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(readyKey(eventId), token));
+    public void heartbeat(String nodeId, long now, long expireBefore) {
+        redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, expireBefore);
     }
 
     @Override
-    public Set<String> getTokensInRange(Long eventId, long start, long end) {
-        return redisTemplate.opsForZSet().range(queueKey(eventId), start, end);
+    public Set<String> findLiveNodes(long aliveSince) {
+        Set<String> nodes = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, aliveSince, Double.POSITIVE_INFINITY);
+        return nodes == null ? Set.of() : nodes;
     }
 
     @Override
-    public void removeFromQueue(Long eventId, String token) {
-        redisTemplate.opsForZSet().remove(queueKey(eventId), token);
+    public void removeNode(String nodeId) {
+        redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        redisTemplate.opsForHash().delete(HEALTH_KEY, nodeId);
     }
 
     @Override
-    public void markReady(Long eventId, String token, Duration ttl) {
-        String readyKey = readyKey(eventId);
-        redisTemplate.opsForSet().add(readyKey, token);
-        redisTemplate.expire(readyKey, ttl);
+    public void reportHealth(NodeHealth health) {
+        redisTemplate.opsForHash().put(HEALTH_KEY, health.nodeId(), health.reservationP99Millis() + ":"
+                + health.poolUtilization() + ":" + health.lockWaiters() + ":" + health.reportedAt());
     }
 
     @Override
-    public Set<String> scanQueueKeys(int count) {
-        Set<String> keys = new HashSet<>();
-        ScanOptions scanOptions = ScanOptions.scanOptions()
-                .match(QUEUE_KEY_PREFIX + "[0-9]*")
-                .count(count)
-                .build();
-        
-        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
-            while (cursor.hasNext()) {
-                keys.add(cursor.next());
+    public List<NodeHealth> findHealth(long reportedSince) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(HEALTH_KEY);
+        List<NodeHealth> healths = new ArrayList<>(entries.size());
+        List<Object> stale = new ArrayList<>();
+        entries.forEach((field, value) -> {
+            String[] parts = ((String) value).split(":");
+            NodeHealth health = new NodeHealth((String) field, Long.parseLong(parts[0]), Double.parseDouble(parts[1]),
+                    Integer.parseInt(parts[2]), Long.parseLong(parts[3]));
+            if (health.reportedAt() >= reportedSince) {
+                healths.add(health);
+            } else {
+                stale.add(field);
             }
+        });
+        // 보고가 끊긴 노드(종료/장애)는 정리합니다.
+        if (!stale.isEmpty()) {
+            redisTemplate.opsForHash().delete(HEALTH_KEY, stale.toArray());
+        }
+        return healths;
+    }
+
+    @Override
+    public Integer getAdmissionOverride(Long eventId) {
+        Object value = redisTemplate.opsForHash().get(OVERRIDE_KEY, eventId.toString());
+        return value == null ? null : Integer.valueOf((String) value);
+    }
+
+    @Override
+    public void setAdmissionOverride(Long eventId, Integer perTick) {
+        if (perTick == null) {
+            redisTemplate.opsForHash().delete(OVERRIDE_KEY, eventId.toString());
+        } else {
+            redisTemplate.opsForHash().put(OVERRIDE_KEY, eventId.toString(), perTick.toString());
         }
-        return keys;
     }
 
-    private String queueKey(Long eventId) {
-        return QUEUE_KEY_PREFIX + eventId;
+    private String laneKey(Long eventId, UserGrade lane) {
+        return QUEUE_KEY_PREFIX + eventId + ":" + lane.name();
     }
 
     private String readyKey(Long eventId) {
         return READY_KEY_PREFIX + eventId;
     }
 
-    private String tokenKey(String token) {
-        return TOKEN_KEY_PREFIX + token;
+    private String claimKey(Long eventId, UserGrade lane, long seq) {
+        return CLAIM_KEY_PREFIX + eventId + ":" + lane.name() + ":" + seq;
+    }
+
+    private String readyMember(UserGrade lane, long seq) {
+        return lane.name() + ":" + seq;
+    }
+
+    private String admittedKey(Long eventId) {
+        return ADMITTED_KEY_PREFIX + eventId;
+    }
+
+    private String ownerKey(Long eventId) {
+        return OWNER_KEY_PREFIX + eventId;
+    }
+
+    private String swrrKey(Long eventId) {
+        return SWRR_KEY_PREFIX + eventId;
+    }
+
+    private String seqKey(Long eventId) {
+        return SEQ_KEY_PREFIX + eventId;
+    }
+
+    private String watermarkKey(Long eventId) {
+        return WATERMARK_KEY_PREFIX + eventId;
     }
 }
@@ -0,0 +1,115 @@
+package com.example.practice_shop.repository;
+
+import com.example.practice_shop.constant.SeatClaimResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회차별 좌석 상태를 Redis Hash(seat:claim:{showtimeId}, field=seatId, value=SeatStatus)로 관리합니다.
+ * 좌석 확인과 상태 변경은 Lua 스크립트 한 번으로 원자적으로 수행됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisSeatClaimRepository implements SeatClaimRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String CLAIM_KEY_PREFIX = "seat:claim:"; // 회차별 좌석 상태
+    private static final String AVAILABLE = "AVAILABLE";
+
+    /**
+     * 키가 없을 때만 좌석 상태를 적재합니다.
+     * ARGV[1] = TTL(초), ARGV[2..] = seatId, status 쌍
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 요청한 좌석이 모두 AVAILABLE일 때만 한 번에 목표 상태로 변경합니다 (all-or-nothing).
+     * ARGV[1] = 목표 상태, ARGV[2..] = seatId
+     * 반환값: 1 성공, 0 충돌, -1 미적재, -2 존재하지 않는 좌석
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "for i = 2, #ARGV do " +
+            "  local status = redis.call('HGET', KEYS[1], ARGV[i]) " +
+            "  if not status then return -2 end " +
+            "  if status ~= '" + AVAILABLE + "' then return 0 end " +
+            "end " +
+            "for i = 2, #ARGV do redis.call('HSET', KEYS[1], ARGV[i], ARGV[1]) end " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 존재하는 좌석만 AVAILABLE로 되돌립니다.
+     * ARGV[1..] = seatId
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local released = 0 " +
+            "for i = 1, #ARGV do " +
+            "  if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then " +
+            "    redis.call('HSET', KEYS[1], ARGV[i], '" + AVAILABLE + "') " +
+            "    released = released + 1 " +
+            "  end " +
+            "end " +
+            "return released",
+            Long.class);
+
+    @Override
+    public boolean loadIfAbsent(Long showtimeId, Map<Long, String> seatStatuses, Duration ttl) {
+        if (seatStatuses.isEmpty()) {
+            return false;
+        }
+        List<String> args = new ArrayList<>(seatStatuses.size() * 2 + 1);
+        args.add(Long.toString(ttl.toSeconds()));
+        seatStatuses.forEach((seatId, status) -> {
+            args.add(seatId.toString());
+            args.add(status);
+        });
+        Long loaded = redisTemplate.execute(LOAD_SCRIPT, List.of(claimKey(showtimeId)), args.toArray());
+        return loaded != null && loaded == 1L;
+    }
+
+    @Override
+    public SeatClaimResult claim(Long showtimeId, List<Long> seatIds, String targetStatus) {
+        List<String> args = new ArrayList<>(seatIds.size() + 1);
+        args.add(targetStatus);
+        seatIds.forEach(seatId -> args.add(seatId.toString()));
+
+        Long result = redisTemplate.execute(CLAIM_SCRIPT, List.of(claimKey(showtimeId)), args.toArray());
+        if (result == null) {
+            return SeatClaimResult.NOT_LOADED;
+        }
+        return switch (result.intValue()) {
+            case 1 -> SeatClaimResult.CLAIMED;
+            case -1 -> SeatClaimResult.NOT_LOADED;
+            case -2 -> SeatClaimResult.UNKNOWN_SEAT;
+            default -> SeatClaimResult.CONFLICT;
+        };
+    }
+
+    @Override
+    public void release(Long showtimeId, List<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return;
+        }
+        Object[] args = seatIds.stream().map(String::valueOf).toArray();
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(claimKey(showtimeId)), args);
+    }
+
+    private String claimKey(Long showtimeId) {
+        return CLAIM_KEY_PREFIX + showtimeId;
+    }
+}
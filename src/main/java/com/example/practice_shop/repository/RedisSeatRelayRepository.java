@@ -0,0 +1,49 @@
+package com.example.practice_shop.repository;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좌석 변경 메시지를 회차별 Redis 채널(seat:relay:{showtimeId})로 중계합니다.
+ * <p>
+ * - 회차별 일련번호는 seat:seq:{showtimeId}에서 INCR로 발급합니다. 모든 노드가 같은 번호 체계를 씁니다.
+ * - 번호 발급과 PUBLISH를 한 스크립트에서 처리하므로 채널에 나가는 순서가 곧 번호 순서입니다.
+ * - 메시지 형식은 "{seq}|{payload}"입니다.
+ * - 키가 없으면(처음이거나 만료) 현재 시각(ms)부터 시작해, 이전에 발급한 번호보다 작아지지 않게 합니다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class RedisSeatRelayRepository implements SeatRelayRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String SEQ_PREFIX = "seat:seq:";
+    private static final String CHANNEL_PREFIX = "seat:relay:";
+
+    private static final DefaultRedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('SET', KEYS[1], ARGV[3]) end " +
+            "local seq = redis.call('INCR', KEYS[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('PUBLISH', ARGV[4], seq .. '|' .. ARGV[1]) " +
+            "return seq",
+            Long.class);
+
+    @Override
+    public long publish(Long showtimeId, String payload, Duration seqTtl) {
+        Long seq = redisTemplate.execute(PUBLISH_SCRIPT, List.of(SEQ_PREFIX + showtimeId),
+                payload, String.valueOf(seqTtl.toMillis()), String.valueOf(System.currentTimeMillis()),
+                CHANNEL_PREFIX + showtimeId);
+        return seq != null ? seq : 0L;
+    }
+
+    @Override
+    public long currentSeq(Long showtimeId) {
+        String value = redisTemplate.opsForValue().get(SEQ_PREFIX + showtimeId);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
@@ -1,13 +1,77 @@
 package com.example.practice_shop.repository;
 
+import com.example.practice_shop.constant.ReservationStatus;
 import com.example.practice_shop.entity.Reservation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+    String SUMMARY_SELECT = "select r.id as reservationId, e.title as eventName, v.name as venueName, " +
+            "s.startDateTime as showtime, r.totalPrice as totalPrice, r.status as status, " +
+            "r.reservedAt as reservedAt, r.orderId as orderId " +
+            "from Reservation r join r.user u join r.showtime s join s.event e join e.venue v ";
+
     List<Reservation> findByUser_Email(String email);
     Optional<Reservation> findByIdAndUser_Email(Long id, String email);
     Optional<Reservation> findByOrderId(String orderId);
-}
\ No newline at end of file
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.id = :id and r.user.email = :email")
+    Optional<Reservation> findByIdAndUserEmailWithLock(Long id, String email);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.orderId = :orderId")
+    Optional<Reservation> findByOrderIdWithLock(String orderId);
+
+    /**
+     * 기준 시각 이전에 생성된 특정 상태의 예약을 오래된 순으로 잠금과 함께 조회합니다.
+     * 다른 트랜잭션이 잠근 예약(결제 승인/취소 중)은 건너뜁니다. (SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select r from Reservation r where r.status = :status and r.reservedAt < :cutoff order by r.reservedAt")
+    List<Reservation> findStaleWithLock(ReservationStatus status, LocalDateTime cutoff, Pageable pageable);
+
+    @Query("select r.showtime.id from Reservation r where r.id = :id")
+    Optional<Long> findShowtimeIdById(Long id);
+
+    /**
+     * 사용자의 예약 요약을 최신순으로 조회합니다. (회차/공연/공연장을 한 번의 조인으로 함께 조회)
+     */
+    @Query(SUMMARY_SELECT + "where u.email = :email order by r.id desc")
+    List<ReservationSummaryView> findSummariesByUserEmail(String email, Pageable pageable);
+
+    /**
+     * 커서(예약 ID)보다 오래된 예약 요약을 최신순으로 조회합니다. (키셋 페이지네이션)
+     */
+    @Query(SUMMARY_SELECT + "where u.email = :email and r.id < :cursor order by r.id desc")
+    List<ReservationSummaryView> findSummariesByUserEmailBefore(String email, Long cursor, Pageable pageable);
+
+    /**
+     * 예약 상태를 한 번의 UPDATE로 변경합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.status = :status where r.id in :ids")
+    int updateStatus(List<Long> ids, ReservationStatus status);
+
+    interface ReservationSummaryView {
+        Long getReservationId();
+        String getEventName();
+        String getVenueName();
+        LocalDateTime getShowtime();
+        int getTotalPrice();
+        ReservationStatus getStatus();
+        LocalDateTime getReservedAt();
+        String getOrderId();
+    }
+}
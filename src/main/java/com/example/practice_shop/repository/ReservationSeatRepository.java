@@ -1,7 +1,25 @@
 package com.example.practice_shop.repository;
 
 import com.example.practice_shop.entity.ReservationSeat;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ReservationSeatRepository extends JpaRepository<ReservationSeat, Long> {
-}
\ No newline at end of file
+
+    /**
+     * 여러 예약의 좌석 정보를 한 번에 조회합니다.
+     */
+    @Query("select rs.reservation.id as reservationId, seat.rowLabel as rowLabel, seat.seatNumber as seatNumber, " +
+            "seat.seatType as seatType from ReservationSeat rs join rs.seatInventory si join si.seat seat " +
+            "where rs.reservation.id in :reservationIds order by rs.id")
+    List<ReservationSeatDetailView> findSeatDetailsByReservationIdIn(Collection<Long> reservationIds);
+
+    interface ReservationSeatDetailView {
+        Long getReservationId();
+        String getRowLabel();
+        String getSeatNumber();
+        String getSeatType();
+    }
+}
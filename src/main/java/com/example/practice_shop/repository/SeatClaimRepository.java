@@ -0,0 +1,12 @@
+package com.example.practice_shop.repository;
+
+import com.example.practice_shop.constant.SeatClaimResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+public interface SeatClaimRepository {
+    boolean loadIfAbsent(Long showtimeId, Map<Long, String> seatStatuses, Duration ttl);
+    SeatClaimResult claim(Long showtimeId, List<Long> seatIds, String targetStatus);
+    void release(Long showtimeId, List<Long> seatIds);
+}
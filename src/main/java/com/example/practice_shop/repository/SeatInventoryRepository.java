@@ -7,9 +7,14 @@ import com.example.practice_shop.entity.Showtime;
 
 import jakarta.persistence.LockModeType;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface SeatInventoryRepository extends JpaRepository<SeatInventory, Long> {
@@ -25,4 +30,111 @@ public interface SeatInventoryRepository extends JpaRepository<SeatInventory, Lo
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select si from SeatInventory si where si.seat.id in :seatIds and si.showtime.id = :showtimeId")
     List<SeatInventory> findAllBySeatIdInAndShowtimeIdWithLock(List<Long> seatIds, Long showtimeId);
+
+    /**
+     * 잠금 없이 좌석 재고를 조회합니다. (좌석 선점이 DB 밖에서 이미 끝난 경우 사용)
+     */
+    @Query("select si from SeatInventory si join fetch si.seat where si.seat.id in :seatIds and si.showtime.id = :showtimeId")
+    List<SeatInventory> findAllBySeatIdInAndShowtimeId(List<Long> seatIds, Long showtimeId);
+
+    /**
+     * 회차의 좌석 ID와 상태만 조회합니다. (선점 엔진 적재용)
+     */
+    @Query("select si.seat.id as seatId, si.status as status from SeatInventory si where si.showtime.id = :showtimeId")
+    List<SeatStatusView> findSeatStatusesByShowtimeId(Long showtimeId);
+
+    /**
+     * 회차의 일부 좌석 ID와 상태만 조회합니다. (연속 좌석 인덱스 보정용)
+     */
+    @Query("select si.seat.id as seatId, si.status as status from SeatInventory si where si.showtime.id = :showtimeId and si.seat.id in :seatIds")
+    List<SeatStatusView> findSeatStatusesBySeatIds(Long showtimeId, Collection<Long> seatIds);
+
+    /**
+     * 만료된 선점 좌석을 잠금과 함께 조회합니다. (예매로 전환 중인 좌석은 전환이 끝날 때까지 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select si from SeatInventory si join fetch si.seat where si.id in :ids and si.status = :status and (si.holdExpiresAt is null or si.holdExpiresAt <= :now)")
+    List<SeatInventory> findExpiredHoldsWithLock(List<Long> ids, SeatStatus status, LocalDateTime now);
+
+    /**
+     * 기준 시각 이전에 만료된 선점 좌석 ID를 조회합니다. (만료 타이머가 놓친 선점 정리용)
+     */
+    @Query("select si.id from SeatInventory si where si.status = :status and (si.holdExpiresAt is null or si.holdExpiresAt <= :before) order by si.id")
+    List<Long> findExpiredHoldIds(SeatStatus status, LocalDateTime before, Pageable pageable);
+
+    /**
+     * 좌석 선점 정보를 한 번의 UPDATE로 지우고 지정한 상태로 변경합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update SeatInventory si set si.status = :status, si.holdExpiresAt = null, si.holdUserId = null, " +
+            "si.version = si.version + 1 where si.id in :ids")
+    int releaseSeats(List<Long> ids, SeatStatus status);
+
+    /**
+     * AVAILABLE인 좌석만 한 번의 UPDATE로 목표 상태로 변경합니다.
+     * 반환된 변경 행 수가 요청 좌석 수보다 적으면 일부 좌석을 선점하지 못한 것입니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update SeatInventory si set si.status = :target, si.version = si.version + 1 " +
+            "where si.showtime.id = :showtimeId and si.seat.id in :seatIds and si.status = :expected")
+    int updateStatusIfCurrent(Long showtimeId, Collection<Long> seatIds, SeatStatus expected, SeatStatus target);
+
+    long countByShowtimeIdAndSeatIdIn(Long showtimeId, Collection<Long> seatIds);
+
+    /**
+     * 예약들에 포함된 좌석 재고를 좌석/회차와 함께 조회합니다.
+     */
+    @Query("select si from SeatInventory si join fetch si.seat join fetch si.showtime " +
+            "where si.id in (select rs.seatInventory.id from ReservationSeat rs where rs.reservation.id in :reservationIds)")
+    List<SeatInventory> findAllByReservationIdIn(List<Long> reservationIds);
+
+    /**
+     * 선점 중인 좌석의 만료 정보를 조회합니다. (기동 시 만료 타이머 복구용)
+     */
+    @Query("select si.id as seatInventoryId, si.holdExpiresAt as holdExpiresAt from SeatInventory si where si.status = :status")
+    List<SeatHoldView> findHoldsByStatus(SeatStatus status);
+
+    /**
+     * 회차의 좌석 배치(구역/열/번호)와 가격, 상태를 조회합니다. (연속 좌석 인덱스 적재용)
+     */
+    @Query("select s.id as seatId, s.sectionName as sectionName, s.rowLabel as rowLabel, s.seatNumber as seatNumber, " +
+            "si.price as price, si.status as status from SeatInventory si join si.seat s where si.showtime.id = :showtimeId")
+    List<SeatLayoutView> findSeatLayoutByShowtimeId(Long showtimeId);
+
+    /**
+     * 회차 전체 좌석 상태를 조회합니다. (실시간 좌석 스냅샷용)
+     */
+    @Query("select si.id as seatInventoryId, s.id as seatId, s.sectionName as sectionName, s.rowLabel as rowLabel, " +
+            "s.seatNumber as seatNumber, si.status as status, si.holdExpiresAt as holdExpiresAt " +
+            "from SeatInventory si join si.seat s where si.showtime.id = :showtimeId")
+    List<SeatSnapshotView> findSeatSnapshotByShowtimeId(Long showtimeId);
+
+    interface SeatHoldView {
+        Long getSeatInventoryId();
+        LocalDateTime getHoldExpiresAt();
+    }
+
+    interface SeatStatusView {
+        Long getSeatId();
+        SeatStatus getStatus();
+    }
+
+    interface SeatSnapshotView {
+        Long getSeatInventoryId();
+        Long getSeatId();
+        String getSectionName();
+        String getRowLabel();
+        String getSeatNumber();
+        SeatStatus getStatus();
+        LocalDateTime getHoldExpiresAt();
+    }
+
+    interface SeatLayoutView {
+        Long getSeatId();
+        String getSectionName();
+        String getRowLabel();
+        String getSeatNumber();
+        BigDecimal getPrice();
+        SeatStatus getStatus();
+    }
 }
@@ -0,0 +1,10 @@
+package com.example.practice_shop.repository;
+
+import java.time.Duration;
+
+public interface SeatRelayRepository {
+    String CHANNEL_PATTERN = "seat:relay:*";
+
+    long publish(Long showtimeId, String payload, Duration seqTtl);
+    long currentSeq(Long showtimeId);
+}
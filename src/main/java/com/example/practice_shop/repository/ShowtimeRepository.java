@@ -1,11 +1,23 @@
 package com.example.practice_shop.repository;
 
+import com.example.practice_shop.constant.SeatClaimMode;
+import com.example.practice_shop.constant.ShowtimeStatus;
 import com.example.practice_shop.entity.Event;
 import com.example.practice_shop.entity.Showtime;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
     List<Showtime> findByEventAndStartDateTimeAfter(Event event, LocalDateTime dateTime);
+    List<Showtime> findBySeatClaimModeInAndStatusIn(Collection<SeatClaimMode> seatClaimModes, Collection<ShowtimeStatus> statuses);
+
+    @Query("select s.seatClaimMode from Showtime s where s.id = :id")
+    Optional<SeatClaimMode> findSeatClaimModeById(Long id);
+
+    @Query("select s.event.id from Showtime s where s.id = :id")
+    Optional<Long> findEventIdById(Long id);
 }
@@ -3,8 +3,10 @@ package com.example.practice_shop.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.example.practice_shop.constant.UserGrade;
 import com.example.practice_shop.entity.User;
 
 @Repository
@@ -15,4 +17,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     public Optional<User> findByEmailVerificationToken(String token);
     /** 비밀번호 재설정 토큰으로 사용자 조회 */
     public Optional<User> findByPasswordResetToken(String token);
+    /** 이메일로 사용자 등급만 조회 (대기열 레인 배정용) */
+    @Query("select u.userGrade from User u where u.email = :email")
+    public Optional<UserGrade> findUserGradeByEmail(String email);
 }
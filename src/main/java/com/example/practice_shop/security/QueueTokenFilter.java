@@ -0,0 +1,102 @@
+package com.example.practice_shop.security;
+
+import com.example.practice_shop.dtos.Exception.ErrorResponse;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.repository.QueueRepository;
+import com.example.practice_shop.service.queue.QueueToken;
+import com.example.practice_shop.service.queue.QueueTokenCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 좌석 선점(/api/ticketing/hold)과 예매 요청(/api/ticketing/reserve/**)에 입장 허용된 대기열 토큰(Queue-Token 헤더)을 요구하는 필터.
+ * 토큰 서명은 프로세스 안에서 검증하고, 입장 허용 여부만 Redis에서 한 번 확인합니다.
+ * <p>
+ * - 선점은 토큰을 확인만 합니다. 선점한 좌석도 같은 토큰으로 예매해야 합니다.
+ * - 예매는 서명만 확인하고 토큰을 요청 속성으로 넘깁니다. 토큰을 처리 중으로 잡고 사용 처리하는 일은
+ *   QueueAdmissionGuard.admit이 멱등 처리 안에서 합니다. 그래서 같은 Idempotency-Key의 재시도는
+ *   이미 사용한 토큰으로도 저장된 예매를 돌려받고, 동시에 들어온 중복 요청은 처리 중인 요청의 결과를 함께 기다립니다.
+ * </p>
+ */
+public class QueueTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Queue-Token";
+    public static final String ADMITTED_EVENT_ID = QueueTokenFilter.class.getName() + ".ADMITTED_EVENT_ID";
+    public static final String ADMITTED_TOKEN = QueueTokenFilter.class.getName() + ".ADMITTED_TOKEN";
+
+    private static final String RESERVE_PATH = "/api/ticketing/reserve";
+    private static final String HOLD_PATH = "/api/ticketing/hold";
+
+    private final QueueTokenCodec queueTokenCodec;
+    private final QueueRepository queueRepository;
+    private final ObjectMapper objectMapper;
+
+    public QueueTokenFilter(QueueTokenCodec queueTokenCodec, QueueRepository queueRepository, ObjectMapper objectMapper) {
+        this.queueTokenCodec = queueTokenCodec;
+        this.queueRepository = queueRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 좌석 선점과 예매 생성 요청만 검사합니다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = path(request);
+        return !HttpMethod.POST.matches(request.getMethod()) || !(path.equals(HOLD_PATH) || isReserve(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            // 인증되지 않은 요청은 이후 인가 단계에서 401로 응답합니다.
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<QueueToken> verified = queueTokenCodec.verify(request.getHeader(HEADER));
+        if (verified.isEmpty() || !verified.get().userId().equals(authentication.getName())) {
+            // 다른 사용자(또는 비로그인 상태)로 받은 토큰은 사용할 수 없습니다.
+            reject(response, ErrorCode.INVALID_QUEUE_TOKEN);
+            return;
+        }
+        QueueToken token = verified.get();
+        if (isReserve(path(request))) {
+            // 입장 허용 확인과 토큰 사용 처리는 컨트롤러가 멱등 처리 안에서 합니다. (재시도는 사용한 토큰으로도 응답을 돌려받음)
+            request.setAttribute(ADMITTED_TOKEN, token);
+        } else if (!queueRepository.isReady(token.eventId(), token.lane(), token.seq())) {
+            reject(response, ErrorCode.QUEUE_NOT_ADMITTED);
+            return;
+        }
+        request.setAttribute(ADMITTED_EVENT_ID, token.eventId());
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isReserve(String path) {
+        return path.equals(RESERVE_PATH) || path.startsWith(RESERVE_PATH + "/");
+    }
+
+    private String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private void reject(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), new ErrorResponse(errorCode));
+    }
+}
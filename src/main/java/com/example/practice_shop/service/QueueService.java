@@ -1,18 +1,20 @@
 package com.example.practice_shop.service;
 
+import com.example.practice_shop.constant.UserGrade;
 import com.example.practice_shop.dtos.queue.QueueEnterResponse;
 import com.example.practice_shop.dtos.queue.QueueStatusResponse;
+import com.example.practice_shop.repository.QueueEntry;
+import com.example.practice_shop.repository.QueueWatermark;
+import com.example.practice_shop.service.queue.QueueLanePolicy;
+import com.example.practice_shop.service.queue.QueueNotifier;
+import com.example.practice_shop.service.queue.QueueToken;
+import com.example.practice_shop.service.queue.QueueTokenCodec;
+import com.example.practice_shop.service.queue.QueueWatermarkCache;
 import java.time.Duration;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -23,35 +25,37 @@ public class QueueService {
      * 데이터 접근은 QueueRepository를 통해 수행합니다.
      */
     private static final Duration READY_TTL = Duration.ofMinutes(5); // 허용 토큰 유지 시간
-    private static final int DEFAULT_ALLOW_PER_TICK = 300; // 허용 토큰 수
+    private static final Duration COUNTER_TTL = Duration.ofHours(2); // 대기열/일련번호/누적 허용 수/워터마크 유지 시간 (대기 + 입장 허용 시간, 토큰 유효 시간 이상)
 
     private final com.example.practice_shop.repository.QueueRepository queueRepository;
+    private final QueueNotifier queueNotifier;
+    private final QueueWatermarkCache queueWatermarkCache;
+    private final QueueTokenCodec queueTokenCodec;
+    private final QueueLanePolicy queueLanePolicy;
 
     /**
      * 대기열에 입장합니다.
+     * 로그인 사용자는 회원 등급 레인에, 비로그인 사용자는 BASIC 레인에 들어갑니다.
      * @param eventId
      * @param userId
+     * @param authenticatedEmail 로그인 사용자 이메일 (비로그인이면 null)
      * @return
      */
-    public QueueEnterResponse enter(Long eventId, String userId) {
-        String token = UUID.randomUUID().toString();
-        long now = System.currentTimeMillis();
+    public QueueEnterResponse enter(Long eventId, String userId, String authenticatedEmail) {
+        UserGrade lane = queueLanePolicy.laneFor(authenticatedEmail);
+        // 일련번호 발급 + 레인 대기열 등록 + 순번 조회를 한 번의 Redis 왕복으로 처리합니다.
+        QueueEntry entry = queueRepository.enter(eventId, lane, COUNTER_TTL);
+
+        // 토큰 정보는 Redis에 저장하지 않고 서명된 토큰 안에 담습니다.
+        QueueToken queueToken = new QueueToken(eventId, lane, entry.seq(), System.currentTimeMillis(),
+                userId != null ? userId : QueueToken.ANONYMOUS);
 
-        queueRepository.addToQueue(eventId, token, now);
-        
-        Map<String, String> meta = Map.of(
-                "eventId", eventId.toString(),
-                "userId", userId != null ? userId : "anonymous",
-                "createdAt", Long.toString(now)
-        );
-        queueRepository.saveTokenMeta(token, meta);
-
-        Long rank = queueRepository.getRank(eventId, token);
-        long position = rank == null ? -1 : rank + 1;
-        
         return QueueEnterResponse.builder()
-                .token(token)
-                .position(position)
+                .token(queueTokenCodec.issue(queueToken))
+                .readyChannel(queueTokenCodec.readyChannel(eventId, lane, entry.seq()))
+                .lane(lane)
+                .position(entry.rank() + 1)
+                .admittedTotal(entry.admittedTotal())
                 .build();
     }
 
@@ -61,52 +65,108 @@ public class QueueService {
      * @return
      */
     public QueueStatusResponse status(String token) {
-        Map<Object, Object> meta = queueRepository.getTokenMeta(token);
-        if (CollectionUtils.isEmpty(meta)) {
-            throw new IllegalArgumentException("유효하지 않은 대기열 토큰입니다.");
-        }
-        Long eventId = Long.valueOf((String) meta.get("eventId"));
+        QueueToken queueToken = verify(token);
+        Long eventId = queueToken.eventId();
         
-        Long rank = queueRepository.getRank(eventId, token);
+        UserGrade lane = queueToken.lane();
+
+        Long rank = queueRepository.getRank(eventId, lane, queueToken.seq());
         long position = rank == null ? -1 : rank + 1;
-        boolean ready = queueRepository.isReady(eventId, token);
+        boolean ready = queueRepository.isReady(eventId, lane, queueToken.seq());
         
         return QueueStatusResponse.builder()
                 .ready(ready)
                 .position(position)
+                .lane(lane)
+                .admittedTotal(queueRepository.getAdmittedTotal(eventId, lane))
+                .etaSeconds(eta(position, queueWatermarkCache.get(eventId, lane)))
+                .approximate(false)
                 .build();
     }
 
     /**
-     * 이벤트에 입장 허용을 합니다.
-     * @param eventId
-     * @param allowCount
+     * 토큰의 대략적인 상태를 조회합니다.
+     * 대기열 ZSET을 보지 않고, 서명된 토큰의 일련번호와 캐시된 워터마크의 차이로 순번을 계산합니다.
+     * 순번과 예상 대기 시간은 토큰 레인 기준입니다.
+     * 중간에 이탈한 인원은 반영되지 않으므로 실제 순번보다 조금 클 수 있습니다.
+     * @param token
+     * @return
+     */
+    public QueueStatusResponse approximateStatus(String token) {
+        QueueToken queueToken = verify(token);
+        Long eventId = queueToken.eventId();
+        UserGrade lane = queueToken.lane();
+        long seq = queueToken.seq();
+
+        QueueWatermark watermark = queueWatermarkCache.get(eventId, lane);
+        boolean admitted = seq <= watermark.seq();
+        long position = admitted ? -1 : seq - watermark.seq();
+        // 워터마크를 지난 토큰만 실제 허용/만료 여부를 확인합니다.
+        boolean ready = admitted && queueRepository.isReady(eventId, lane, seq);
+
+        return QueueStatusResponse.builder()
+                .ready(ready)
+                .position(position)
+                .lane(lane)
+                .etaSeconds(eta(position, watermark))
+                .approximate(true)
+                .build();
+    }
+
+    /**
+     * 토큰 서명을 검증합니다. (Redis 조회 없음)
+     * @param token
+     * @return
      */
-    public void allowEntriesForEvent(Long eventId, int allowCount) {
-        Set<String> tokens = queueRepository.getTokensInRange(eventId, 0, allowCount - 1);
-        if (tokens == null || tokens.isEmpty()) {
-            return;
+    private QueueToken verify(String token) {
+        return queueTokenCodec.verify(token)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 대기열 토큰입니다."));
+    }
+
+    /**
+     * 순번과 초당 입장 허용 수로 예상 대기 시간을 계산합니다.
+     * @param position
+     * @param watermark
+     * @return 예상 대기 시간(초), 알 수 없으면 -1
+     */
+    private long eta(long position, QueueWatermark watermark) {
+        if (position < 0) {
+            return 0;
         }
-        tokens.forEach(token -> {
-            queueRepository.removeFromQueue(eventId, token);
-            queueRepository.markReady(eventId, token, READY_TTL);
-        });
+        if (watermark.ratePerSecond() <= 0) {
+            return -1;
+        }
+        return (long) Math.ceil(position / watermark.ratePerSecond());
     }
 
     /**
-     * 큐 키 목록을 가져옵니다.
-     * Repository의 SCAN 기능을 사용합니다.
-     * @return 큐 키 목록
+     * 이벤트에 입장 허용을 합니다.
+     * 대기열 앞쪽 allowCount명을 꺼내 허용하는 작업을 Redis 스크립트 한 번으로 처리하므로
+     * 여러 노드의 워커가 동시에 실행해도 같은 토큰을 두 번 허용하지 않고,
+     * 이벤트 담당 lease를 가진 노드만 실제로 입장 허용합니다.
+     * 레인(회원 등급) 사이에서는 가중치에 따라 라운드 로빈으로 나눠 허용합니다.
+     * 허용된 토큰과 이벤트 구독자에게는 WebSocket으로 바로 알립니다.
+     * @param eventId
+     * @param nodeId 호출한 노드 ID
+     * @param allowCount
+     * @return 입장 허용한 토큰 수
      */
-    public Set<String> listQueueKeys() {
-        return queueRepository.scanQueueKeys(100);
+    public long allowEntriesForEvent(Long eventId, String nodeId, int allowCount) {
+        List<String> admitted = queueRepository.admitBatch(eventId, nodeId, allowCount, queueLanePolicy.weights(),
+                READY_TTL, COUNTER_TTL);
+        if (!admitted.isEmpty()) {
+            queueNotifier.notifyReady(eventId, admitted, System.currentTimeMillis() + READY_TTL.toMillis());
+            queueNotifier.publishProgress(eventId, queueRepository.getProgress(eventId));
+        }
+        return admitted.size();
     }
 
     /**
-     * 기본 허용 수를 가져옵니다.
-     * @return
+     * 대기자가 있는 이벤트 ID 목록을 가져옵니다.
+     * 진입/소진 시 관리되는 활성 대기열 목록을 읽으므로 키 공간 전체를 스캔하지 않습니다.
+     * @return 이벤트 ID 목록
      */
-    public int defaultAllowCount() {
-        return DEFAULT_ALLOW_PER_TICK;
+    public Set<Long> activeEventIds() {
+        return queueRepository.findActiveEventIds();
     }
 }
@@ -1,51 +1,120 @@
 package com.example.practice_shop.service;
 
+import com.example.practice_shop.service.queue.AdmissionController;
+import com.example.practice_shop.service.queue.BackendHealthSampler;
+import com.example.practice_shop.service.queue.QueueNodeRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
 /**
- * 대기열에서 일정 수의 사용자를 입장 처리하는 간단한 워커입니다.
- * 운영 시 이벤트별 허용량/시간대를 조절할 수 있도록 확장하세요.
+ * 대기열에서 사용자를 입장 처리하는 워커입니다.
+ * 대기자가 있는 이벤트마다 입장 작업을 따로 예약하므로, 한 이벤트의 처리가 늦어져도 다른 이벤트가 밀리지 않고
+ * 스케줄링 비용은 활성 이벤트 수에만 비례합니다.
+ * 여러 노드가 떠 있으면 이벤트마다 한 노드만 담당하므로(QueueNodeRegistry) 노드 수만큼 입장 속도가 늘어나지 않습니다.
+ * 이벤트별 허용 수는 AdmissionController가 예매 경로 상태에 맞춰 정하며, 대기열이 비거나 담당이 넘어간 이벤트의 조절 상태는 버립니다.
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class QueueWorker {
 
+    private static final Duration ADMIT_INTERVAL = Duration.ofSeconds(2);
+
     private final QueueService queueService;
+    private final AdmissionController admissionController;
+    private final BackendHealthSampler backendHealthSampler;
+    private final QueueNodeRegistry queueNodeRegistry;
+    private final ThreadPoolTaskScheduler scheduler;
+
+    private final Map<Long, ScheduledFuture<?>> eventTasks = new ConcurrentHashMap<>();
+
+    public QueueWorker(QueueService queueService,
+                       AdmissionController admissionController,
+                       BackendHealthSampler backendHealthSampler,
+                       QueueNodeRegistry queueNodeRegistry,
+                       @Value("${queue.worker.threads:4}") int threads) {
+        this.queueService = queueService;
+        this.admissionController = admissionController;
+        this.backendHealthSampler = backendHealthSampler;
+        this.queueNodeRegistry = queueNodeRegistry;
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(threads);
+        this.scheduler.setThreadNamePrefix("queue-admit-");
+        this.scheduler.initialize();
+    }
 
     /**
-     * 주기적으로 큐를 스캔해 이벤트별로 일정 수량을 입장 허용한다.
-     * 운영 정책에 맞게 allowEntriesForEvent 호출 파라미터를 확장하면 된다.
+     * 활성 대기열 목록 중 이 노드가 담당할 이벤트의 입장 작업을 시작하고, 나머지는 멈춥니다.
      */
-    @Scheduled(fixedDelay = 2000)
-    public void allowEntries() {
-        Set<String> queueKeys = queueService.listQueueKeys();
-        if (queueKeys == null || queueKeys.isEmpty()) {
+    @Scheduled(fixedDelay = 1000)
+    public void syncEventTasks() {
+        Set<Long> ownedEventIds;
+        try {
+            Set<String> liveNodes = queueNodeRegistry.heartbeat();
+            ownedEventIds = new HashSet<>();
+            for (Long eventId : queueService.activeEventIds()) {
+                if (queueNodeRegistry.isPreferredOwner(eventId, liveNodes)) {
+                    ownedEventIds.add(eventId);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to read active queues", e);
             return;
         }
-        queueKeys.forEach(key -> {
-            try {
-                Long eventId = extractEventId(key);
-                queueService.allowEntriesForEvent(eventId, queueService.defaultAllowCount());
-            } catch (Exception ignored) {
-                // 키 파싱 실패 등은 건너뜁니다.
+
+        ownedEventIds.forEach(eventId -> eventTasks.computeIfAbsent(eventId,
+                id -> scheduler.scheduleWithFixedDelay(() -> admit(id), ADMIT_INTERVAL)));
+        eventTasks.entrySet().removeIf(entry -> {
+            if (ownedEventIds.contains(entry.getKey())) {
+                return false;
             }
+            entry.getValue().cancel(false);
+            release(entry.getKey());
+            admissionController.forget(entry.getKey());
+            return true;
         });
     }
 
     /**
-     * 큐 키에서 이벤트 ID를 추출합니다.
-     * @param key
-     * @return
+     * 이벤트 하나의 대기열 앞쪽을 입장 허용합니다.
+     * 이전 담당 노드가 lease를 반납하거나 lease가 끝날 때까지는 아무것도 하지 않습니다.
+     * @param eventId 이벤트 ID
      */
-    private Long extractEventId(String key) {
-        // key 형식: queue:{eventId}
-        int idx = key.indexOf(":");
-        if (idx < 0 || idx + 1 >= key.length()) {
-            throw new IllegalArgumentException("Invalid queue key: " + key);
+    private void admit(Long eventId) {
+        try {
+            if (!queueNodeRegistry.acquire(eventId)) {
+                return;
+            }
+            int batch = admissionController.nextBatch(eventId, backendHealthSampler.sample());
+            long admitted = batch > 0 ? queueService.allowEntriesForEvent(eventId, queueNodeRegistry.getNodeId(), batch) : 0;
+            admissionController.recordAdmitted(eventId, admitted);
+        } catch (Exception e) {
+            // 예외가 밖으로 나가면 예약된 작업이 멈추므로 여기서 처리합니다.
+            log.error("Failed to admit queue entries for event {}", eventId, e);
+        }
+    }
+
+    private void release(Long eventId) {
+        try {
+            queueNodeRegistry.release(eventId);
+        } catch (Exception e) {
+            // lease가 끝나면 다른 노드가 이어받습니다.
+            log.warn("Failed to release queue ownership for event {}", eventId, e);
         }
-        return Long.parseLong(key.substring(idx + 1));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        eventTasks.keySet().forEach(this::release);
     }
 }
@@ -0,0 +1,69 @@
+package com.example.practice_shop.service;
+
+import com.example.practice_shop.constant.ReservationStatus;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.entity.Reservation;
+import com.example.practice_shop.entity.SeatInventory;
+import com.example.practice_shop.repository.ReservationRepository;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import com.example.practice_shop.service.seat.SeatClaimStrategyResolver;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 기한이 지난 PENDING_PAYMENT 예약을 취소하고 좌석을 반환합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationExpiryService {
+
+    private final ReservationRepository reservationRepository;
+    private final SeatInventoryRepository seatInventoryRepository;
+    private final SeatClaimStrategyResolver seatClaimStrategyResolver;
+    private final SeatRealtimeService seatRealtimeService;
+
+    /**
+     * 기준 시각 이전에 생성된 결제 대기 예약을 최대 batchSize건 취소합니다.
+     * <p>
+     * 1. (status, reserved_at) 인덱스로 오래된 예약부터 잠금과 함께 조회합니다. 결제 승인/취소 중인 예약은 건너뜁니다.
+     * 2. 예약 취소와 좌석 반환을 각각 한 번의 UPDATE로 처리합니다. (엔티티별 Dirty Checking 없음)
+     * 3. 반환된 좌석은 회차별로 묶어 한 번씩 브로드캐스트합니다.
+     * </p>
+     * @param cutoff 이 시각 이전에 생성된 예약이 대상
+     * @param batchSize 한 번에 처리할 최대 예약 수
+     * @return 취소한 예약 수
+     */
+    @Transactional
+    public int expireBatch(LocalDateTime cutoff, int batchSize) {
+        List<Reservation> stale = reservationRepository.findStaleWithLock(
+                ReservationStatus.PENDING_PAYMENT, cutoff, PageRequest.of(0, batchSize));
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> reservationIds = stale.stream().map(Reservation::getId).toList();
+        List<SeatInventory> inventories = seatInventoryRepository.findAllByReservationIdIn(reservationIds);
+
+        reservationRepository.updateStatus(reservationIds, ReservationStatus.CANCELLED);
+        if (!inventories.isEmpty()) {
+            seatInventoryRepository.releaseSeats(inventories.stream().map(SeatInventory::getId).toList(), SeatStatus.AVAILABLE);
+        }
+
+        Map<Long, List<SeatInventory>> byShowtime = inventories.stream()
+                .collect(Collectors.groupingBy(inv -> inv.getShowtime().getId(), LinkedHashMap::new, Collectors.toList()));
+        byShowtime.forEach((showtimeId, released) -> {
+            // 벌크 UPDATE 결과를 브로드캐스트용 객체에도 반영합니다.
+            released.forEach(inventory -> inventory.setStatus(SeatStatus.AVAILABLE));
+            seatClaimStrategyResolver.resolve(released.get(0).getShowtime().getSeatClaimMode()).release(showtimeId, released);
+            seatRealtimeService.broadcastSeatStatuses(showtimeId, released);
+        });
+        return stale.size();
+    }
+}
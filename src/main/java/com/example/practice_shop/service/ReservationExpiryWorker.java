@@ -0,0 +1,52 @@
+package com.example.practice_shop.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 기한이 지난 예약을 주기적으로 정리하는 워커입니다.
+ * 한 번에 너무 많은 행을 잠그지 않도록 묶음 단위로 나눠 처리합니다.
+ */
+@Slf4j
+@Component
+public class ReservationExpiryWorker {
+
+    private static final int BATCH_SIZE = 200;          // 트랜잭션 하나에서 취소할 최대 예약 수
+    private static final int MAX_BATCHES_PER_RUN = 20;  // 한 주기에 처리할 최대 묶음 수
+
+    private final ReservationExpiryService reservationExpiryService;
+    private final Duration paymentTimeout;
+
+    public ReservationExpiryWorker(ReservationExpiryService reservationExpiryService,
+                                   @Value("${ticketing.reservation.payment-timeout:10m}") Duration paymentTimeout) {
+        this.reservationExpiryService = reservationExpiryService;
+        this.paymentTimeout = paymentTimeout;
+    }
+
+    /**
+     * 결제 기한이 지난 예약을 취소하고 좌석을 반환합니다.
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void expireStaleReservations() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(paymentTimeout);
+        int total = 0;
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int expired = reservationExpiryService.expireBatch(cutoff, BATCH_SIZE);
+                total += expired;
+                if (expired < BATCH_SIZE) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to expire pending reservations", e);
+        }
+        if (total > 0) {
+            log.info("Expired {} pending reservations older than {}", total, cutoff);
+        }
+    }
+}
@@ -1,30 +1,102 @@
 package com.example.practice_shop.service;
 
+import com.example.practice_shop.dtos.ticketing.SeatChangesResponse;
 import com.example.practice_shop.dtos.ticketing.SeatStatusMessage;
 import com.example.practice_shop.entity.SeatInventory;
+import com.example.practice_shop.service.seat.SeatBroadcastRelay;
+import com.example.practice_shop.service.seat.SeatDeltaLog;
+import com.example.practice_shop.service.seat.SeatSnapshotCache;
+import com.example.practice_shop.service.seat.SeatStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 좌석 상태 변경을 회차별로 모아 WebSocket으로 브로드캐스팅합니다.
+ * <p>
+ * 1. 트랜잭션 안에서는 SeatStatusChangedEvent만 발행하고, 커밋된 뒤에 회차 버퍼에 넣습니다. 롤백되면 버려집니다.
+ * 2. 별도 스레드가 window마다 회차당 한 번씩 합쳐서 SeatBroadcastRelay로 발행합니다. 직렬화와 전송은 트랜잭션 밖에서 일어납니다.
+ *    발행된 메시지는 Redis를 거쳐 모든 노드의 구독자에게 전달됩니다.
+ * 3. 같은 좌석이 window 안에서 여러 번 바뀌면 마지막 상태만 보냅니다.
+ * 4. 회차 버퍼가 max-pending-seats를 넘으면 내용을 버리고 resync 메시지로 스냅샷을 다시 받게 합니다.
+ * </p>
+ * 따라서 구독자에게 가는 메시지 수는 예매/취소 건수가 아니라 flush 주기에 비례하고, 버퍼 메모리도 제한됩니다.
+ * 메시지마다 회차별 일련번호가 붙고(SeatDeltaLog), 놓친 구간은 changesSince로 따라잡을 수 있습니다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class SeatRealtimeService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SeatBroadcastRelay seatBroadcastRelay;
+    private final SeatDeltaLog seatDeltaLog;
+    private final SeatSnapshotCache seatSnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxPendingSeats;
+    private final ScheduledExecutorService flusher;
+
+    // 회차 ID -> 보낼 변경. 회차 단위 교체는 ConcurrentHashMap의 compute/remove로 원자적으로 처리합니다.
+    private final Map<Long, PendingFrame> pending = new ConcurrentHashMap<>();
+
+    public SeatRealtimeService(SeatBroadcastRelay seatBroadcastRelay,
+                               SeatDeltaLog seatDeltaLog,
+                               SeatSnapshotCache seatSnapshotCache,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${ticketing.seat-broadcast.window:50ms}") Duration window,
+                               @Value("${ticketing.seat-broadcast.max-pending-seats:5000}") int maxPendingSeats) {
+        this.seatBroadcastRelay = seatBroadcastRelay;
+        this.seatDeltaLog = seatDeltaLog;
+        this.seatSnapshotCache = seatSnapshotCache;
+        this.eventPublisher = eventPublisher;
+        this.maxPendingSeats = maxPendingSeats;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, window.toMillis(), window.toMillis(), TimeUnit.MILLISECONDS);
+    }
 
     /**
      * 좌석 상태를 브로드캐스팅합니다.
+     * 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 회차 버퍼에 넣으며, 다음 flush 때 합쳐서 보냅니다.
      * @param showtimeId
      * @param inventories
      */
     public void broadcastSeatStatuses(Long showtimeId, List<SeatInventory> inventories) {
-        SeatStatusMessage message = SeatStatusMessage.builder()
-                .showtimeId(showtimeId)
-                .seats(inventories.stream().map(this::toSeatStatusItem).toList())
-                .build();
+        if (inventories.isEmpty()) {
+            return;
+        }
+        // 엔티티 연관 관계를 읽어야 하므로 변환은 호출한 스레드(트랜잭션 안)에서 합니다.
+        List<SeatStatusMessage.SeatStatusItem> items = inventories.stream().map(this::toSeatStatusItem).toList();
+        eventPublisher.publishEvent(new SeatStatusChangedEvent(showtimeId, items));
+    }
 
-        messagingTemplate.convertAndSend(topic(showtimeId), message);
+    /**
+     * 커밋된 좌석 변경을 회차 버퍼에 합칩니다.
+     * 커밋한 스레드에서 실행되므로 맵 갱신만 하고, 직렬화와 전송은 flush 스레드에 맡깁니다.
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        pending.compute(event.showtimeId(), (id, frame) -> {
+            PendingFrame merged = frame != null ? frame : new PendingFrame();
+            merged.merge(event.seats(), maxPendingSeats);
+            return merged;
+        });
     }
 
     /**
@@ -38,6 +110,102 @@ public class SeatRealtimeService {
         broadcastSeatStatuses(inventory.getShowtime().getId(), List.of(inventory));
     }
 
+    /**
+     * 회차의 모든 구독자와 노드별 스냅샷 캐시가 좌석 전체 상태를 다시 받게 합니다.
+     * 좌석을 읽지 않고 resync 메시지 하나만 보내므로, 좌석 수와 관계없이 비용이 일정합니다.
+     * @param showtimeId
+     */
+    public void requestResync(Long showtimeId) {
+        pending.compute(showtimeId, (id, frame) -> {
+            PendingFrame marked = frame != null ? frame : new PendingFrame();
+            marked.markResync();
+            return marked;
+        });
+    }
+
+    /**
+     * 회차 전체 좌석 상태를 조회합니다. 스냅샷 캐시에서 읽으므로 판매 중에도 DB를 조회하지 않습니다.
+     * @param showtimeId
+     * @return
+     */
+    public SeatChangesResponse snapshot(Long showtimeId) {
+        SeatSnapshotCache.SeatSnapshot snapshot = seatSnapshotCache.snapshot(showtimeId);
+        return SeatChangesResponse.builder()
+                .showtimeId(showtimeId)
+                .seq(snapshot.seq())
+                .snapshot(true)
+                .seats(snapshot.seats())
+                .build();
+    }
+
+    /**
+     * 버퍼에 쌓인 회차별 변경을 한 메시지씩 발행합니다. 일련번호는 발행하면서 정해집니다.
+     */
+    private void flush() {
+        for (Long showtimeId : new ArrayList<>(pending.keySet())) {
+            PendingFrame frame = pending.remove(showtimeId);
+            if (frame == null || (!frame.resync && frame.seats.isEmpty())) {
+                continue;
+            }
+            try {
+                if (frame.resync) {
+                    seatBroadcastRelay.publish(SeatStatusMessage.builder()
+                            .showtimeId(showtimeId)
+                            .resync(true)
+                            .seats(List.of())
+                            .build());
+                    continue;
+                }
+                seatBroadcastRelay.publish(SeatStatusMessage.builder()
+                        .showtimeId(showtimeId)
+                        .seats(new ArrayList<>(frame.seats.values()))
+                        .build());
+            } catch (Exception e) {
+                // 예외가 밖으로 나가면 예약된 flush가 멈추므로 여기서 처리합니다.
+                // 발행에 실패하면 번호도 발급되지 않아 구독자가 알 수 없으므로, 버퍼에 되돌려 다음 flush 때 다시 보냅니다.
+                log.error("Failed to broadcast seat statuses for showtime {}", showtimeId, e);
+                pending.compute(showtimeId, (id, newer) -> {
+                    if (newer != null) {
+                        frame.absorb(newer, maxPendingSeats);
+                    }
+                    return frame;
+                });
+            }
+        }
+    }
+
+    /**
+     * since 이후의 좌석 변경을 조회합니다.
+     * 링 버퍼에 남아 있지 않은 구간이면 회차 전체 좌석 스냅샷을 돌려줍니다. (스냅샷 캐시)
+     * @param showtimeId
+     * @param since 클라이언트가 마지막으로 받은 일련번호 (null이면 스냅샷)
+     * @return
+     */
+    public SeatChangesResponse changesSince(Long showtimeId, Long since) {
+        Optional<SeatDeltaLog.SeatDelta> delta = since != null ? seatDeltaLog.since(showtimeId, since) : Optional.empty();
+        if (delta.isPresent()) {
+            return SeatChangesResponse.builder()
+                    .showtimeId(showtimeId)
+                    .seq(delta.get().seq())
+                    .snapshot(false)
+                    .seats(delta.get().seats())
+                    .build();
+        }
+
+        return snapshot(showtimeId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
     /**
      * 좌석 상태를 SeatStatusMessage.SeatStatusItem으로 변환합니다.
      * @param inventory
@@ -56,11 +224,35 @@ public class SeatRealtimeService {
     }
 
     /**
-     * 좌석 상태를 브로드캐스팅할 토픽을 반환합니다.
-     * @param showtimeId
-     * @return
+     * 회차 하나의 보낼 변경입니다. pending.compute 안에서만 수정됩니다.
      */
-    private String topic(Long showtimeId) {
-        return "/topic/seat/" + showtimeId;
+    private static final class PendingFrame {
+        private final Map<Long, SeatStatusMessage.SeatStatusItem> seats = new LinkedHashMap<>();
+        private boolean resync;
+
+        private void merge(List<SeatStatusMessage.SeatStatusItem> items, int maxSeats) {
+            if (resync) {
+                return;
+            }
+            items.forEach(item -> seats.put(item.getSeatInventoryId(), item));
+            if (seats.size() > maxSeats) {
+                // 보내지 못할 만큼 쌓이면 내용을 버리고 구독자가 스냅샷으로 다시 맞추게 합니다.
+                log.warn("Seat broadcast buffer overflowed, asking subscribers to resync");
+                markResync();
+            }
+        }
+
+        private void markResync() {
+            seats.clear();
+            resync = true;
+        }
+
+        private void absorb(PendingFrame newer, int maxSeats) {
+            if (newer.resync) {
+                markResync();
+                return;
+            }
+            merge(new ArrayList<>(newer.seats.values()), maxSeats);
+        }
     }
 }
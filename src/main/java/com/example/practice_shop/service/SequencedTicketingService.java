@@ -0,0 +1,95 @@
+package com.example.practice_shop.service;
+
+import com.example.practice_shop.constant.ReservationStatus;
+import com.example.practice_shop.constant.SeatClaimMode;
+import com.example.practice_shop.dtos.common.CursorPageResponse;
+import com.example.practice_shop.dtos.ticketing.ReservationResponse;
+import com.example.practice_shop.dtos.ticketing.SeatSelectionRequest;
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.repository.ReservationRepository;
+import com.example.practice_shop.repository.ShowtimeRepository;
+import com.example.practice_shop.service.queue.ReservationLatencyTracker;
+import com.example.practice_shop.service.seat.ReservationSequencer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * SEQUENCED 방식 회차의 예매/취소를 회차 샤드로 보내는 TicketingService입니다.
+ * 다른 방식의 회차와 조회/결제는 TicketingServiceImpl을 그대로 호출합니다.
+ */
+@Primary
+@Service
+@RequiredArgsConstructor
+public class SequencedTicketingService implements TicketingService {
+
+    private final TicketingServiceImpl ticketingService;
+    private final ReservationSequencer reservationSequencer;
+    private final ShowtimeRepository showtimeRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationLatencyTracker reservationLatencyTracker;
+
+    // 회차의 선점 방식은 생성 후 바뀌지 않으므로 회차당 한 번만 조회합니다. (예매/취소마다 DB 조회 없음)
+    private final Map<Long, SeatClaimMode> claimModes = new ConcurrentHashMap<>();
+
+    @Override
+    public ReservationResponse createReservation(String email, SeatSelectionRequest request) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            Long showtimeId = request.getShowtimeId();
+            if (!isSequenced(showtimeId)) {
+                return ticketingService.createReservation(email, request);
+            }
+            return reservationSequencer.execute(showtimeId, () -> ticketingService.createReservation(email, request));
+        } finally {
+            // 대기열 입장 속도 조절에 사용합니다.
+            reservationLatencyTracker.record(System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    @Override
+    public List<ReservationResponse> getUserReservations(String email) {
+        return ticketingService.getUserReservations(email);
+    }
+
+    @Override
+    public CursorPageResponse<ReservationResponse> getUserReservationPage(String email, Long cursor, int size) {
+        return ticketingService.getUserReservationPage(email, cursor, size);
+    }
+
+    @Override
+    public void cancelReservation(String email, Long reservationId) {
+        Long showtimeId = reservationRepository.findShowtimeIdById(reservationId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
+        if (!isSequenced(showtimeId)) {
+            ticketingService.cancelReservation(email, reservationId);
+            return;
+        }
+        reservationSequencer.execute(showtimeId, () -> {
+            ticketingService.cancelReservation(email, reservationId);
+            return null;
+        });
+    }
+
+    @Override
+    public ReservationStatus confirmPayment(String orderId, String paymentKey, Long amount) {
+        return ticketingService.confirmPayment(orderId, paymentKey, amount);
+    }
+
+    private boolean isSequenced(Long showtimeId) {
+        SeatClaimMode mode = claimModes.get(showtimeId);
+        if (mode == null) {
+            // 없는 회차는 캐시하지 않습니다. 이후 처리에서 SHOWTIME_NOT_FOUND로 끝납니다.
+            mode = showtimeRepository.findSeatClaimModeById(showtimeId).orElse(null);
+            if (mode == null) {
+                return false;
+            }
+            claimModes.putIfAbsent(showtimeId, mode);
+        }
+        return mode == SeatClaimMode.SEQUENCED;
+    }
+}
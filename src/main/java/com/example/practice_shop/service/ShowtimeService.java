@@ -1,5 +1,6 @@
 package com.example.practice_shop.service;
 
+import com.example.practice_shop.constant.SeatClaimMode;
 import com.example.practice_shop.constant.ShowtimeStatus;
 import com.example.practice_shop.dtos.ticketing.ShowtimeRequest;
 import com.example.practice_shop.dtos.ticketing.ShowtimeResponse;
@@ -47,6 +48,7 @@ public class ShowtimeService {
                 .salesCloseAt(request.getSalesCloseAt())
                 .capacity(request.getCapacity())
                 .status(status)
+                .seatClaimMode(request.getSeatClaimMode() != null ? request.getSeatClaimMode() : SeatClaimMode.CONDITIONAL_UPDATE)
                 .build();
 
         Showtime savedShowtime = showtimeRepository.save(showtime);
@@ -109,6 +111,7 @@ public class ShowtimeService {
                 .salesCloseAt(showtime.getSalesCloseAt())
                 .capacity(showtime.getCapacity())
                 .status(showtime.getStatus())
+                .seatClaimMode(showtime.getSeatClaimMode())
                 .build();
     }
 }
@@ -1,5 +1,7 @@
 package com.example.practice_shop.service;
 
+import com.example.practice_shop.constant.ReservationStatus;
+import com.example.practice_shop.dtos.common.CursorPageResponse;
 import com.example.practice_shop.dtos.ticketing.ReservationResponse;
 import com.example.practice_shop.dtos.ticketing.SeatSelectionRequest;
 
@@ -8,6 +10,7 @@ import java.util.List;
 public interface TicketingService {
     ReservationResponse createReservation(String email, SeatSelectionRequest request);
     List<ReservationResponse> getUserReservations(String email);
+    CursorPageResponse<ReservationResponse> getUserReservationPage(String email, Long cursor, int size);
     void cancelReservation(String email, Long reservationId);
-    void confirmPayment(String orderId, String paymentKey, Long amount);
+    ReservationStatus confirmPayment(String orderId, String paymentKey, Long amount);
 }
\ No newline at end of file
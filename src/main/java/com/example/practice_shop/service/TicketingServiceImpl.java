@@ -11,14 +11,21 @@ import com.example.practice_shop.entity.Showtime;
 import com.example.practice_shop.entity.User;
 import com.example.practice_shop.exception.CustomException;
 import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.dtos.common.CursorPageResponse;
 import com.example.practice_shop.repository.ReservationRepository;
-import com.example.practice_shop.repository.SeatInventoryRepository;
+import com.example.practice_shop.repository.ReservationRepository.ReservationSummaryView;
+import com.example.practice_shop.repository.ReservationSeatRepository;
+import com.example.practice_shop.repository.ReservationSeatRepository.ReservationSeatDetailView;
 import com.example.practice_shop.repository.ShowtimeRepository;
 import com.example.practice_shop.repository.UserRepository;
-import com.example.practice_shop.repository.PaymentRepository; // Import Added
-import com.example.practice_shop.integration.toss.TossPaymentClient; // Import Added
+import com.example.practice_shop.constant.PaymentOutboxStatus;
+import com.example.practice_shop.service.payment.PaymentOutboxService;
+import com.example.practice_shop.service.seat.SeatClaimStrategyResolver;
+import com.example.practice_shop.service.seat.SeatHoldService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +33,7 @@ import java.time.LocalDateTime;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -33,13 +41,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TicketingServiceImpl implements TicketingService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final ShowtimeRepository showtimeRepository;
-    private final SeatInventoryRepository seatInventoryRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationSeatRepository reservationSeatRepository;
     private final SeatRealtimeService seatRealtimeService;
-    private final TossPaymentClient tossPaymentClient;
-    private final PaymentRepository paymentRepository;
+    private final PaymentOutboxService paymentOutboxService;
+    private final SeatClaimStrategyResolver seatClaimStrategyResolver;
+    private final SeatHoldService seatHoldService;
 
     /**
      * 예약을 생성합니다.
@@ -56,22 +67,12 @@ public class TicketingServiceImpl implements TicketingService {
         Showtime showtime = showtimeRepository.findById(request.getShowtimeId())
                 .orElseThrow(() -> new CustomException(ErrorCode.SHOWTIME_NOT_FOUND));
 
-        List<SeatInventory> selectedInventories = seatInventoryRepository.findAllBySeatIdInAndShowtimeIdWithLock(request.getSeatIds(), showtime.getId());
-
-        if (selectedInventories.size() != request.getSeatIds().size()) {
-            throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
-        }
-
-        // 좌석이 이미 예약되었는지 확인
-        // JPA Dirty Checking: 영속성 컨텍스트에서 관리되는 엔티티는
-        // 트랜잭션 커밋 시 자동으로 변경사항이 DB에 반영됩니다.
-        for (SeatInventory inventory : selectedInventories) {
-            if (inventory.getStatus() != SeatStatus.AVAILABLE) {
-                throw new CustomException(ErrorCode.SEAT_ALREADY_RESERVED);
-            }
-            inventory.setStatus(SeatStatus.RESERVED); // 좌석 상태를 '예약됨'으로 변경
-        }
-        // Dirty Checking으로 트랜잭션 종료 시 자동 반영되므로 saveAll() 불필요
+        // 본인이 선점(HOLD)한 좌석이면 예매로 전환하고,
+        // 아니면 회차에 설정된 방식(조건부 UPDATE / DB 행 잠금 / Redis 스크립트 / 메모리)으로 좌석을 일괄 선점합니다.
+        List<SeatInventory> selectedInventories = Boolean.TRUE.equals(request.getFromHold())
+                ? seatHoldService.promote(user, showtime, request.getSeatIds())
+                : seatClaimStrategyResolver.resolve(showtime.getSeatClaimMode())
+                        .claim(showtime, request.getSeatIds(), SeatStatus.RESERVED);
 
         BigDecimal totalPrice = selectedInventories.stream()
                 .map(inv -> inv.getSeat().getBasePrice())
@@ -99,7 +100,7 @@ public class TicketingServiceImpl implements TicketingService {
 
         Reservation savedReservation = reservationRepository.save(reservation);
 
-        // WebSocket으로 좌석 상태 브로드캐스트
+        // WebSocket으로 좌석 상태 브로드캐스트 (커밋된 뒤에 전송)
         seatRealtimeService.broadcastSeatStatuses(showtime.getId(), selectedInventories);
 
         return toResponse(savedReservation);
@@ -113,10 +114,40 @@ public class TicketingServiceImpl implements TicketingService {
     @Override
     @Transactional(readOnly = true)
     public List<ReservationResponse> getUserReservations(String email) {
-        List<Reservation> reservations = reservationRepository.findByUser_Email(email);
-        return reservations.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(reservationRepository.findSummariesByUserEmail(email, Pageable.unpaged()));
+    }
+
+    /**
+     * 사용자의 예약 목록을 최신순으로 한 페이지씩 조회합니다.
+     * <p>
+     * 예약 ID를 커서로 사용하는 키셋 페이지네이션이라 뒤 페이지도 OFFSET 없이 인덱스(user_id, id)로 바로 찾습니다.
+     * 페이지 크기와 관계없이 쿼리는 두 번(예약 요약 + 좌석 정보)만 실행됩니다.
+     * </p>
+     * @param email 사용자 이메일
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (최대 100)
+     * @return 예약 목록 페이지
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ReservationResponse> getUserReservationPage(String email, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest limit = PageRequest.of(0, pageSize + 1); // 다음 페이지가 있는지 확인하기 위해 하나 더 조회
+        List<ReservationSummaryView> summaries = cursor == null
+                ? reservationRepository.findSummariesByUserEmail(email, limit)
+                : reservationRepository.findSummariesByUserEmailBefore(email, cursor, limit);
+
+        boolean hasNext = summaries.size() > pageSize;
+        if (hasNext) {
+            summaries = summaries.subList(0, pageSize);
+        }
+        List<ReservationResponse> content = toResponses(summaries);
+        return CursorPageResponse.<ReservationResponse>builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(hasNext ? summaries.get(summaries.size() - 1).getReservationId() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
@@ -132,23 +163,21 @@ public class TicketingServiceImpl implements TicketingService {
     @Override
     @Transactional
     public void cancelReservation(String email, Long reservationId) {
-        Reservation reservation = reservationRepository.findByIdAndUser_Email(reservationId, email)
+        // 만료 워커/결제 승인과 동시에 처리되지 않도록 예약 행을 잠급니다.
+        Reservation reservation = reservationRepository.findByIdAndUserEmailWithLock(reservationId, email)
                 .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
 
         if (reservation.getStatus() == ReservationStatus.CANCELLED) {
             throw new CustomException(ErrorCode.ALREADY_CANCELLED_RESERVATION);
         }
+        // 결제 승인 결과가 나오기 전에는 취소할 수 없습니다.
+        if (reservation.getStatus() == ReservationStatus.PAYMENT_IN_PROGRESS) {
+            throw new CustomException(ErrorCode.PAYMENT_PROCESSING);
+        }
 
-        // 결제 완료 상태라면 환불 처리
+        // 결제 완료 상태라면 환불 의도를 기록하고, 토스 결제 취소 API는 커밋 후 아웃박스 워커가 호출합니다.
         if (reservation.getStatus() == ReservationStatus.PAID && reservation.getPaymentKey() != null) {
-            // Toss Payments 결제 취소 API 호출
-            tossPaymentClient.cancelPayment(reservation.getPaymentKey(), "사용자 요청에 의한 취소");
-            
-            // Payment 엔티티 상태 업데이트 (옵션: 환불 이력 저장)
-            paymentRepository.findByReservation(reservation).ifPresent(p -> {
-                 p.setStatus(com.example.practice_shop.constant.PaymentStatus.REFUNDED);
-                 paymentRepository.save(p);
-            });
+            paymentOutboxService.enqueueRefund(reservation, "사용자 요청에 의한 취소");
         }
 
         reservation.setStatus(ReservationStatus.CANCELLED);
@@ -162,56 +191,69 @@ public class TicketingServiceImpl implements TicketingService {
             inventoriesToRelease.add(inventory);
         }
         // saveAll() 불필요: JPA Dirty Checking으로 트랜잭션 커밋 시 자동 반영
+        Showtime showtime = reservation.getShowtime();
+        seatClaimStrategyResolver.resolve(showtime.getSeatClaimMode())
+                .release(showtime.getId(), inventoriesToRelease);
 
-        // WebSocket으로 좌석 상태 브로드캐스트
-        seatRealtimeService.broadcastSeatStatuses(reservation.getShowtime().getId(), inventoriesToRelease);
+        // WebSocket으로 좌석 상태 브로드캐스트 (커밋된 뒤에 전송)
+        seatRealtimeService.broadcastSeatStatuses(showtime.getId(), inventoriesToRelease);
     }
 
     /**
      * 결제 승인 및 예매 확정.
      * <p>
-     * 프론트엔드에서 결제 승인 성공 후 호출됩니다.
-     * 1. 주문 ID로 예약 정보를 조회하고 결제 금액을 검증합니다.
-     * 2. Toss Payments에 최종 승인 요청을 보냅니다.
-     * 3. 예약 상태를 PAID로 변경하고 Payment 엔티티를 생성하여 저장합니다.
+     * 프론트엔드에서 결제 승인 성공 후 호출됩니다. 토스 호출 동안 DB 트랜잭션을 열어두지 않습니다.
+     * 1. 주문 ID로 예약 정보를 조회하고 결제 금액을 검증한 뒤, 승인 의도를 아웃박스에 기록하고 커밋합니다.
+     * 2. 트랜잭션 밖에서 Toss Payments에 최종 승인 요청을 보냅니다.
+     * 3. 예약 상태를 PAID로 변경하고 Payment 엔티티를 생성하여 저장합니다. (짧은 트랜잭션)
+     * 일시적인 오류로 승인하지 못하면 아웃박스 워커가 재시도하며, 그동안 예약은 PAYMENT_IN_PROGRESS로 남습니다.
+     * 같은 결제 키로 다시 호출하면(202 이후 재확인 등) 새로 승인하지 않고 현재 결과를 돌려줍니다.
      * </p>
      * @param orderId 주문 ID
      * @param paymentKey 결제 키
      * @param amount 결제 금액
+     * @return 승인 완료면 PAID, 아웃박스 워커가 재시도 중이면 PAYMENT_IN_PROGRESS
      */
     @Override
-    @Transactional
-    public void confirmPayment(String orderId, String paymentKey, Long amount) {
-        Reservation reservation = reservationRepository.findByOrderId(orderId)
-                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
-        
-        if (reservation.getTotalPrice() != amount) {
-             throw new CustomException(ErrorCode.INVALID_PAYMENT_AMOUNT);
+    public ReservationStatus confirmPayment(String orderId, String paymentKey, Long amount) {
+        // 같은 결제의 재시도면 PG를 다시 호출하지 않고 현재 결과를 돌려줍니다.
+        PaymentOutboxStatus status = paymentOutboxService.beginConfirm(orderId, paymentKey, amount)
+                .map(paymentOutboxService::execute)
+                .orElseGet(() -> paymentOutboxService.confirmStatus(orderId));
+        if (status == PaymentOutboxStatus.FAILED) {
+            throw new CustomException(ErrorCode.PAYMENT_FAILED);
         }
+        return status == PaymentOutboxStatus.PENDING ? ReservationStatus.PAYMENT_IN_PROGRESS : ReservationStatus.PAID;
+    }
 
-        // 토스 결제 승인 요청
-        com.example.practice_shop.dtos.Payment.TossPaymentConfirmRequest confirmRequest = new com.example.practice_shop.dtos.Payment.TossPaymentConfirmRequest();
-        confirmRequest.setPaymentKey(paymentKey);
-        confirmRequest.setOrderId(orderId);
-        confirmRequest.setAmount(amount);
-        
-        tossPaymentClient.confirmPayment(confirmRequest);
-
-        // 예매 상태 업데이트
-        reservation.setStatus(ReservationStatus.PAID);
-        reservation.setPaymentKey(paymentKey);
-        reservationRepository.save(reservation);
-
-        // Payment 엔티티 생성 및 저장
-        com.example.practice_shop.entity.Payment payment = com.example.practice_shop.entity.Payment.builder()
-                .reservation(reservation)
-                .amount(BigDecimal.valueOf(amount))
-                .status(com.example.practice_shop.constant.PaymentStatus.PAID)
-                .paymentMethod("CARD") // 상세 정보는 응답에서 가져와야 하지만 여기서는 간소화
-                .paymentGateway("TOSS")
-                .paymentKey(paymentKey)
-                .build();
-        paymentRepository.save(payment);
+    /**
+     * 예약 요약 목록을 ReservationResponse DTO로 변환합니다. 좌석 정보는 한 번의 쿼리로 함께 조회합니다.
+     * @param summaries
+     * @return
+     */
+    private List<ReservationResponse> toResponses(List<ReservationSummaryView> summaries) {
+        if (summaries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> reservationIds = summaries.stream().map(ReservationSummaryView::getReservationId).toList();
+        Map<Long, List<String>> seatDetails = reservationSeatRepository.findSeatDetailsByReservationIdIn(reservationIds).stream()
+                .collect(Collectors.groupingBy(ReservationSeatDetailView::getReservationId,
+                        Collectors.mapping(seat -> String.format("%s %s (%s)", seat.getRowLabel(), seat.getSeatNumber(), seat.getSeatType()),
+                                Collectors.toList())));
+
+        return summaries.stream()
+                .map(summary -> ReservationResponse.builder()
+                        .reservationId(summary.getReservationId())
+                        .eventName(summary.getEventName())
+                        .venueName(summary.getVenueName())
+                        .showtime(summary.getShowtime())
+                        .seatDetails(seatDetails.getOrDefault(summary.getReservationId(), List.of()))
+                        .totalPrice(summary.getTotalPrice())
+                        .status(summary.getStatus())
+                        .reservedAt(summary.getReservedAt())
+                        .orderId(summary.getOrderId())
+                        .build())
+                .collect(Collectors.toList());
     }
 
     /**
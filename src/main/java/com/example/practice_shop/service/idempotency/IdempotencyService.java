@@ -0,0 +1,202 @@
+package com.example.practice_shop.service.idempotency;
+
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.repository.IdempotencyRecord;
+import com.example.practice_shop.repository.IdempotencyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Idempotency-Key 헤더로 같은 요청의 재시도를 한 번만 실행합니다.
+ * <p>
+ * - 같은 노드에서 동시에 들어온 중복 요청은 먼저 들어온 요청의 결과를 함께 기다립니다. (single-flight)
+ * - 다른 노드의 중복 요청은 Redis의 IN_PROGRESS 표시로 막고, 처리가 끝난 뒤의 재시도는 저장된 응답을 돌려줍니다.
+ * - 실패한 요청과 최종 결과가 아닌 응답(예: 처리 중 202)은 결과를 남기지 않으므로 같은 키로 다시 시도할 수 있습니다.
+ * - 요청 본문의 해시를 키와 함께 저장해, 같은 키로 다른 내용의 요청이 오면 422로 거절합니다.
+ * </p>
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30); // 처리 중 서버가 죽어도 이 시간 뒤에는 재시도 가능
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration resultTtl;
+
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRepository idempotencyRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${idempotency.ttl:24h}") Duration resultTtl) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        this.resultTtl = resultTtl;
+    }
+
+    /**
+     * 멱등키 기준으로 요청을 한 번만 실행합니다. 키가 없으면 그대로 실행합니다.
+     * @param scope 요청 종류 (예: reserve)
+     * @param principal 요청한 사용자 (다른 사용자와 키가 겹쳐도 응답이 섞이지 않도록 구분)
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+     * @param payload 요청 본문 (같은 키의 재시도인지 확인하는 데 사용)
+     * @param type 응답 타입
+     * @param action 실제 처리
+     * @return 처리 결과 (재시도면 처음 처리한 결과)
+     */
+    public <T> T execute(String scope, String principal, String idempotencyKey, Object payload, Class<T> type, Supplier<T> action) {
+        return execute(scope, principal, idempotencyKey, payload, type, action, result -> true);
+    }
+
+    /**
+     * 멱등키 기준으로 요청을 한 번만 실행하되, 최종 결과일 때만 저장합니다.
+     * 최종 결과가 아니면 처리 중 표시를 지워 같은 키의 재시도가 다시 실행되도록 합니다.
+     * @param scope 요청 종류
+     * @param principal 요청한 사용자
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+     * @param payload 요청 본문
+     * @param type 응답 타입
+     * @param action 실제 처리
+     * @param isFinal 저장해도 되는 최종 결과인지 판단
+     * @return 처리 결과
+     */
+    public <T> T execute(String scope, String principal, String idempotencyKey, Object payload, Class<T> type,
+                         Supplier<T> action, Predicate<T> isFinal) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        String key = scope + ":" + principal + ":" + idempotencyKey;
+        String fingerprint = fingerprint(payload);
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        InFlight own = new InFlight(fingerprint, mine);
+        InFlight leader = inFlight.putIfAbsent(key, own);
+        if (leader != null) {
+            checkFingerprint(leader.fingerprint(), fingerprint);
+            return read(awaitLeader(leader.result()), type);
+        }
+
+        try {
+            Optional<String> cached = findOrBegin(key, fingerprint);
+            if (cached.isPresent()) {
+                mine.complete(cached.get());
+                return read(cached.get(), type);
+            }
+
+            T result;
+            try {
+                result = action.get();
+            } catch (RuntimeException e) {
+                idempotencyRepository.remove(key);
+                throw e;
+            }
+            String serialized = write(result);
+            if (isFinal.test(result)) {
+                idempotencyRepository.complete(key, fingerprint, serialized, resultTtl);
+            } else {
+                idempotencyRepository.remove(key);
+            }
+            mine.complete(serialized);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * 저장된 결과가 있으면 반환하고, 없으면 처리 중 표시를 남깁니다.
+     * 다른 노드에서 처리 중이면 409, 같은 키로 다른 요청을 보냈으면 422 예외를 던집니다.
+     */
+    private Optional<String> findOrBegin(String key, String fingerprint) {
+        Optional<String> cached = completedResult(key, fingerprint);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        if (idempotencyRepository.tryBegin(key, fingerprint, IN_PROGRESS_TTL)) {
+            return Optional.empty();
+        }
+        // 조회와 표시 사이에 다른 요청이 끝났을 수 있으므로 한 번 더 확인합니다.
+        cached = completedResult(key, fingerprint);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+    }
+
+    private Optional<String> completedResult(String key, String fingerprint) {
+        Optional<IdempotencyRecord> record = idempotencyRepository.find(key);
+        record.ifPresent(found -> checkFingerprint(found.fingerprint(), fingerprint));
+        return record.filter(IdempotencyRecord::isCompleted).map(IdempotencyRecord::result);
+    }
+
+    private static void checkFingerprint(String stored, String requested) {
+        if (!stored.equals(requested)) {
+            throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    private String fingerprint(Object payload) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(write(payload).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private String awaitLeader(CompletableFuture<String> leader) {
+        try {
+            return leader.get(IN_PROGRESS_TTL.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private String write(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotent response", e);
+        }
+    }
+
+    private <T> T read(String serialized, Class<T> type) {
+        try {
+            return objectMapper.readValue(serialized, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize idempotent response", e);
+        }
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<String> result) {
+    }
+}
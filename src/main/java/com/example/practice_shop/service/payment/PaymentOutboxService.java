@@ -0,0 +1,313 @@
+package com.example.practice_shop.service.payment;
+
+import com.example.practice_shop.constant.PaymentOutboxStatus;
+import com.example.practice_shop.constant.PaymentOutboxType;
+import com.example.practice_shop.constant.PaymentStatus;
+import com.example.practice_shop.constant.ReservationStatus;
+import com.example.practice_shop.dtos.Payment.RefundFailureResponse;
+import com.example.practice_shop.dtos.Payment.TossPaymentConfirmRequest;
+import com.example.practice_shop.entity.Payment;
+import com.example.practice_shop.entity.PaymentOutbox;
+import com.example.practice_shop.entity.Reservation;
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.integration.payment.PaymentGatewayClient;
+import com.example.practice_shop.integration.payment.PaymentGatewayException;
+import com.example.practice_shop.repository.PaymentOutboxRepository;
+import com.example.practice_shop.repository.PaymentRepository;
+import com.example.practice_shop.repository.ReservationRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PG 호출을 DB 트랜잭션 밖으로 분리하는 결제 아웃박스입니다.
+ * <p>
+ * 1. 예약/결제 상태 변경과 PG 호출 의도(아웃박스)를 한 트랜잭션으로 커밋합니다.
+ * 2. 커밋 후 트랜잭션 없이 PG를 호출합니다. (PG 응답을 기다리는 동안 DB 커넥션/행 잠금을 잡지 않음)
+ * 3. 결과를 짧은 트랜잭션으로 반영합니다. 재시도 가능한 실패는 지수 백오프로 워커가 다시 시도합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class PaymentOutboxService {
+
+    private static final int MAX_ATTEMPTS = 8;
+    private static final Duration LEASE = Duration.ofSeconds(60);        // 실행 중인 항목을 다른 워커가 잡지 않는 시간
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final ReservationRepository reservationRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final TransactionTemplate transactionTemplate;
+
+    public PaymentOutboxService(PaymentOutboxRepository paymentOutboxRepository,
+                                ReservationRepository reservationRepository,
+                                PaymentRepository paymentRepository,
+                                PaymentGatewayClient paymentGatewayClient,
+                                PlatformTransactionManager transactionManager) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.reservationRepository = reservationRepository;
+        this.paymentRepository = paymentRepository;
+        this.paymentGatewayClient = paymentGatewayClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 결제 승인 의도를 기록하고 예약을 PAYMENT_IN_PROGRESS로 변경합니다.
+     * 호출한 스레드가 바로 execute할 것이므로 LEASE 동안은 워커가 가져가지 않습니다.
+     * 같은 결제 키로 이미 승인 중이거나 승인된 예약이면(재시도) 새로 기록하지 않고 empty를 반환하며,
+     * 호출한 쪽은 confirmStatus로 현재 결과를 돌려주면 됩니다.
+     * @param orderId 주문 ID
+     * @param paymentKey 결제 키
+     * @param amount 결제 금액
+     * @return 아웃박스 ID (같은 결제의 재시도면 empty)
+     */
+    @Transactional
+    public Optional<Long> beginConfirm(String orderId, String paymentKey, Long amount) {
+        Reservation reservation = reservationRepository.findByOrderIdWithLock(orderId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
+
+        if (isSamePaymentRetry(reservation, paymentKey, amount)) {
+            return Optional.empty();
+        }
+        if (reservation.getStatus() == ReservationStatus.PAYMENT_IN_PROGRESS) {
+            throw new CustomException(ErrorCode.PAYMENT_PROCESSING);
+        }
+        // 결제 기한 만료 등으로 이미 취소된 예약은 결제할 수 없습니다.
+        if (reservation.getStatus() != ReservationStatus.PENDING_PAYMENT) {
+            throw new CustomException(ErrorCode.INVALID_RESERVATION_STATUS);
+        }
+        if (reservation.getTotalPrice() != amount) {
+            throw new CustomException(ErrorCode.INVALID_PAYMENT_AMOUNT);
+        }
+
+        // 승인 처리 중에는 결제 기한 만료 워커가 예약을 취소하지 않습니다.
+        reservation.setStatus(ReservationStatus.PAYMENT_IN_PROGRESS);
+        reservation.setPaymentKey(paymentKey);
+
+        return Optional.of(paymentOutboxRepository.save(PaymentOutbox.builder()
+                .type(PaymentOutboxType.CONFIRM)
+                .status(PaymentOutboxStatus.PENDING)
+                .reservationId(reservation.getId())
+                .orderId(orderId)
+                .paymentKey(paymentKey)
+                .amount(amount)
+                .nextAttemptAt(LocalDateTime.now().plus(LEASE))
+                .build()).getId());
+    }
+
+    /**
+     * 이미 시작된 결제 승인의 현재 결과를 조회합니다.
+     * @param orderId 주문 ID
+     * @return 승인 완료면 SUCCEEDED, 아직 승인 중이면 PENDING
+     */
+    @Transactional(readOnly = true)
+    public PaymentOutboxStatus confirmStatus(String orderId) {
+        Reservation reservation = reservationRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
+        return switch (reservation.getStatus()) {
+            case PAID -> PaymentOutboxStatus.SUCCEEDED;
+            case PAYMENT_IN_PROGRESS -> PaymentOutboxStatus.PENDING;
+            default -> throw new CustomException(ErrorCode.INVALID_RESERVATION_STATUS);
+        };
+    }
+
+    /**
+     * 같은 결제 키와 금액으로 이미 승인을 시작했거나 승인된 예약인지 확인합니다.
+     * 202 응답 뒤 클라이언트가 같은 결제를 다시 확인하는 경우로, 새 승인을 시작하지 않고 현재 결과를 돌려줍니다.
+     */
+    private boolean isSamePaymentRetry(Reservation reservation, String paymentKey, Long amount) {
+        return (reservation.getStatus() == ReservationStatus.PAYMENT_IN_PROGRESS || reservation.getStatus() == ReservationStatus.PAID)
+                && paymentKey.equals(reservation.getPaymentKey())
+                && reservation.getTotalPrice() == amount;
+    }
+
+    /**
+     * 환불 의도를 기록하고 결제를 REFUND_PENDING으로 변경합니다. 호출한 트랜잭션에 참여합니다.
+     * 환불은 커밋 후 워커가 실행합니다.
+     * @param reservation 취소할 예약 (PAID)
+     * @param cancelReason 취소 사유
+     */
+    @Transactional
+    public void enqueueRefund(Reservation reservation, String cancelReason) {
+        paymentRepository.findByReservation(reservation)
+                .ifPresent(payment -> payment.setStatus(PaymentStatus.REFUND_PENDING));
+
+        paymentOutboxRepository.save(PaymentOutbox.builder()
+                .type(PaymentOutboxType.REFUND)
+                .status(PaymentOutboxStatus.PENDING)
+                .reservationId(reservation.getId())
+                .orderId(reservation.getOrderId())
+                .paymentKey(reservation.getPaymentKey())
+                .cancelReason(cancelReason)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 시도할 시각이 된 아웃박스를 최대 limit건 가져오고, LEASE 동안 다른 워커가 가져가지 않도록 표시합니다.
+     * @param limit 최대 건수
+     * @return 아웃박스 ID 목록
+     */
+    @Transactional
+    public List<Long> leaseDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PaymentOutbox> due = paymentOutboxRepository.findDueWithLock(
+                PaymentOutboxStatus.PENDING, now, PageRequest.of(0, limit));
+        due.forEach(entry -> entry.setNextAttemptAt(now.plus(LEASE)));
+        return due.stream().map(PaymentOutbox::getId).toList();
+    }
+
+    /**
+     * PG를 호출하고 결과를 반영합니다. 트랜잭션 밖에서 호출해야 합니다.
+     * @param outboxId 아웃박스 ID
+     * @return 처리 후 상태 (PENDING이면 재시도 대기)
+     */
+    public PaymentOutboxStatus execute(Long outboxId) {
+        PaymentOutbox entry = paymentOutboxRepository.findById(outboxId)
+                .orElseThrow(() -> new IllegalStateException("payment outbox not found: " + outboxId));
+        if (entry.getStatus() != PaymentOutboxStatus.PENDING) {
+            return entry.getStatus();
+        }
+
+        String idempotencyKey = "outbox-" + entry.getId();
+        try {
+            switch (entry.getType()) {
+                case CONFIRM -> {
+                    TossPaymentConfirmRequest request = new TossPaymentConfirmRequest();
+                    request.setPaymentKey(entry.getPaymentKey());
+                    request.setOrderId(entry.getOrderId());
+                    request.setAmount(entry.getAmount());
+                    paymentGatewayClient.confirm(request, idempotencyKey);
+                }
+                case REFUND -> paymentGatewayClient.cancel(entry.getPaymentKey(), entry.getCancelReason(), idempotencyKey);
+            }
+        } catch (PaymentGatewayException e) {
+            return transactionTemplate.execute(status -> recordFailure(outboxId, e.getMessage(), e.isRetryable()));
+        } catch (RuntimeException e) {
+            return transactionTemplate.execute(status -> recordFailure(outboxId, e.getMessage(), true));
+        }
+        return transactionTemplate.execute(status -> recordSuccess(outboxId));
+    }
+
+    private PaymentOutboxStatus recordSuccess(Long outboxId) {
+        PaymentOutbox entry = paymentOutboxRepository.findByIdWithLock(outboxId).orElseThrow();
+        if (entry.getStatus() != PaymentOutboxStatus.PENDING) {
+            return entry.getStatus();
+        }
+
+        Reservation reservation = reservationRepository.findById(entry.getReservationId()).orElseThrow();
+        if (entry.getType() == PaymentOutboxType.CONFIRM) {
+            reservation.setStatus(ReservationStatus.PAID);
+            paymentRepository.save(Payment.builder()
+                    .reservation(reservation)
+                    .amount(BigDecimal.valueOf(entry.getAmount()))
+                    .status(PaymentStatus.PAID)
+                    .paymentMethod("CARD") // 상세 정보는 응답에서 가져와야 하지만 여기서는 간소화
+                    .paymentGateway("TOSS")
+                    .paymentKey(entry.getPaymentKey())
+                    .build());
+        } else {
+            paymentRepository.findByReservation(reservation)
+                    .ifPresent(payment -> payment.setStatus(PaymentStatus.REFUNDED));
+        }
+
+        entry.setStatus(PaymentOutboxStatus.SUCCEEDED);
+        entry.setLastError(null);
+        return entry.getStatus();
+    }
+
+    private PaymentOutboxStatus recordFailure(Long outboxId, String error, boolean retryable) {
+        PaymentOutbox entry = paymentOutboxRepository.findByIdWithLock(outboxId).orElseThrow();
+        if (entry.getStatus() != PaymentOutboxStatus.PENDING) {
+            return entry.getStatus();
+        }
+
+        entry.setAttempts(entry.getAttempts() + 1);
+        entry.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+
+        if (retryable && entry.getAttempts() < MAX_ATTEMPTS) {
+            entry.setNextAttemptAt(LocalDateTime.now().plus(backoff(entry.getAttempts())));
+            log.warn("Payment outbox {} ({}) failed, retry #{}: {}", outboxId, entry.getType(), entry.getAttempts(), error);
+            return entry.getStatus();
+        }
+
+        entry.setStatus(PaymentOutboxStatus.FAILED);
+        log.error("Payment outbox {} ({}) failed permanently after {} attempts: {}",
+                outboxId, entry.getType(), entry.getAttempts(), error);
+        if (entry.getType() == PaymentOutboxType.REFUND) {
+            // 자동으로는 더 진행되지 않으므로 REFUND_PENDING에 머물지 않도록 실패로 표시하고 관리자가 확인하게 합니다.
+            reservationRepository.findById(entry.getReservationId())
+                    .flatMap(paymentRepository::findByReservation)
+                    .ifPresent(payment -> payment.setStatus(PaymentStatus.REFUND_FAILED));
+        } else {
+            // 승인되지 않은 예약은 다시 결제하거나 기한 만료로 취소될 수 있도록 결제 대기로 되돌립니다.
+            reservationRepository.findById(entry.getReservationId())
+                    .filter(reservation -> reservation.getStatus() == ReservationStatus.PAYMENT_IN_PROGRESS)
+                    .ifPresent(reservation -> reservation.setStatus(ReservationStatus.PENDING_PAYMENT));
+        }
+        return entry.getStatus();
+    }
+
+    /**
+     * 재시도로 해결되지 않은 환불 목록을 최신순으로 조회합니다.
+     * @return 실패한 환불 목록
+     */
+    @Transactional(readOnly = true)
+    public List<RefundFailureResponse> findFailedRefunds() {
+        return paymentOutboxRepository.findByTypeAndStatusOrderByIdDesc(PaymentOutboxType.REFUND, PaymentOutboxStatus.FAILED)
+                .stream()
+                .map(entry -> RefundFailureResponse.builder()
+                        .outboxId(entry.getId())
+                        .reservationId(entry.getReservationId())
+                        .orderId(entry.getOrderId())
+                        .paymentKey(entry.getPaymentKey())
+                        .attempts(entry.getAttempts())
+                        .lastError(entry.getLastError())
+                        .failedAt(entry.getUpdatedAt())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 실패한 환불 건수를 조회합니다.
+     * @return 환불 실패 상태인 결제 수
+     */
+    @Transactional(readOnly = true)
+    public long countFailedRefunds() {
+        return paymentRepository.countByStatus(PaymentStatus.REFUND_FAILED);
+    }
+
+    /**
+     * 실패한 환불을 다시 시도하도록 되돌립니다. 워커가 다음 주기에 처리합니다.
+     * @param outboxId 아웃박스 ID
+     */
+    @Transactional
+    public void retryRefund(Long outboxId) {
+        PaymentOutbox entry = paymentOutboxRepository.findByIdWithLock(outboxId)
+                .filter(found -> found.getType() == PaymentOutboxType.REFUND && found.getStatus() == PaymentOutboxStatus.FAILED)
+                .orElseThrow(() -> new CustomException(ErrorCode.REFUND_NOT_FAILED));
+
+        entry.setStatus(PaymentOutboxStatus.PENDING);
+        entry.setAttempts(0);
+        entry.setNextAttemptAt(LocalDateTime.now());
+        reservationRepository.findById(entry.getReservationId())
+                .flatMap(paymentRepository::findByReservation)
+                .ifPresent(payment -> payment.setStatus(PaymentStatus.REFUND_PENDING));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(1L << Math.min(attempts, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.practice_shop.service.payment;
+
+import com.example.practice_shop.constant.PaymentOutboxStatus;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 아웃박스를 주기적으로 가져와 워커 풀에서 PG를 호출합니다.
+ * 재시도 대기 중인 승인과 취소 시 기록된 환불을 처리합니다.
+ */
+@Slf4j
+@Component
+public class PaymentOutboxWorker {
+
+    private final PaymentOutboxService paymentOutboxService;
+    private final ThreadPoolExecutor executor;
+    private final int poolSize;
+
+    public PaymentOutboxWorker(PaymentOutboxService paymentOutboxService,
+                               @Value("${payment.outbox.workers:4}") int poolSize) {
+        this.paymentOutboxService = paymentOutboxService;
+        this.poolSize = poolSize;
+        this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize);
+    }
+
+    /**
+     * 시도할 시각이 된 아웃박스를 처리합니다.
+     * 쉬고 있는 워커 수만큼만 가져오므로 가져간 항목이 큐에서 기다리다 LEASE가 끝나는 일이 없습니다.
+     */
+    @Scheduled(fixedDelay = 2000)
+    public void dispatchDue() {
+        int idle = poolSize - executor.getActiveCount() - executor.getQueue().size();
+        if (idle <= 0) {
+            return;
+        }
+
+        List<Long> outboxIds;
+        try {
+            outboxIds = paymentOutboxService.leaseDue(idle);
+        } catch (Exception e) {
+            log.error("Failed to lease payment outbox entries", e);
+            return;
+        }
+
+        for (Long outboxId : outboxIds) {
+            executor.execute(() -> {
+                try {
+                    PaymentOutboxStatus status = paymentOutboxService.execute(outboxId);
+                    log.debug("Payment outbox {} processed: {}", outboxId, status);
+                } catch (Exception e) {
+                    // LEASE가 끝나면 다시 시도됩니다.
+                    log.error("Failed to process payment outbox {}", outboxId, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 재시도로 해결되지 않은 환불이 남아 있으면 알립니다. 관리자 API로 확인 후 다시 시도할 수 있습니다.
+     */
+    @Scheduled(fixedDelay = 300_000)
+    public void alertFailedRefunds() {
+        try {
+            long failed = paymentOutboxService.countFailedRefunds();
+            if (failed > 0) {
+                log.error("{} refund(s) failed permanently; check GET /api/admin/payments/refund-failures", failed);
+            }
+        } catch (Exception e) {
+            log.error("Failed to count failed refunds", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
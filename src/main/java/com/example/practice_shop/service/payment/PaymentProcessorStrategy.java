@@ -1,5 +1,6 @@
 package com.example.practice_shop.service.payment;
 
+import com.example.practice_shop.dtos.Payment.PaymentConfirmResponse;
 import com.example.practice_shop.dtos.Payment.TossPaymentConfirmRequest;
 
 public interface PaymentProcessorStrategy {
@@ -13,6 +14,7 @@ public interface PaymentProcessorStrategy {
     /**
      * 결제 승인 요청을 처리합니다.
      * @param request 결제 승인 요청 정보
+     * @return 승인 결과 (승인 처리 중이면 status가 PAYMENT_IN_PROGRESS)
      */
-    void process(TossPaymentConfirmRequest request);
+    PaymentConfirmResponse process(TossPaymentConfirmRequest request);
 }
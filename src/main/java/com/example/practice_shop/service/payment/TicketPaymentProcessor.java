@@ -1,5 +1,7 @@
 package com.example.practice_shop.service.payment;
 
+import com.example.practice_shop.constant.ReservationStatus;
+import com.example.practice_shop.dtos.Payment.PaymentConfirmResponse;
 import com.example.practice_shop.dtos.Payment.TossPaymentConfirmRequest;
 import com.example.practice_shop.service.TicketingService;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +19,15 @@ public class TicketPaymentProcessor implements PaymentProcessorStrategy {
     }
 
     @Override
-    public void process(TossPaymentConfirmRequest request) {
+    public PaymentConfirmResponse process(TossPaymentConfirmRequest request) {
         // TicketingService.confirmPayment(String orderId, String paymentKey, Long amount)
-        ticketingService.confirmPayment(request.getOrderId(), request.getPaymentKey(), request.getAmount());
+        ReservationStatus status = ticketingService.confirmPayment(request.getOrderId(), request.getPaymentKey(), request.getAmount());
+        return PaymentConfirmResponse.builder()
+                .orderId(request.getOrderId())
+                .status(status)
+                .message(status == ReservationStatus.PAID
+                        ? "결제가 완료되었습니다."
+                        : "결제 승인을 처리하고 있습니다. 같은 요청으로 다시 확인하거나 잠시 후 예매 내역을 확인해주세요.")
+                .build();
     }
 }
@@ -0,0 +1,161 @@
+package com.example.practice_shop.service.queue;
+
+import com.example.practice_shop.dtos.queue.AdmissionStatusResponse;
+import com.example.practice_shop.repository.QueueRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트별 입장 허용 수를 예매 경로 상태에 맞춰 조절합니다. (AIMD)
+ * <p>
+ * - 예매 경로가 여유 있고 직전 틱에 허용량을 모두 채웠으면 허용 수를 조금씩 늘립니다. (additive increase)
+ * - p99 지연, 커넥션 풀 사용률, 잠금 대기 중 하나라도 한계를 넘으면 허용 수를 절반으로 줄입니다. (multiplicative decrease)
+ * - 아직 예매하지 않은 입장 허용 토큰이 max-ready를 넘지 않도록 남은 자리만큼만 허용합니다.
+ * - 관리자가 이벤트별로 고정 허용 수를 지정하면 자동 조절 대신 그 값을 사용합니다.
+ *   지정 값은 Redis에 두어 어느 노드가 이벤트를 담당하든 같은 값을 씁니다.
+ * - 예매 경로 상태는 모든 노드의 보고를 모은 값이므로(BackendHealthSampler) 담당 노드 한 곳의 지연만 보지 않습니다.
+ * - 자동 조절 상태는 이벤트를 담당하는 노드의 메모리에만 있으므로, 담당이 바뀌면 initial-per-tick부터 다시 조절합니다.
+ *   대기열이 비거나 담당이 다른 노드로 넘어가면 forget으로 상태를 버립니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AdmissionController {
+
+    private static final int ADDITIVE_STEP = 25;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double MAX_POOL_UTILIZATION = 0.8;
+    private static final int MAX_LOCK_WAITERS = 5;
+
+    private final QueueRepository queueRepository;
+    private final int initialPerTick;
+    private final int minPerTick;
+    private final int maxPerTick;
+    private final long targetP99Millis;
+    private final long maxReady;
+
+    private final Map<Long, EventAdmission> admissions = new ConcurrentHashMap<>();
+
+    public AdmissionController(QueueRepository queueRepository,
+                               @Value("${queue.admission.initial-per-tick:300}") int initialPerTick,
+                               @Value("${queue.admission.min-per-tick:10}") int minPerTick,
+                               @Value("${queue.admission.max-per-tick:2000}") int maxPerTick,
+                               @Value("${queue.admission.target-p99-ms:500}") long targetP99Millis,
+                               @Value("${queue.admission.max-ready:5000}") long maxReady) {
+        this.queueRepository = queueRepository;
+        this.initialPerTick = initialPerTick;
+        this.minPerTick = minPerTick;
+        this.maxPerTick = maxPerTick;
+        this.targetP99Millis = targetP99Millis;
+        this.maxReady = maxReady;
+    }
+
+    /**
+     * 이번 틱에 입장 허용할 수를 계산합니다.
+     * @param eventId 이벤트 ID
+     * @param health 예매 경로 상태
+     * @return 입장 허용 수
+     */
+    public int nextBatch(Long eventId, BackendHealth health) {
+        EventAdmission admission = admissions.computeIfAbsent(eventId, id -> new EventAdmission(initialPerTick));
+        synchronized (admission) {
+            if (isOverloaded(health)) {
+                admission.rate = Math.max(minPerTick, admission.rate * DECREASE_FACTOR);
+            } else if (admission.lastBatch > 0 && admission.lastAdmitted >= admission.lastBatch) {
+                // 대기자가 허용량보다 많았을 때만 늘립니다. (대기자가 없을 때 허용 수만 부풀지 않도록)
+                admission.rate = Math.min(maxPerTick, admission.rate + ADDITIVE_STEP);
+            }
+
+            long readyCount = queueRepository.countReady(eventId);
+            admission.override = queueRepository.getAdmissionOverride(eventId);
+            int perTick = admission.override != null ? admission.override : (int) admission.rate;
+            int batch = (int) Math.max(0, Math.min(perTick, maxReady - readyCount));
+
+            admission.lastBatch = batch;
+            admission.lastReadyCount = readyCount;
+            admission.lastHealth = health;
+            return batch;
+        }
+    }
+
+    /**
+     * 실제로 입장 허용한 수를 기록합니다.
+     * @param eventId 이벤트 ID
+     * @param admitted 입장 허용한 수
+     */
+    public void recordAdmitted(Long eventId, long admitted) {
+        EventAdmission admission = admissions.get(eventId);
+        if (admission != null) {
+            synchronized (admission) {
+                admission.lastAdmitted = admitted;
+            }
+        }
+    }
+
+    /**
+     * 이벤트의 자동 조절 상태를 버립니다. 대기열이 비었거나 담당이 다른 노드로 넘어갔을 때 호출합니다.
+     * @param eventId 이벤트 ID
+     */
+    public void forget(Long eventId) {
+        admissions.remove(eventId);
+    }
+
+    /**
+     * 이벤트의 입장 허용 수를 고정합니다.
+     * @param eventId 이벤트 ID
+     * @param perTick 틱당 허용 수 (null이면 자동 조절로 되돌림)
+     */
+    public void override(Long eventId, Integer perTick) {
+        queueRepository.setAdmissionOverride(eventId, perTick);
+        log.info("Queue admission for event {} set to {}", eventId, perTick != null ? perTick + "/tick" : "auto");
+    }
+
+    /**
+     * 이벤트의 입장 허용 상태를 조회합니다.
+     * 자동 조절 값은 이 노드가 본 값이며, 담당 노드가 아니면 초기값일 수 있습니다.
+     * @param eventId 이벤트 ID
+     * @return 입장 허용 상태
+     */
+    public AdmissionStatusResponse status(Long eventId) {
+        Integer override = queueRepository.getAdmissionOverride(eventId);
+        // 조회만으로 담당하지 않는 이벤트의 상태가 쌓이지 않도록 없으면 초기값으로 보여줍니다.
+        EventAdmission admission = admissions.getOrDefault(eventId, new EventAdmission(initialPerTick));
+        synchronized (admission) {
+            BackendHealth health = admission.lastHealth;
+            return AdmissionStatusResponse.builder()
+                    .eventId(eventId)
+                    .automatic(override == null)
+                    .ratePerTick((int) admission.rate)
+                    .overridePerTick(override)
+                    .lastBatch(admission.lastBatch)
+                    .lastAdmitted(admission.lastAdmitted)
+                    .readyCount(admission.lastReadyCount)
+                    .reservationP99Millis(health != null ? health.reservationP99Millis() : 0)
+                    .poolUtilization(health != null ? health.poolUtilization() : 0)
+                    .lockWaiters(health != null ? health.lockWaiters() : 0)
+                    .build();
+        }
+    }
+
+    private boolean isOverloaded(BackendHealth health) {
+        return health.reservationP99Millis() > targetP99Millis
+                || health.poolUtilization() > MAX_POOL_UTILIZATION
+                || health.lockWaiters() > MAX_LOCK_WAITERS;
+    }
+
+    private static final class EventAdmission {
+        private double rate;
+        private Integer override;
+        private int lastBatch;
+        private long lastAdmitted;
+        private long lastReadyCount;
+        private BackendHealth lastHealth;
+
+        private EventAdmission(int initialRate) {
+            this.rate = initialRate;
+        }
+    }
+}
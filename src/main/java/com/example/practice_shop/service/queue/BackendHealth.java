@@ -0,0 +1,10 @@
+package com.example.practice_shop.service.queue;
+
+/**
+ * 입장 속도 조절에 사용하는 예매 경로 상태입니다.
+ * @param reservationP99Millis 최근 예매 요청 p99 처리 시간(ms)
+ * @param poolUtilization DB 커넥션 풀 사용률 (0.0 ~ 1.0)
+ * @param lockWaiters DB에서 잠금을 기다리는 세션 수
+ */
+public record BackendHealth(long reservationP99Millis, double poolUtilization, int lockWaiters) {
+}
@@ -0,0 +1,119 @@
+package com.example.practice_shop.service.queue;
+
+import com.example.practice_shop.repository.NodeHealth;
+import com.example.practice_shop.repository.QueueRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예매 경로의 현재 상태(지연, 커넥션 풀, 잠금 대기)를 수집합니다.
+ * <p>
+ * - 예매 요청은 모든 노드에 흩어지므로, 노드마다 자기 상태를 주기적으로 Redis에 보고합니다.
+ * - 이벤트 담당 노드는 살아있는 노드들의 보고를 모아 가장 나쁜 값(최대)을 입장 속도 조절에 사용합니다.
+ *   한 노드만 느려져도 그 노드로 가는 예매가 밀리므로 평균이 아니라 최대를 씁니다.
+ * - Redis를 읽지 못하면 이 노드의 상태만으로 판단합니다.
+ * 이벤트별 입장 작업이 각자 호출하므로 수집 결과를 잠깐 재사용합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BackendHealthSampler {
+
+    private static final long CACHE_MILLIS = 1_000;
+    private static final long REPORT_TIMEOUT_MILLIS = 5_000;
+
+    private static final String LOCK_WAITERS_SQL =
+            "select count(*) from pg_stat_activity where wait_event_type = 'Lock' and datname = current_database()";
+
+    private final ReservationLatencyTracker reservationLatencyTracker;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final QueueRepository queueRepository;
+    private final QueueNodeRegistry queueNodeRegistry;
+
+    private volatile BackendHealth local;
+    private volatile BackendHealth cached;
+    private volatile long cachedAt;
+
+    /**
+     * 이 노드의 상태를 Redis에 보고합니다. 이벤트 담당 여부와 관계없이 모든 노드가 보고합니다.
+     */
+    @Scheduled(fixedDelay = CACHE_MILLIS)
+    public void report() {
+        BackendHealth health = sampleLocal();
+        try {
+            queueRepository.reportHealth(new NodeHealth(queueNodeRegistry.getNodeId(), health.reservationP99Millis(),
+                    health.poolUtilization(), health.lockWaiters(), System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("Failed to report backend health", e);
+        }
+    }
+
+    /**
+     * 클러스터 전체의 현재 상태를 수집합니다.
+     * @return 살아있는 노드들의 예매 경로 상태 중 가장 나쁜 값
+     */
+    public BackendHealth sample() {
+        long now = System.currentTimeMillis();
+        BackendHealth health = cached;
+        if (health != null && now - cachedAt < CACHE_MILLIS) {
+            return health;
+        }
+        BackendHealth own = local != null ? local : sampleLocal();
+        try {
+            health = aggregate(own, queueRepository.findHealth(now - REPORT_TIMEOUT_MILLIS));
+        } catch (Exception e) {
+            log.warn("Failed to read cluster backend health, using local sample", e);
+            health = own;
+        }
+        cached = health;
+        cachedAt = now;
+        return health;
+    }
+
+    private BackendHealth sampleLocal() {
+        BackendHealth health = new BackendHealth(reservationLatencyTracker.p99Millis(), poolUtilization(), lockWaiters());
+        local = health;
+        return health;
+    }
+
+    private static BackendHealth aggregate(BackendHealth own, List<NodeHealth> reports) {
+        long p99 = own.reservationP99Millis();
+        double pool = own.poolUtilization();
+        int lockWaiters = own.lockWaiters();
+        for (NodeHealth report : reports) {
+            p99 = Math.max(p99, report.reservationP99Millis());
+            pool = Math.max(pool, report.poolUtilization());
+            // 잠금 대기는 같은 DB를 본 값이므로 합치지 않습니다.
+            lockWaiters = Math.max(lockWaiters, report.lockWaiters());
+        }
+        return new BackendHealth(p99, pool, lockWaiters);
+    }
+
+    private double poolUtilization() {
+        if (dataSource instanceof HikariDataSource hikari && hikari.getHikariPoolMXBean() != null) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+        }
+        return 0;
+    }
+
+    private int lockWaiters() {
+        try {
+            Integer waiters = jdbcTemplate.queryForObject(LOCK_WAITERS_SQL, Integer.class);
+            return waiters == null ? 0 : waiters;
+        } catch (DataAccessException e) {
+            log.debug("Failed to read lock waiters", e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.practice_shop.service.queue;
+
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.repository.QueueAdmissionClaim;
+import com.example.practice_shop.repository.QueueRepository;
+import com.example.practice_shop.repository.ShowtimeRepository;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입장 허용된 대기열 토큰이 예매하려는 회차의 이벤트용인지 확인하고, 예매 시 토큰을 사용 처리합니다.
+ * 토큰 서명 검증은 QueueTokenFilter가 먼저 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueueAdmissionGuard {
+
+    // 예매 처리 중 표시가 남아 있는 최대 시간 (노드가 죽어 풀지 못한 경우 대비)
+    private static final Duration CLAIM_TTL = Duration.ofSeconds(30);
+
+    private final ShowtimeRepository showtimeRepository;
+    private final QueueRepository queueRepository;
+
+    // 회차의 이벤트는 바뀌지 않으므로 한 번 조회한 값을 계속 사용합니다.
+    private final Map<Long, Long> eventIdsByShowtime = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰의 이벤트와 회차의 이벤트가 같은지 확인합니다.
+     * @param admittedEventId 필터가 검증한 토큰의 이벤트 ID (게이트를 끈 경우 null)
+     * @param showtimeId 예매하려는 회차 ID
+     */
+    public void checkShowtime(Long admittedEventId, Long showtimeId) {
+        if (admittedEventId == null || showtimeId == null) {
+            return;
+        }
+        Long eventId = eventIdsByShowtime.get(showtimeId);
+        if (eventId == null) {
+            Optional<Long> found = showtimeRepository.findEventIdById(showtimeId);
+            if (found.isEmpty()) {
+                // 회차가 없으면 예매 처리에서 SHOWTIME_NOT_FOUND로 응답합니다.
+                return;
+            }
+            eventId = found.get();
+            eventIdsByShowtime.put(showtimeId, eventId);
+        }
+        if (!Objects.equals(eventId, admittedEventId)) {
+            throw new CustomException(ErrorCode.QUEUE_EVENT_MISMATCH);
+        }
+    }
+
+    /**
+     * 토큰을 처리 중으로 잡아 같은 토큰의 동시 예매를 막고, 예매가 성공하면 토큰을 사용 처리합니다.
+     * 실패하면(이미 팔린 좌석 등) 토큰을 그대로 두어 다시 시도할 수 있게 합니다.
+     * 멱등 처리 안에서 호출해야 같은 Idempotency-Key의 재시도가 토큰을 다시 요구하지 않습니다.
+     * @param token 필터가 서명을 확인한 토큰 (게이트를 끈 경우 null)
+     * @param action 예매 처리
+     * @return 예매 결과
+     */
+    public <T> T admit(QueueToken token, Supplier<T> action) {
+        if (token == null) {
+            return action.get();
+        }
+        QueueAdmissionClaim claim = queueRepository.claimAdmission(token.eventId(), token.lane(), token.seq(), CLAIM_TTL);
+        if (claim != QueueAdmissionClaim.CLAIMED) {
+            throw new CustomException(claim == QueueAdmissionClaim.IN_USE ? ErrorCode.QUEUE_TOKEN_IN_USE : ErrorCode.QUEUE_NOT_ADMITTED);
+        }
+        boolean reserved = false;
+        try {
+            T result = action.get();
+            reserved = true;
+            return result;
+        } finally {
+            queueRepository.releaseAdmission(token.eventId(), token.lane(), token.seq(), reserved);
+        }
+    }
+}
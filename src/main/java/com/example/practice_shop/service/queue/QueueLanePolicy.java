@@ -0,0 +1,65 @@
+package com.example.practice_shop.service.queue;
+
+import com.example.practice_shop.constant.UserGrade;
+import com.example.practice_shop.repository.UserRepository;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 레인(회원 등급)과 레인별 입장 가중치를 정합니다.
+ * 가중치는 "PLATINUM=8,GOLD=4,SILVER=2,BASIC=1" 형식이며, 적지 않은 레인은 1로 봅니다.
+ */
+@Component
+public class QueueLanePolicy {
+
+    private final UserRepository userRepository;
+    private final Map<UserGrade, Integer> weights;
+
+    public QueueLanePolicy(UserRepository userRepository,
+                           @Value("${queue.lanes.weights:PLATINUM=8,GOLD=4,SILVER=2,BASIC=1}") String weights) {
+        this.userRepository = userRepository;
+        this.weights = Collections.unmodifiableMap(parseWeights(weights));
+    }
+
+    /**
+     * 사용자가 들어갈 레인을 정합니다.
+     * @param email 로그인 사용자 이메일 (비로그인이면 null)
+     * @return 레인
+     */
+    public UserGrade laneFor(String email) {
+        if (email == null) {
+            return UserGrade.BASIC;
+        }
+        return userRepository.findUserGradeByEmail(email).orElse(UserGrade.BASIC);
+    }
+
+    /**
+     * 레인별 입장 가중치를 반환합니다.
+     * @return 레인별 가중치
+     */
+    public Map<UserGrade, Integer> weights() {
+        return weights;
+    }
+
+    private static Map<UserGrade, Integer> parseWeights(String value) {
+        Map<UserGrade, Integer> parsed = new EnumMap<>(UserGrade.class);
+        for (UserGrade lane : UserGrade.values()) {
+            parsed.put(lane, 1);
+        }
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid queue lane weight: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 1) {
+                throw new IllegalArgumentException("Queue lane weight must be positive: " + entry);
+            }
+            parsed.put(UserGrade.valueOf(pair[0].trim()), weight);
+        }
+        return parsed;
+    }
+}
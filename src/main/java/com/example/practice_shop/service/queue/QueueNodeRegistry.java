@@ -0,0 +1,116 @@
+package com.example.practice_shop.service.queue;
+
+import com.example.practice_shop.repository.QueueRepository;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 앱 노드가 이벤트별 입장 처리를 나눠 맡도록 조정합니다.
+ * <p>
+ * - 노드는 heartbeat로 살아있음을 알리고, 살아있는 노드 목록에 rendezvous hashing을 적용해 이벤트 담당 노드를 정합니다.
+ *   노드가 늘거나 줄어도 담당이 바뀌는 이벤트는 일부뿐입니다.
+ * - 담당 노드는 Redis lease를 잡고 입장 처리하며, 입장 스크립트가 lease 소유를 다시 확인하므로
+ *   담당이 넘어가는 순간에도 두 노드가 같은 이벤트를 함께 입장시키지 않습니다.
+ * - 노드가 죽으면 heartbeat와 lease가 끊기고, 남은 노드 중 다음 담당이 이어받습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class QueueNodeRegistry {
+
+    private static final long NODE_TIMEOUT_MILLIS = 5_000;
+    private static final Duration OWNERSHIP_LEASE = Duration.ofSeconds(10);
+
+    private final QueueRepository queueRepository;
+
+    @Getter
+    private final String nodeId;
+
+    public QueueNodeRegistry(QueueRepository queueRepository) {
+        this.queueRepository = queueRepository;
+        this.nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * heartbeat를 남기고 살아있는 노드 목록을 가져옵니다.
+     * @return 살아있는 노드 ID 목록 (자신 포함)
+     */
+    public Set<String> heartbeat() {
+        long now = System.currentTimeMillis();
+        queueRepository.heartbeat(nodeId, now, now - NODE_TIMEOUT_MILLIS * 10);
+        Set<String> liveNodes = new HashSet<>(queueRepository.findLiveNodes(now - NODE_TIMEOUT_MILLIS));
+        liveNodes.add(nodeId);
+        return liveNodes;
+    }
+
+    /**
+     * 이 노드가 이벤트의 담당인지 rendezvous hashing으로 판단합니다.
+     * @param eventId 이벤트 ID
+     * @param liveNodes 살아있는 노드 ID 목록
+     * @return 담당이면 true
+     */
+    public boolean isPreferredOwner(Long eventId, Collection<String> liveNodes) {
+        String owner = null;
+        long best = Long.MIN_VALUE;
+        for (String node : liveNodes) {
+            long weight = mix(node.hashCode() * 0x9E3779B97F4A7C15L + eventId);
+            if (owner == null || weight > best || (weight == best && node.compareTo(owner) < 0)) {
+                owner = node;
+                best = weight;
+            }
+        }
+        return nodeId.equals(owner);
+    }
+
+    /**
+     * 이벤트 담당 lease를 얻거나 연장합니다.
+     * @param eventId 이벤트 ID
+     * @return lease를 가지고 있으면 true
+     */
+    public boolean acquire(Long eventId) {
+        return queueRepository.acquireOwnership(eventId, nodeId, OWNERSHIP_LEASE);
+    }
+
+    /**
+     * 이벤트 담당 lease를 반납합니다. (다른 노드가 바로 이어받을 수 있도록)
+     * @param eventId 이벤트 ID
+     */
+    public void release(Long eventId) {
+        queueRepository.releaseOwnership(eventId, nodeId);
+    }
+
+    @PreDestroy
+    public void leave() {
+        try {
+            queueRepository.removeNode(nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to remove queue node {}", nodeId, e);
+        }
+    }
+
+    /**
+     * splitmix64 마무리 단계. 노드/이벤트 조합의 가중치를 고르게 퍼뜨립니다.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.practice_shop.service.queue;
+
+import com.example.practice_shop.constant.UserGrade;
+import com.example.practice_shop.dtos.queue.QueueProgressMessage;
+import com.example.practice_shop.dtos.queue.QueueReadyMessage;
+import com.example.practice_shop.repository.QueueLaneProgress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 상태를 WebSocket(STOMP)으로 푸시합니다.
+ * <p>
+ * - /topic/queue/{eventId}: 레인별 진행 상황. 같은 레인 대기자의 순번은 레인 입장 허용 수만큼 함께 줄어들므로
+ *   토큰마다 보내지 않고 이벤트당 한 번만 보냅니다.
+ *   직전 발송 이후 min-progress명 이상 입장했거나 max-interval이 지났을 때만 보냅니다.
+ * - /topic/queue/ready/{readyChannel}: 입장 허용 알림. 허용된 토큰에만 즉시 보냅니다.
+ * </p>
+ * 입장 처리는 이벤트 담당 노드에서만 일어나므로, 모든 푸시는 QueuePushRelay를 거쳐 모든 노드의 구독자에게 전달됩니다.
+ */
+@Component
+public class QueueNotifier {
+
+    private final QueuePushRelay queuePushRelay;
+    private final QueueTokenCodec queueTokenCodec;
+    private final long minProgress;
+    private final long maxIntervalMillis;
+
+    private final Map<Long, Published> lastPublished = new ConcurrentHashMap<>();
+
+    public QueueNotifier(QueuePushRelay queuePushRelay,
+                         QueueTokenCodec queueTokenCodec,
+                         @Value("${queue.push.min-progress:100}") long minProgress,
+                         @Value("${queue.push.max-interval:10s}") Duration maxInterval) {
+        this.queuePushRelay = queuePushRelay;
+        this.queueTokenCodec = queueTokenCodec;
+        this.minProgress = minProgress;
+        this.maxIntervalMillis = maxInterval.toMillis();
+    }
+
+    /**
+     * 입장 허용된 토큰에 알림을 보냅니다.
+     * @param eventId 이벤트 ID
+     * @param members 입장 허용된 {lane}:{seq} 목록
+     * @param readyExpiresAt 입장 허용 만료 시각 (epoch ms)
+     */
+    public void notifyReady(Long eventId, List<String> members, long readyExpiresAt) {
+        QueueReadyMessage message = QueueReadyMessage.builder()
+                .eventId(eventId)
+                .ready(true)
+                .readyExpiresAt(readyExpiresAt)
+                .build();
+        queuePushRelay.publishReady(members.stream().map(member -> readyTopic(eventId, member)).toList(), message);
+    }
+
+    /**
+     * 순번이 의미 있게 바뀌었으면 레인별 진행 상황을 보냅니다.
+     * @param eventId 이벤트 ID
+     * @param lanes 레인별 진행 상황
+     */
+    public void publishProgress(Long eventId, List<QueueLaneProgress> lanes) {
+        long now = System.currentTimeMillis();
+        long admittedTotal = lanes.stream().mapToLong(QueueLaneProgress::admittedTotal).sum();
+        Published previous = lastPublished.get(eventId);
+        if (previous != null) {
+            long progressed = admittedTotal - previous.admittedTotal();
+            if (progressed == 0
+                    || (progressed > 0 && progressed < minProgress && now - previous.publishedAt() < maxIntervalMillis)) {
+                return;
+            }
+        }
+
+        lastPublished.put(eventId, new Published(admittedTotal, now));
+
+        queuePushRelay.publishProgress(eventTopic(eventId), QueueProgressMessage.builder()
+                .eventId(eventId)
+                .lanes(lanes.stream()
+                        .map(lane -> QueueProgressMessage.LaneProgress.builder()
+                                .lane(lane.lane())
+                                .admittedTotal(lane.admittedTotal())
+                                .waiting(lane.waiting())
+                                .admitRatePerSecond(lane.ratePerSecond())
+                                .build())
+                        .toList())
+                .build());
+    }
+
+    private String eventTopic(Long eventId) {
+        return "/topic/queue/" + eventId;
+    }
+
+    private String readyTopic(Long eventId, String member) {
+        int separator = member.indexOf(':');
+        UserGrade lane = UserGrade.valueOf(member.substring(0, separator));
+        long seq = Long.parseLong(member.substring(separator + 1));
+        return "/topic/queue/ready/" + queueTokenCodec.readyChannel(eventId, lane, seq);
+    }
+
+    private record Published(long admittedTotal, long publishedAt) {
+    }
+}
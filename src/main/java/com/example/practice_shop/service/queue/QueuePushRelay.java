@@ -0,0 +1,93 @@
+package com.example.practice_shop.service.queue;
+
+import com.example.practice_shop.dtos.queue.QueueProgressMessage;
+import com.example.practice_shop.dtos.queue.QueueReadyMessage;
+import com.example.practice_shop.repository.QueuePushRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 푸시를 Redis Pub/Sub으로 모든 노드에 중계합니다.
+ * <p>
+ * 입장 처리는 이벤트 담당 노드에서만 일어나지만, 대기자는 어느 노드에든 접속해 있을 수 있습니다.
+ * 담당 노드는 메시지를 로컬 브로커로 보내지 않고 Redis에 발행하고,
+ * 발행한 노드를 포함한 모든 노드가 받은 메시지를 자기 노드의 simple broker로 다시 보냅니다.
+ * 한 틱에 허용된 토큰들의 입장 알림은 목적지 목록과 함께 한 번에 발행합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueuePushRelay implements MessageListener {
+
+    private final QueuePushRepository queuePushRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(QueuePushRepository.CHANNEL));
+    }
+
+    /**
+     * 입장 허용 알림을 모든 노드에 발행합니다.
+     * @param destinations 토큰별 입장 알림 토픽
+     * @param message 입장 허용 메시지
+     */
+    public void publishReady(List<String> destinations, QueueReadyMessage message) {
+        publish(new Envelope(destinations, message, null));
+    }
+
+    /**
+     * 진행 상황을 모든 노드에 발행합니다.
+     * @param destination 이벤트 진행 상황 토픽
+     * @param message 진행 상황 메시지
+     */
+    public void publishProgress(String destination, QueueProgressMessage message) {
+        publish(new Envelope(List.of(destination), null, message));
+    }
+
+    /**
+     * 중계된 메시지를 로컬 브로커로 보냅니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Envelope envelope = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+            Object payload = envelope.ready() != null ? envelope.ready() : envelope.progress();
+            envelope.destinations().forEach(destination -> messagingTemplate.convertAndSend(destination, payload));
+        } catch (Exception e) {
+            // 푸시를 놓친 대기자는 상태 조회(폴링)로 따라잡습니다.
+            log.error("Failed to relay queue push", e);
+        }
+    }
+
+    private void publish(Envelope envelope) {
+        try {
+            queuePushRepository.publish(objectMapper.writeValueAsString(envelope));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대기열 메시지 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 중계 메시지입니다. ready와 progress 중 하나만 채워집니다.
+     * @param destinations 보낼 토픽 목록
+     * @param ready 입장 허용 메시지
+     * @param progress 진행 상황 메시지
+     */
+    public record Envelope(List<String> destinations, QueueReadyMessage ready, QueueProgressMessage progress) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.practice_shop.service.queue;
+
+import com.example.practice_shop.constant.UserGrade;
+
+/**
+ * 서명된 대기열 토큰에 담긴 정보입니다.
+ * @param eventId 이벤트 ID
+ * @param lane 대기열 레인 (회원 등급)
+ * @param seq 레인 일련번호 (레인 대기열의 member)
+ * @param enteredAt 진입 시각 (epoch ms)
+ * @param userId 진입한 사용자 (비로그인이면 anonymous)
+ */
+public record QueueToken(Long eventId, UserGrade lane, long seq, long enteredAt, String userId) {
+
+    public static final String ANONYMOUS = "anonymous";
+}
@@ -0,0 +1,120 @@
+package com.example.practice_shop.service.queue;
+
+import com.example.practice_shop.constant.UserGrade;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 토큰을 HMAC-SHA256으로 서명하고 검증합니다.
+ * 토큰 형식: base64url("eventId:lane:seq:enteredAt:userId") + "." + base64url(서명 앞 16바이트)
+ * 검증은 프로세스 안에서만 이루어지며 Redis를 조회하지 않습니다.
+ */
+@Component
+public class QueueTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 16;
+    private static final int MIN_SECRET_KEY_BYTES = 32; // HMAC-SHA256 최소 256비트
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final long validityMillis;
+    private final ThreadLocal<Mac> macs;
+
+    public QueueTokenCodec(@Value("${queue.token.secret}") String secret,
+                           @Value("${queue.token.validity:2h}") Duration validity) {
+        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < MIN_SECRET_KEY_BYTES) {
+            throw new IllegalArgumentException(
+                String.format("Queue token secret must be at least %d bytes. Current: %d bytes",
+                    MIN_SECRET_KEY_BYTES, keyBytes.length));
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.validityMillis = validity.toMillis();
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 대기열 토큰을 발급합니다.
+     * @param token 토큰에 담을 정보
+     * @return 서명된 토큰 문자열
+     */
+    public String issue(QueueToken token) {
+        String payload = token.eventId() + ":" + token.lane().name() + ":" + token.seq() + ":" + token.enteredAt()
+                + ":" + token.userId();
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * 대기열 토큰을 검증합니다.
+     * @param value 토큰 문자열
+     * @return 서명이 맞고 만료되지 않았으면 토큰 정보
+     */
+    public Optional<QueueToken> verify(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        int dot = value.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payloadBytes = DECODER.decode(value.substring(0, dot));
+            byte[] signature = DECODER.decode(value.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+                return Optional.empty();
+            }
+            String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split(":", 5);
+            if (parts.length != 5) {
+                return Optional.empty();
+            }
+            QueueToken token = new QueueToken(Long.valueOf(parts[0]), UserGrade.valueOf(parts[1]),
+                    Long.parseLong(parts[2]), Long.parseLong(parts[3]), parts[4]);
+            if (System.currentTimeMillis() - token.enteredAt() > validityMillis) {
+                return Optional.empty();
+            }
+            return Optional.of(token);
+        } catch (IllegalArgumentException e) {
+            // base64/숫자/레인 형식 오류
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 입장 허용 알림을 받을 채널 이름을 만듭니다.
+     * 일련번호만으로는 추측할 수 없도록 서명 값을 사용합니다.
+     * @param eventId 이벤트 ID
+     * @param lane 대기열 레인
+     * @param seq 레인 일련번호
+     * @return 채널 이름
+     */
+    public String readyChannel(Long eventId, UserGrade lane, long seq) {
+        return ENCODER.encodeToString(sign(("ready:" + eventId + ":" + lane.name() + ":" + seq).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private byte[] sign(byte[] payload) {
+        return Arrays.copyOf(macs.get().doFinal(payload), SIGNATURE_BYTES);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize queue token signer", e);
+        }
+    }
+}
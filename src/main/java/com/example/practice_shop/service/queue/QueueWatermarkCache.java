@@ -0,0 +1,49 @@
+package com.example.practice_shop.service.queue;
+
+import com.example.practice_shop.constant.UserGrade;
+import com.example.practice_shop.repository.QueueRepository;
+import com.example.practice_shop.repository.QueueWatermark;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 레인별 입장 허용 워터마크를 프로세스 안에 잠깐 캐시합니다.
+ * 워커는 2초마다 워터마크를 옮기므로, 1초 동안은 같은 값을 써도 대략적인 순번에는 차이가 거의 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueueWatermarkCache {
+
+    private static final long REFRESH_MILLIS = 1_000;
+
+    private final QueueRepository queueRepository;
+
+    private final Map<LaneKey, Cached> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 이벤트 레인의 워터마크를 조회합니다.
+     * @param eventId 이벤트 ID
+     * @param lane 레인
+     * @return 워터마크 (아직 입장 허용이 없으면 EMPTY)
+     */
+    public QueueWatermark get(Long eventId, UserGrade lane) {
+        long now = System.currentTimeMillis();
+        LaneKey key = new LaneKey(eventId, lane);
+        Cached cached = cache.get(key);
+        if (cached != null && now - cached.fetchedAt() < REFRESH_MILLIS) {
+            return cached.watermark();
+        }
+        // 동시에 만료를 본 요청이 여러 번 읽어도 결과는 같으므로 잠그지 않습니다.
+        QueueWatermark watermark = queueRepository.getWatermark(eventId, lane);
+        cache.put(key, new Cached(watermark, now));
+        return watermark;
+    }
+
+    private record LaneKey(Long eventId, UserGrade lane) {
+    }
+
+    private record Cached(QueueWatermark watermark, long fetchedAt) {
+    }
+}
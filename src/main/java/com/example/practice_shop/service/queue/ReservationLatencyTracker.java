@@ -0,0 +1,49 @@
+package com.example.practice_shop.service.queue;
+
+import java.util.Arrays;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 예매 요청의 처리 시간을 기록하고 p99를 계산합니다.
+ * 최근 WINDOW_MILLIS 안의 샘플만 사용하므로, 요청이 끊기면 오래된 지연이 입장 속도를 계속 누르지 않습니다.
+ */
+@Component
+public class ReservationLatencyTracker {
+
+    private static final int CAPACITY = 2048;
+    private static final long WINDOW_MILLIS = 10_000;
+
+    private final long[] durations = new long[CAPACITY];
+    private final long[] recordedAt = new long[CAPACITY];
+    private int next;
+
+    /**
+     * 예매 요청 처리 시간을 기록합니다.
+     * @param durationMillis 처리 시간(ms)
+     */
+    public synchronized void record(long durationMillis) {
+        durations[next] = durationMillis;
+        recordedAt[next] = System.currentTimeMillis();
+        next = (next + 1) % CAPACITY;
+    }
+
+    /**
+     * 최근 요청의 p99 처리 시간을 반환합니다.
+     * @return p99(ms), 최근 요청이 없으면 0
+     */
+    public synchronized long p99Millis() {
+        long since = System.currentTimeMillis() - WINDOW_MILLIS;
+        long[] recent = new long[CAPACITY];
+        int count = 0;
+        for (int i = 0; i < CAPACITY; i++) {
+            if (recordedAt[i] >= since) {
+                recent[count++] = durations[i];
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(recent, 0, count);
+        return recent[(int) Math.ceil(count * 0.99) - 1];
+    }
+}
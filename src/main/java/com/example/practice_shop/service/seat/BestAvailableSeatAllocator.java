@@ -0,0 +1,65 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.dtos.ticketing.BestAvailableRequest;
+import com.example.practice_shop.dtos.ticketing.ReservationResponse;
+import com.example.practice_shop.dtos.ticketing.SeatSelectionRequest;
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.service.TicketingService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 구역/가격 조건에 맞는 연속 좌석을 자동으로 골라 예매합니다.
+ * 같은 회차의 요청들이 서로 다른 구간을 받아 가므로 좌석 직접 선택보다 선점 충돌이 훨씬 적습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BestAvailableSeatAllocator {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SeatAllocationIndex seatAllocationIndex;
+    private final TicketingService ticketingService;
+
+    /**
+     * 연속 좌석을 할당받아 예매를 생성합니다.
+     * 인덱스가 DB와 어긋나 선점에 실패하면 할당했던 좌석의 상태만 보정한 뒤 재시도합니다.
+     * 다른 이유로 실패하면 할당했던 좌석을 인덱스에 되돌립니다.
+     * @param email 사용자 이메일
+     * @param request 회차, 좌석 수, 구역/가격 조건
+     * @return 생성된 예매
+     */
+    public ReservationResponse reserve(String email, BestAvailableRequest request) {
+        Long showtimeId = request.getShowtimeId();
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            List<Long> seatIds = seatAllocationIndex.allocate(
+                    showtimeId, request.getQuantity(), request.getSectionName(), request.getPrice());
+            if (seatIds.isEmpty()) {
+                throw new CustomException(ErrorCode.CONTIGUOUS_SEATS_NOT_AVAILABLE);
+            }
+
+            try {
+                return ticketingService.createReservation(email, SeatSelectionRequest.builder()
+                        .showtimeId(showtimeId)
+                        .seatIds(seatIds)
+                        .build());
+            } catch (CustomException e) {
+                if (e.getErrorCode() != ErrorCode.SEAT_ALREADY_RESERVED) {
+                    seatAllocationIndex.release(showtimeId, seatIds);
+                    throw e;
+                }
+                // 충돌한 좌석만 점유로 남기고 나머지는 다시 할당될 수 있게 합니다.
+                seatAllocationIndex.reconcile(showtimeId, seatIds);
+                log.debug("Best-available claim conflict on showtime {} (attempt {})", showtimeId, attempt);
+            } catch (RuntimeException e) {
+                seatAllocationIndex.release(showtimeId, seatIds);
+                throw e;
+            }
+        }
+        throw new CustomException(ErrorCode.SEAT_ALREADY_RESERVED);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatClaimMode;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.entity.SeatInventory;
+import com.example.practice_shop.entity.Showtime;
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code status = 'AVAILABLE'} 조건이 걸린 UPDATE 한 번으로 좌석을 선점합니다.
+ * <p>
+ * 행 잠금은 UPDATE 문이 실행되는 동안에만 걸리며, 이미 선점된 좌석이 있으면 대기하지 않고 바로 실패합니다.
+ * 변경 행 수가 요청 좌석 수와 다르면 예외를 던져 트랜잭션을 롤백하므로 일부만 선점되는 일은 없습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateSeatClaimStrategy implements SeatClaimStrategy {
+
+    private final SeatInventoryRepository seatInventoryRepository;
+
+    @Override
+    public boolean supports(SeatClaimMode mode) {
+        return mode == SeatClaimMode.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public List<SeatInventory> claim(Showtime showtime, List<Long> seatIds, SeatStatus target) {
+        Set<Long> requested = new LinkedHashSet<>(seatIds);
+        if (requested.size() != seatIds.size()) {
+            throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
+        }
+
+        int updated = seatInventoryRepository.updateStatusIfCurrent(showtime.getId(), requested, SeatStatus.AVAILABLE, target);
+        if (updated != requested.size()) {
+            // 실패 원인 구분은 실패한 요청에서만 조회합니다.
+            long existing = seatInventoryRepository.countByShowtimeIdAndSeatIdIn(showtime.getId(), requested);
+            throw new CustomException(existing != requested.size() ? ErrorCode.SEAT_NOT_FOUND : ErrorCode.SEAT_ALREADY_RESERVED);
+        }
+
+        // 벌크 UPDATE로 영속성 컨텍스트가 비워졌으므로 변경된 좌석을 다시 조회합니다.
+        return seatInventoryRepository.findAllBySeatIdInAndShowtimeId(seatIds, showtime.getId());
+    }
+
+    @Override
+    public void release(Long showtimeId, List<SeatInventory> inventories) {
+        // DB 상태가 곧 좌석 상태이므로 별도 처리가 필요 없습니다.
+    }
+}
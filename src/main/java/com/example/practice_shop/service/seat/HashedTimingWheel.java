@@ -0,0 +1,103 @@
+package com.example.practice_shop.service.seat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 해시드 타이밍 휠입니다.
+ * <p>
+ * 만료 시각을 tick 단위 버킷에 나눠 담아, 등록은 O(1), 만료 처리는 지나간 버킷만 확인합니다.
+ * 휠 한 바퀴보다 먼 만료는 남은 회전 수(rounds)로 구분합니다.
+ * 등록(schedule)은 여러 스레드에서 호출할 수 있고, 진행(advance)은 하나의 스레드에서만 호출해야 합니다.
+ * </p>
+ * @param <T> 만료 시 돌려받을 항목
+ */
+final class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<ArrayDeque<Timeout<T>>> buckets;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final long startMillis;
+    private long currentTick;
+
+    /**
+     * @param tickMillis 버킷 하나가 담당하는 시간(밀리초)
+     * @param wheelSize 버킷 수 (2의 거듭제곱)
+     * @param startMillis 휠 기준 시각
+     */
+    HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        this.startMillis = startMillis;
+    }
+
+    /**
+     * 만료 시각에 돌려받을 항목을 등록합니다.
+     * @param item 항목
+     * @param deadlineMillis 만료 시각(epoch 밀리초)
+     */
+    void schedule(T item, long deadlineMillis) {
+        pending.add(new Timeout<>(item, deadlineMillis));
+    }
+
+    /**
+     * 현재 시각까지 휠을 진행하고 만료된 항목을 반환합니다.
+     * @param nowMillis 현재 시각(epoch 밀리초)
+     * @return 만료된 항목 목록
+     */
+    List<T> advance(long nowMillis) {
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        List<T> expired = new ArrayList<>();
+        while (currentTick <= targetTick) {
+            transferPending();
+            Iterator<Timeout<T>> iterator = buckets.get((int) (currentTick & mask)).iterator();
+            while (iterator.hasNext()) {
+                Timeout<T> timeout = iterator.next();
+                if (timeout.remainingRounds <= 0) {
+                    expired.add(timeout.item);
+                    iterator.remove();
+                } else {
+                    timeout.remainingRounds--;
+                }
+            }
+            currentTick++;
+        }
+        return expired;
+    }
+
+    /**
+     * 등록 대기 중인 항목을 만료 tick에 해당하는 버킷으로 옮깁니다.
+     */
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            // 만료 시각보다 먼저 꺼내지 않도록 올림합니다.
+            long deadlineTick = Math.max((timeout.deadlineMillis - startMillis + tickMillis - 1) / tickMillis, currentTick);
+            timeout.remainingRounds = (deadlineTick - currentTick) / buckets.size();
+            buckets.get((int) (deadlineTick & mask)).add(timeout);
+        }
+    }
+
+    private static final class Timeout<T> {
+        private final T item;
+        private final long deadlineMillis;
+        private long remainingRounds;
+
+        private Timeout(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
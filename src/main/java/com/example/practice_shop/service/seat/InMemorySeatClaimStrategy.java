@@ -0,0 +1,49 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatClaimMode;
+import com.example.practice_shop.constant.SeatClaimResult;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 메모리의 좌석 비트맵(SeatStateEngine)으로 좌석을 선점합니다.
+ * 좌석 확인과 선점이 DB 왕복 없이 메모리에서 끝나며, 단일 노드로 운영되는 회차에 사용합니다.
+ */
+@Component
+public class InMemorySeatClaimStrategy extends WriteBehindSeatClaimStrategy {
+
+    private final SeatStateEngine seatStateEngine;
+
+    public InMemorySeatClaimStrategy(SeatInventoryRepository seatInventoryRepository, SeatStateEngine seatStateEngine) {
+        super(seatInventoryRepository);
+        this.seatStateEngine = seatStateEngine;
+    }
+
+    @Override
+    public boolean supports(SeatClaimMode mode) {
+        // SEQUENCED 회차도 샤드 스레드 안에서 같은 메모리 선점으로 DB 반영 전에 충돌을 걸러냅니다.
+        return mode == SeatClaimMode.IN_MEMORY || mode == SeatClaimMode.SEQUENCED;
+    }
+
+    @Override
+    protected SeatClaimResult tryClaim(Long showtimeId, List<Long> seatIds, SeatStatus target) {
+        return seatStateEngine.claim(showtimeId, seatIds, target);
+    }
+
+    @Override
+    protected void releaseClaim(Long showtimeId, List<Long> seatIds) {
+        seatStateEngine.release(showtimeId, seatIds);
+    }
+
+    @Override
+    protected void load(Long showtimeId) {
+        seatStateEngine.hydrate(showtimeId);
+    }
+
+    @Override
+    protected void onClaimCompleted(Long showtimeId) {
+        seatStateEngine.completeClaim(showtimeId);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.practice_shop.service.seat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 생산자 / 단일 소비자용 고정 크기 링 버퍼입니다. (잠금 없음)
+ * <p>
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 CAS로 자리를 예약하고,
+ * 소비자는 시퀀스가 채워진 슬롯만 꺼냅니다. 버퍼가 가득 차면 offer가 false를 반환합니다.
+ * </p>
+ */
+final class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // 소비자 스레드만 접근
+
+    MpscRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 요소를 넣습니다. 여러 스레드에서 동시에 호출할 수 있습니다.
+     * @param element 넣을 요소
+     * @return 버퍼가 가득 차 넣지 못했으면 false
+     */
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 요소를 꺼냅니다. 소비자 스레드에서만 호출해야 합니다.
+     * @return 꺼낸 요소 (비어 있으면 null)
+     */
+    E poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = buffer.get(index);
+        buffer.set(index, null);
+        sequences.set(index, head + capacity);
+        head++;
+        return element;
+    }
+}
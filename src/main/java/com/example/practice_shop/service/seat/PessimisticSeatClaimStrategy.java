@@ -0,0 +1,53 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatClaimMode;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.entity.SeatInventory;
+import com.example.practice_shop.entity.Showtime;
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 행 잠금(PESSIMISTIC_WRITE)으로 좌석을 선점합니다.
+ * 트랜잭션이 끝날 때까지 같은 좌석에 대한 다른 요청은 대기합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PessimisticSeatClaimStrategy implements SeatClaimStrategy {
+
+    private final SeatInventoryRepository seatInventoryRepository;
+
+    @Override
+    public boolean supports(SeatClaimMode mode) {
+        return mode == SeatClaimMode.PESSIMISTIC_LOCK;
+    }
+
+    @Override
+    public List<SeatInventory> claim(Showtime showtime, List<Long> seatIds, SeatStatus target) {
+        List<SeatInventory> selectedInventories = seatInventoryRepository.findAllBySeatIdInAndShowtimeIdWithLock(seatIds, showtime.getId());
+
+        if (selectedInventories.size() != seatIds.size()) {
+            throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
+        }
+
+        // 좌석이 이미 예약되었는지 확인
+        // JPA Dirty Checking: 영속성 컨텍스트에서 관리되는 엔티티는
+        // 트랜잭션 커밋 시 자동으로 변경사항이 DB에 반영됩니다.
+        for (SeatInventory inventory : selectedInventories) {
+            if (inventory.getStatus() != SeatStatus.AVAILABLE) {
+                throw new CustomException(ErrorCode.SEAT_ALREADY_RESERVED);
+            }
+            inventory.setStatus(target); // 좌석 상태를 '예약됨' 또는 '선점됨'으로 변경
+        }
+        return selectedInventories;
+    }
+
+    @Override
+    public void release(Long showtimeId, List<SeatInventory> inventories) {
+        // DB 상태가 곧 좌석 상태이므로 별도 처리가 필요 없습니다.
+    }
+}
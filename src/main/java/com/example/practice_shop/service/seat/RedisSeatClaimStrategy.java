@@ -0,0 +1,53 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatClaimMode;
+import com.example.practice_shop.constant.SeatClaimResult;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.repository.SeatClaimRepository;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Lua 스크립트로 좌석을 선점합니다.
+ * 회차의 좌석 상태를 Redis Hash에 적재해 두고, 스크립트 한 번으로 요청 좌석 전체를 확인하고 RESERVED로 변경합니다.
+ * 선점 경쟁은 Redis에서 끝나므로 DB 행 잠금 대기가 발생하지 않습니다.
+ */
+@Component
+public class RedisSeatClaimStrategy extends WriteBehindSeatClaimStrategy {
+
+    private static final Duration CLAIM_STATE_TTL = Duration.ofDays(1); // Redis 좌석 상태 유지 시간
+
+    private final SeatClaimRepository seatClaimRepository;
+
+    public RedisSeatClaimStrategy(SeatInventoryRepository seatInventoryRepository, SeatClaimRepository seatClaimRepository) {
+        super(seatInventoryRepository);
+        this.seatClaimRepository = seatClaimRepository;
+    }
+
+    @Override
+    public boolean supports(SeatClaimMode mode) {
+        return mode == SeatClaimMode.REDIS_SCRIPT;
+    }
+
+    @Override
+    protected SeatClaimResult tryClaim(Long showtimeId, List<Long> seatIds, SeatStatus target) {
+        return seatClaimRepository.claim(showtimeId, seatIds, target.name());
+    }
+
+    @Override
+    protected void releaseClaim(Long showtimeId, List<Long> seatIds) {
+        seatClaimRepository.release(showtimeId, seatIds);
+    }
+
+    @Override
+    protected void load(Long showtimeId) {
+        Map<Long, String> seatStatuses = new HashMap<>();
+        seatInventoryRepository.findSeatStatusesByShowtimeId(showtimeId)
+                .forEach(view -> seatStatuses.put(view.getSeatId(), view.getStatus().name()));
+        seatClaimRepository.loadIfAbsent(showtimeId, seatStatuses, CLAIM_STATE_TTL);
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회차별 예매 명령을 단일 스레드 샤드에서 순서대로 실행합니다. (SEQUENCED 방식 회차용)
+ * <p>
+ * - 회차 ID 해시로 고정된 샤드를 고르므로 한 회차의 명령은 항상 같은 스레드에서 도착 순서대로 실행됩니다.
+ * - 샤드는 링 버퍼에 쌓인 명령을 최대 MAX_BATCH개씩 꺼내 하나의 트랜잭션으로 커밋합니다. (그룹 커밋)
+ * - 묶음 중 하나라도 실패하면 묶음 전체를 롤백하고 명령마다 개별 트랜잭션으로 다시 실행해,
+ *   실패한 명령만 실패로 응답합니다.
+ * - 기다리던 쪽이 시간 초과로 포기한 명령은 실행하지 않고, 실행 중이었다면 롤백합니다.
+ *   커밋 단계에 들어간 명령은 결과가 정해졌으므로 포기하지 않고 끝까지 기다립니다. (응답 없이 좌석만 잡히는 일 방지)
+ * - 샤드 스레드는 명령이 없으면 멈춰 있고, 명령을 넣는 쪽이 깨웁니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ReservationSequencer implements SmartLifecycle {
+
+    private static final int INBOX_CAPACITY = 1024;
+    private static final int MAX_BATCH = 32;
+
+    private final TransactionTemplate transactionTemplate;
+    private final Duration timeout;
+    private final Shard[] shards;
+    private volatile boolean running;
+
+    public ReservationSequencer(PlatformTransactionManager transactionManager,
+                                @Value("${ticketing.sequencer.shards:4}") int shardCount,
+                                @Value("${ticketing.sequencer.timeout:5s}") Duration timeout) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timeout = timeout;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+        }
+    }
+
+    /**
+     * 회차 샤드에서 명령을 실행하고 결과를 기다립니다.
+     * 명령은 샤드의 트랜잭션 안에서 실행되므로 호출하는 쪽은 트랜잭션 밖이어야 합니다.
+     * @param showtimeId 회차 ID
+     * @param command 실행할 명령
+     * @return 명령 결과
+     */
+    public <T> T execute(Long showtimeId, Supplier<T> command) {
+        Shard shard = shards[Math.floorMod(Long.hashCode(showtimeId), shards.length)];
+        Command<T> submitted = new Command<>(command);
+        if (!running || !shard.inbox.offer(submitted)) {
+            throw new CustomException(ErrorCode.SEQUENCER_BUSY);
+        }
+        LockSupport.unpark(shard.thread);
+        return await(submitted);
+    }
+
+    /**
+     * 명령 결과를 기다립니다.
+     * 시간 초과나 인터럽트로 포기할 때는 명령을 abandon 상태로 바꿔, 샤드가 실행하지 않거나 롤백하게 합니다.
+     * 이미 커밋 단계에 들어가 포기할 수 없으면 결과가 나올 때까지 기다립니다.
+     * @param submitted 제출한 명령
+     * @return 명령 결과
+     */
+    private <T> T await(Command<T> submitted) {
+        try {
+            return submitted.future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            if (submitted.abandon()) {
+                throw new CustomException(ErrorCode.SEQUENCER_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (submitted.abandon()) {
+                throw new CustomException(ErrorCode.SEQUENCER_BUSY);
+            }
+        }
+
+        try {
+            return submitted.future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (Shard shard : shards) {
+            shard.thread.start();
+        }
+        log.info("Reservation sequencer started with {} shards", shards.length);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Shard shard : shards) {
+            LockSupport.unpark(shard.thread);
+        }
+        for (Shard shard : shards) {
+            try {
+                shard.thread.join(timeout.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private final class Shard implements Runnable {
+
+        private final MpscRingBuffer<Command<?>> inbox = new MpscRingBuffer<>(INBOX_CAPACITY);
+        private final Thread thread;
+
+        private Shard(int index) {
+            this.thread = new Thread(this, "reservation-sequencer-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<Command<?>> batch = new ArrayList<>(MAX_BATCH);
+            while (running) {
+                Command<?> command;
+                while (batch.size() < MAX_BATCH && (command = inbox.poll()) != null) {
+                    batch.add(command);
+                }
+                if (batch.isEmpty()) {
+                    // offer 후 unpark가 먼저 와도 permit이 남아 있어 바로 깨어나므로, 명령을 놓치지 않습니다.
+                    LockSupport.park(this);
+                    continue;
+                }
+                commit(batch);
+                batch.clear();
+            }
+
+            // 종료 중에 남은 명령은 실행하지 않고 실패로 응답합니다.
+            Command<?> remaining;
+            while ((remaining = inbox.poll()) != null) {
+                remaining.future.completeExceptionally(new CustomException(ErrorCode.SEQUENCER_BUSY));
+            }
+        }
+
+        private void commit(List<Command<?>> batch) {
+            // 기다리던 쪽이 이미 포기한 명령은 실행하지 않습니다.
+            List<Command<?>> live = new ArrayList<>(batch.size());
+            for (Command<?> command : batch) {
+                if (command.start()) {
+                    live.add(command);
+                }
+            }
+
+            if (live.size() > 1) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        live.forEach(Command::apply);
+                        if (!live.stream().allMatch(Command::beginCommit)) {
+                            throw new IllegalStateException("abandoned command in batch");
+                        }
+                    });
+                    live.forEach(Command::complete);
+                    return;
+                } catch (RuntimeException e) {
+                    log.debug("Group commit of {} commands failed, retrying one by one", live.size(), e);
+                    live.forEach(Command::resume);
+                }
+            }
+
+            for (Command<?> command : live) {
+                if (command.isAbandoned()) {
+                    continue;
+                }
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        command.apply();
+                        if (!command.beginCommit()) {
+                            // 실행하는 동안 기다리던 쪽이 포기했으므로 결과를 남기지 않습니다.
+                            status.setRollbackOnly();
+                        }
+                    });
+                    command.complete();
+                } catch (RuntimeException e) {
+                    command.future.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 샤드에 제출된 명령입니다.
+     * 상태는 PENDING -> RUNNING -> COMMITTING 순서로 바뀌며,
+     * 기다리던 쪽은 PENDING/RUNNING일 때만 ABANDONED로 바꿀 수 있습니다.
+     */
+    private static final class Command<T> {
+
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int COMMITTING = 2;
+        private static final int ABANDONED = 3;
+
+        private final Supplier<T> action;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private T result;
+
+        private Command(Supplier<T> action) {
+            this.action = action;
+        }
+
+        private void apply() {
+            result = action.get();
+        }
+
+        private void complete() {
+            future.complete(result);
+        }
+
+        private boolean start() {
+            return state.compareAndSet(PENDING, RUNNING);
+        }
+
+        private boolean beginCommit() {
+            return state.compareAndSet(RUNNING, COMMITTING);
+        }
+
+        /**
+         * 묶음 커밋이 실패해 개별 실행으로 넘어갈 때 커밋 단계를 되돌립니다.
+         */
+        private void resume() {
+            state.compareAndSet(COMMITTING, RUNNING);
+        }
+
+        private boolean abandon() {
+            return state.compareAndSet(PENDING, ABANDONED) || state.compareAndSet(RUNNING, ABANDONED);
+        }
+
+        private boolean isAbandoned() {
+            return state.get() == ABANDONED;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.dtos.ticketing.SeatStatusMessage.SeatStatusItem;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import com.example.practice_shop.repository.SeatInventoryRepository.SeatStatusView;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회차별 빈 좌석 구간 인덱스를 관리합니다.
+ * <p>
+ * - 처음 요청이 들어온 회차의 좌석 배치를 seat_inventory에서 한 번 적재합니다.
+ * - 이후에는 SeatBroadcastRelay가 중계한 좌석 변경(모든 노드의 SeatStatusChangedEvent)을 좌석 단위로 반영합니다.
+ * - 선점 충돌이 나면 할당했던 좌석의 상태만 DB에서 다시 읽어 반영합니다. (회차 전체를 다시 적재하지 않음)
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatAllocationIndex {
+
+    private static final long IDLE_EVICT_MILLIS = 10 * 60_000;
+
+    private final SeatInventoryRepository seatInventoryRepository;
+
+    private final Map<Long, IndexedShowtime> showtimes = new ConcurrentHashMap<>();
+
+    /**
+     * 조건에 맞는 연속 좌석을 할당합니다. 할당된 좌석은 다른 요청에 다시 할당되지 않습니다.
+     * @param showtimeId 회차 ID
+     * @param quantity 좌석 수
+     * @param sectionName 구역 (null이면 전체)
+     * @param price 가격 (null이면 전체)
+     * @return 좌석 ID 목록 (연속 구간이 없으면 빈 목록)
+     */
+    public List<Long> allocate(Long showtimeId, int quantity, String sectionName, BigDecimal price) {
+        IndexedShowtime indexed = showtimes.computeIfAbsent(showtimeId, id -> new IndexedShowtime());
+        indexed.lastUsedAt = System.currentTimeMillis();
+        return layout(showtimeId, indexed).allocate(quantity, sectionName, price);
+    }
+
+    /**
+     * 예매에 쓰지 못한 좌석을 인덱스에 되돌립니다. (선점 충돌이 아닌 실패)
+     * @param showtimeId 회차 ID
+     * @param seatIds 할당받았던 좌석 ID 목록
+     */
+    public void release(Long showtimeId, List<Long> seatIds) {
+        IndexedShowtime indexed = showtimes.get(showtimeId);
+        if (indexed != null && indexed.layout != null) {
+            indexed.layout.markFree(seatIds);
+        }
+    }
+
+    /**
+     * 선점 충돌이 난 좌석들의 실제 상태를 DB에서 읽어 반영합니다.
+     * 다른 경로로 점유된 좌석만 점유로 남고, 비어 있는 좌석은 다시 할당됩니다.
+     * @param showtimeId 회차 ID
+     * @param seatIds 할당받았던 좌석 ID 목록
+     */
+    public void reconcile(Long showtimeId, List<Long> seatIds) {
+        IndexedShowtime indexed = showtimes.get(showtimeId);
+        if (indexed == null || indexed.layout == null) {
+            return;
+        }
+        List<Long> free = new ArrayList<>();
+        List<Long> taken = new ArrayList<>();
+        for (SeatStatusView view : seatInventoryRepository.findSeatStatusesBySeatIds(showtimeId, seatIds)) {
+            (view.getStatus() == SeatStatus.AVAILABLE ? free : taken).add(view.getSeatId());
+        }
+        indexed.layout.markTaken(taken);
+        indexed.layout.markFree(free);
+    }
+
+    /**
+     * 중계된 좌석 변경을 인덱스에 반영합니다. 인덱스가 없는 회차는 무시합니다.
+     * @param showtimeId 회차 ID
+     * @param seats 바뀐 좌석 상태 (null이면 resync: 인덱스를 버리고 다음 요청에서 다시 적재)
+     */
+    public void apply(Long showtimeId, List<SeatStatusItem> seats) {
+        IndexedShowtime indexed = showtimes.get(showtimeId);
+        if (indexed == null) {
+            return;
+        }
+        if (seats == null) {
+            showtimes.remove(showtimeId, indexed);
+            return;
+        }
+        indexed.apply(seats);
+    }
+
+    /**
+     * 오래 사용되지 않은 회차 인덱스를 정리합니다.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - IDLE_EVICT_MILLIS;
+        showtimes.values().removeIf(indexed -> indexed.lastUsedAt < threshold);
+    }
+
+    /**
+     * 회차 인덱스를 반환합니다. 없으면 DB에서 적재합니다.
+     * 적재는 맵 밖에서 회차별 잠금으로만 막으므로 다른 회차의 요청과 변경 반영은 기다리지 않습니다.
+     */
+    private ShowtimeSeatLayout layout(Long showtimeId, IndexedShowtime indexed) {
+        ShowtimeSeatLayout layout = indexed.layout;
+        if (layout != null) {
+            return layout;
+        }
+        synchronized (indexed.loadLock) {
+            if (indexed.layout == null) {
+                indexed.startLoading();
+                ShowtimeSeatLayout loaded;
+                try {
+                    loaded = new ShowtimeSeatLayout(seatInventoryRepository.findSeatLayoutByShowtimeId(showtimeId));
+                } catch (RuntimeException e) {
+                    indexed.abortLoading();
+                    throw e;
+                }
+                indexed.install(loaded);
+            }
+            return indexed.layout;
+        }
+    }
+
+    private static final class IndexedShowtime {
+        private final Object loadLock = new Object();
+        private volatile ShowtimeSeatLayout layout;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+        // 적재 중에 받은 변경 (적재가 끝나면 다시 반영)
+        private List<SeatStatusItem> pending;
+
+        private synchronized void startLoading() {
+            pending = new ArrayList<>();
+        }
+
+        private synchronized void abortLoading() {
+            pending = null;
+        }
+
+        private synchronized void install(ShowtimeSeatLayout loaded) {
+            apply(loaded, pending);
+            pending = null;
+            layout = loaded;
+        }
+
+        private synchronized void apply(List<SeatStatusItem> seats) {
+            if (layout != null) {
+                apply(layout, seats);
+            } else if (pending != null) {
+                pending.addAll(seats);
+            }
+        }
+
+        private static void apply(ShowtimeSeatLayout target, Collection<SeatStatusItem> seats) {
+            List<Long> free = new ArrayList<>();
+            List<Long> taken = new ArrayList<>();
+            for (SeatStatusItem seat : seats) {
+                (seat.getStatus() == SeatStatus.AVAILABLE ? free : taken).add(seat.getSeatId());
+            }
+            target.markTaken(taken);
+            target.markFree(free);
+        }
+    }
+}
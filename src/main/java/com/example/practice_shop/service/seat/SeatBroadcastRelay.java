@@ -0,0 +1,104 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.dtos.ticketing.SeatStatusMessage;
+import com.example.practice_shop.repository.SeatRelayRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 변경 메시지를 Redis Pub/Sub으로 모든 노드에 중계합니다.
+ * <p>
+ * 1. flush된 메시지는 로컬 브로커로 바로 보내지 않고 Redis 채널에 발행하며, 이때 회차별 일련번호를 받습니다.
+ * 2. 발행한 노드를 포함한 모든 노드가 채널을 구독하고, 받은 메시지를 자기 노드의 /topic/seat/{showtimeId}로 다시 보냅니다.
+ * 3. 이미 받은 번호는 버리고(중복 제거), 빠진 번호는 SeatDeltaLog에 gap으로 남겨 /changes가 스냅샷으로 넘어가게 합니다.
+ * 4. 받은 변경은 SeatSnapshotCache와 SeatAllocationIndex에도 반영해 구독 시점 스냅샷과 연속 좌석 인덱스를 최신으로 유지합니다.
+ * </p>
+ * 외부 STOMP 브로커 없이 simple broker만으로 어느 노드에 접속한 구독자든 같은 순서의 메시지를 받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatBroadcastRelay implements MessageListener {
+
+    // 마지막 발행 후 이 시간 동안 변경이 없으면 번호 키를 정리합니다. 다시 만들 때는 현재 시각부터 시작합니다.
+    private static final Duration SEQ_TTL = Duration.ofDays(1);
+    private static final String CHANNEL_PREFIX = "seat:relay:";
+
+    private final SeatRelayRepository seatRelayRepository;
+    private final SeatDeltaLog seatDeltaLog;
+    private final SeatSnapshotCache seatSnapshotCache;
+    private final SeatAllocationIndex seatAllocationIndex;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new PatternTopic(SeatRelayRepository.CHANNEL_PATTERN));
+    }
+
+    /**
+     * 좌석 변경 메시지를 모든 노드에 발행합니다. seq는 발행하면서 정해지므로 message의 seq는 무시됩니다.
+     * @param message 보낼 메시지
+     * @return 발급된 일련번호
+     */
+    public long publish(SeatStatusMessage message) {
+        try {
+            return seatRelayRepository.publish(message.getShowtimeId(), objectMapper.writeValueAsString(message), SEQ_TTL);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("좌석 메시지 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 중계된 메시지를 로컬 브로커로 보냅니다. 구독 컨테이너의 단일 스레드에서 번호 순서대로 호출됩니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Long showtimeId = Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+            int separator = body.indexOf('|');
+            long seq = Long.parseLong(body.substring(0, separator));
+            SeatStatusMessage relayed = objectMapper.readValue(body.substring(separator + 1), SeatStatusMessage.class);
+
+            List<SeatStatusMessage.SeatStatusItem> seats = relayed.isResync() ? null : relayed.getSeats();
+            if (!seatDeltaLog.record(showtimeId, seq, seats)) {
+                return;
+            }
+            seatSnapshotCache.apply(showtimeId, seq, seats);
+            seatAllocationIndex.apply(showtimeId, seats);
+            messagingTemplate.convertAndSend(topic(showtimeId), SeatStatusMessage.builder()
+                    .showtimeId(showtimeId)
+                    .seq(seq)
+                    .resync(relayed.isResync())
+                    .seats(relayed.getSeats())
+                    .build());
+        } catch (Exception e) {
+            // 예외가 밖으로 나가도 구독은 유지되지만, 이 메시지는 구독자 쪽에서 번호가 빠진 것으로 보고 따라잡습니다.
+            log.error("Failed to relay seat statuses from channel {}", channel, e);
+        }
+    }
+
+    /**
+     * 좌석 상태를 브로드캐스팅할 토픽을 반환합니다.
+     * @param showtimeId
+     * @return
+     */
+    private String topic(Long showtimeId) {
+        return "/topic/seat/" + showtimeId;
+    }
+}
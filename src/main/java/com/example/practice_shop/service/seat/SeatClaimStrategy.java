@@ -0,0 +1,33 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatClaimMode;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.entity.SeatInventory;
+import com.example.practice_shop.entity.Showtime;
+import java.util.List;
+
+public interface SeatClaimStrategy {
+    /**
+     * 해당 좌석 선점 방식을 처리할 수 있는지 확인합니다.
+     * @param mode 회차에 설정된 좌석 선점 방식
+     * @return 처리 가능 여부
+     */
+    boolean supports(SeatClaimMode mode);
+
+    /**
+     * 요청한 좌석을 모두 선점합니다. 하나라도 선점할 수 없으면 예외를 던집니다. (all-or-nothing)
+     * 반환되는 좌석 재고는 목표 상태(RESERVED 또는 HOLD)로 변경되어 있으며, 현재 트랜잭션 커밋 시 DB에 반영됩니다.
+     * @param showtime 회차
+     * @param seatIds 좌석 ID 목록
+     * @param target 목표 상태
+     * @return 선점된 좌석 재고 목록
+     */
+    List<SeatInventory> claim(Showtime showtime, List<Long> seatIds, SeatStatus target);
+
+    /**
+     * AVAILABLE로 되돌린 좌석을 선점 엔진에 반영합니다.
+     * @param showtimeId 회차 ID
+     * @param inventories 해제된 좌석 재고 목록
+     */
+    void release(Long showtimeId, List<SeatInventory> inventories);
+}
@@ -0,0 +1,28 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatClaimMode;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회차에 설정된 좌석 선점 방식에 맞는 SeatClaimStrategy를 찾아줍니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatClaimStrategyResolver {
+
+    private final List<SeatClaimStrategy> strategies;
+
+    /**
+     * 좌석 선점 방식에 해당하는 전략을 반환합니다.
+     * @param mode 좌석 선점 방식
+     * @return 좌석 선점 전략
+     */
+    public SeatClaimStrategy resolve(SeatClaimMode mode) {
+        return strategies.stream()
+                .filter(strategy -> strategy.supports(mode))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("지원하지 않는 좌석 선점 방식입니다: " + mode));
+    }
+}
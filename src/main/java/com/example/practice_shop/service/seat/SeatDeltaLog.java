@@ -0,0 +1,159 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.dtos.ticketing.SeatStatusMessage.SeatStatusItem;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회차별로 최근 좌석 변경 메시지(delta)를 일련번호와 함께 보관합니다.
+ * <p>
+ * - 일련번호는 SeatBroadcastRelay가 Redis에서 받아 온 값이며, 노드마다 같은 번호로 기록됩니다.
+ * - 최근 history개의 delta를 링 버퍼에 보관하고, 클라이언트가 놓친 구간을 합쳐서 돌려줍니다.
+ * - 이미 기록한 번호는 무시하고, 건너뛴 번호는 내용 없는 구간(gap)으로 기록합니다.
+ * - 링 버퍼보다 오래된 구간이나 gap이 포함되면 돌려줄 수 없으므로 호출한 쪽이 전체 스냅샷으로 대신합니다.
+ * </p>
+ */
+@Component
+public class SeatDeltaLog {
+
+    private static final long IDLE_EVICT_MILLIS = 30 * 60_000;
+
+    private final int history;
+    private final Map<Long, DeltaRing> rings = new ConcurrentHashMap<>();
+
+    public SeatDeltaLog(@Value("${ticketing.seat-broadcast.history:256}") int history) {
+        this.history = history;
+    }
+
+    /**
+     * delta를 기록합니다.
+     * @param showtimeId 회차 ID
+     * @param seq 일련번호
+     * @param seats 바뀐 좌석 상태 (null이면 내용을 버린 구간으로 기록하며, 이 번호를 포함하는 since 조회는 empty가 됩니다)
+     * @return 새로 기록했으면 true, 이미 기록한 번호면 false
+     */
+    public boolean record(Long showtimeId, long seq, List<SeatStatusItem> seats) {
+        // 링은 중계된 변경을 기록할 때만 만듭니다. 조회로는 만들지 않습니다. (공개 API로 임의 회차 ID를 조회해도 메모리가 늘지 않음)
+        return rings.computeIfAbsent(showtimeId, id -> new DeltaRing(history)).record(seq, seats);
+    }
+
+    /**
+     * 이 노드가 기록한 최신 일련번호를 조회합니다.
+     * @param showtimeId 회차 ID
+     * @return 최신 일련번호 (기록이 없으면 0)
+     */
+    public long latestSeq(Long showtimeId) {
+        DeltaRing ring = rings.get(showtimeId);
+        return ring != null ? ring.latestSeq() : 0;
+    }
+
+    /**
+     * since 이후의 변경을 좌석별 마지막 상태로 합쳐서 조회합니다.
+     * @param showtimeId 회차 ID
+     * @param since 클라이언트가 마지막으로 받은 일련번호
+     * @return since 이후 변경 (링 버퍼에 남아 있지 않거나 since가 잘못되었으면 empty)
+     */
+    public Optional<SeatDelta> since(Long showtimeId, long since) {
+        DeltaRing ring = rings.get(showtimeId);
+        return ring != null ? ring.since(since) : Optional.empty();
+    }
+
+    /**
+     * 오래 변경이 없는 회차의 링 버퍼를 정리합니다.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - IDLE_EVICT_MILLIS;
+        rings.values().removeIf(ring -> ring.lastAppendedAt() < threshold);
+    }
+
+    int trackedShowtimes() {
+        return rings.size();
+    }
+
+    /**
+     * 합쳐진 변경 내용입니다.
+     * @param seq 포함된 마지막 일련번호
+     * @param seats 좌석별 마지막 상태
+     */
+    public record SeatDelta(long seq, List<SeatStatusItem> seats) {
+    }
+
+    private static final class DeltaRing {
+        private final long[] seqs;
+        private final List<SeatStatusItem>[] frames;
+        private long latestSeq;
+        private int size;
+        private int next;
+        private volatile long lastAppendedAt;
+
+        @SuppressWarnings("unchecked")
+        private DeltaRing(int capacity) {
+            this.seqs = new long[capacity];
+            this.frames = new List[capacity];
+            this.lastAppendedAt = System.currentTimeMillis();
+        }
+
+        private synchronized boolean record(long seq, List<SeatStatusItem> seats) {
+            if (size > 0 && seq <= latestSeq) {
+                return false;
+            }
+            long missing = size > 0 ? seq - latestSeq - 1 : 0;
+            if (size == 0 || missing >= seqs.length) {
+                // 처음 받았거나 링 전체보다 많이 건너뛰었으면 이전 구간은 모두 알 수 없는 것으로 보고 새로 시작합니다.
+                size = 0;
+                latestSeq = seq - 1;
+            } else {
+                for (long i = 0; i < missing; i++) {
+                    append(null);
+                }
+            }
+            append(seats);
+            lastAppendedAt = System.currentTimeMillis();
+            return true;
+        }
+
+        private synchronized long latestSeq() {
+            return size > 0 ? latestSeq : 0L;
+        }
+
+        private void append(List<SeatStatusItem> seats) {
+            latestSeq++;
+            seqs[next] = latestSeq;
+            frames[next] = seats;
+            next = (next + 1) % seqs.length;
+            size = Math.min(size + 1, seqs.length);
+        }
+
+        private synchronized Optional<SeatDelta> since(long since) {
+            if (size == 0 || since > latestSeq) {
+                return Optional.empty();
+            }
+            long oldestSeq = latestSeq - size + 1;
+            if (since < oldestSeq - 1) {
+                return Optional.empty();
+            }
+            Map<Long, SeatStatusItem> merged = new LinkedHashMap<>();
+            int count = (int) (latestSeq - since);
+            for (int i = count; i >= 1; i--) {
+                List<SeatStatusItem> frame = frames[Math.floorMod(next - i, seqs.length)];
+                if (frame == null) {
+                    return Optional.empty();
+                }
+                frame.forEach(item -> merged.put(item.getSeatInventoryId(), item));
+            }
+            return Optional.of(new SeatDelta(latestSeq, new ArrayList<>(merged.values())));
+        }
+
+        private long lastAppendedAt() {
+            return lastAppendedAt;
+        }
+    }
+}
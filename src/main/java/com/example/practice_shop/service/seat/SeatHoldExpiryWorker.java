@@ -0,0 +1,107 @@
+package com.example.practice_shop.service.seat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 타이밍 휠에서 만료된 좌석 선점을 꺼내 묶음 단위로 반환하는 워커입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldExpiryWorker {
+
+    private static final int RELEASE_BATCH_SIZE = 500; // UPDATE 한 번에 반환할 최대 좌석 수
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5); // 반환 실패 시 재시도 간격
+    private static final Duration SWEEP_GRACE = Duration.ofSeconds(30); // 타이머가 먼저 처리하도록 DB 정리에서 제외하는 시간
+    private static final int SWEEP_MAX_BATCHES = 20;                    // DB 정리 한 번에 반환할 최대 묶음 수
+
+    private final SeatHoldTimer seatHoldTimer;
+    private final SeatHoldService seatHoldService;
+
+    /**
+     * 기동 시 DB에 남아 있는 선점을 타이머에 다시 등록합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        int count = seatHoldService.rescheduleActiveHolds();
+        if (count > 0) {
+            log.info("Rescheduled {} seat holds", count);
+        }
+    }
+
+    /**
+     * 매 tick마다 만료된 선점을 반환합니다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void releaseExpiredHolds() {
+        List<List<Long>> expired = seatHoldTimer.pollExpired();
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        List<Long> batch = new ArrayList<>(RELEASE_BATCH_SIZE);
+        for (List<Long> seatInventoryIds : expired) {
+            for (Long seatInventoryId : seatInventoryIds) {
+                batch.add(seatInventoryId);
+                if (batch.size() == RELEASE_BATCH_SIZE) {
+                    release(batch);
+                    batch = new ArrayList<>(RELEASE_BATCH_SIZE);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            release(batch);
+        }
+    }
+
+    /**
+     * 타이머가 놓친 만료 선점을 DB에서 찾아 반환합니다. (다른 노드가 잡았던 선점, 재시작 사이에 만료된 선점 등)
+     * 정상이라면 타이머가 먼저 반환하므로 찾는 좌석이 없습니다.
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void sweepOverdueHolds() {
+        int released = 0;
+        for (int i = 0; i < SWEEP_MAX_BATCHES; i++) {
+            List<Long> overdue;
+            try {
+                overdue = seatHoldService.findOverdueHolds(SWEEP_GRACE, RELEASE_BATCH_SIZE);
+            } catch (Exception e) {
+                log.error("Failed to look up overdue seat holds", e);
+                return;
+            }
+            if (overdue.isEmpty()) {
+                break;
+            }
+            try {
+                released += seatHoldService.releaseExpired(overdue);
+            } catch (Exception e) {
+                log.error("Failed to release overdue seat holds: {}", overdue, e);
+                return;
+            }
+            if (overdue.size() < RELEASE_BATCH_SIZE) {
+                break;
+            }
+        }
+        if (released > 0) {
+            log.warn("Released {} overdue seat holds missed by the hold timer", released);
+        }
+    }
+
+    private void release(List<Long> seatInventoryIds) {
+        try {
+            seatHoldService.releaseExpired(seatInventoryIds);
+        } catch (Exception e) {
+            log.error("Failed to release expired seat holds, retrying in {}: {}", RETRY_DELAY, seatInventoryIds, e);
+            seatHoldTimer.schedule(seatInventoryIds, LocalDateTime.now().plus(RETRY_DELAY));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.dtos.ticketing.SeatHoldResponse;
+import com.example.practice_shop.dtos.ticketing.SeatSelectionRequest;
+import com.example.practice_shop.entity.SeatInventory;
+import com.example.practice_shop.entity.Showtime;
+import com.example.practice_shop.entity.User;
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import com.example.practice_shop.repository.ShowtimeRepository;
+import com.example.practice_shop.repository.UserRepository;
+import com.example.practice_shop.service.SeatRealtimeService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 좌석 임시 선점(HOLD)을 관리합니다.
+ * <p>
+ * 1. 좌석을 선점하면 HOLD 상태와 만료 시각이 기록되고, 만료 타이머에 등록됩니다.
+ * 2. 만료 전에 예매하면 본인이 선점한 좌석을 RESERVED로 전환합니다.
+ * 3. 만료되면 만료 워커가 좌석을 묶음 단위로 AVAILABLE로 되돌리고 실시간으로 알립니다.
+ * </p>
+ */
+@Service
+public class SeatHoldService {
+
+    private final UserRepository userRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final SeatInventoryRepository seatInventoryRepository;
+    private final SeatClaimStrategyResolver seatClaimStrategyResolver;
+    private final SeatHoldTimer seatHoldTimer;
+    private final SeatRealtimeService seatRealtimeService;
+    private final Duration holdTtl;
+
+    public SeatHoldService(UserRepository userRepository,
+                           ShowtimeRepository showtimeRepository,
+                           SeatInventoryRepository seatInventoryRepository,
+                           SeatClaimStrategyResolver seatClaimStrategyResolver,
+                           SeatHoldTimer seatHoldTimer,
+                           SeatRealtimeService seatRealtimeService,
+                           @Value("${ticketing.seat-hold.ttl:7m}") Duration holdTtl) {
+        this.userRepository = userRepository;
+        this.showtimeRepository = showtimeRepository;
+        this.seatInventoryRepository = seatInventoryRepository;
+        this.seatClaimStrategyResolver = seatClaimStrategyResolver;
+        this.seatHoldTimer = seatHoldTimer;
+        this.seatRealtimeService = seatRealtimeService;
+        this.holdTtl = holdTtl;
+    }
+
+    /**
+     * 좌석을 일정 시간 동안 선점합니다.
+     * @param email 사용자 이메일
+     * @param request 좌석 선택 정보
+     * @return 선점 결과 (만료 시각 포함)
+     */
+    @Transactional
+    public SeatHoldResponse hold(String email, SeatSelectionRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        Showtime showtime = showtimeRepository.findById(request.getShowtimeId())
+                .orElseThrow(() -> new CustomException(ErrorCode.SHOWTIME_NOT_FOUND));
+
+        List<SeatInventory> inventories = seatClaimStrategyResolver.resolve(showtime.getSeatClaimMode())
+                .claim(showtime, request.getSeatIds(), SeatStatus.HOLD);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(holdTtl);
+        for (SeatInventory inventory : inventories) {
+            inventory.setHoldExpiresAt(expiresAt);
+            inventory.setHoldUserId(user.getId());
+        }
+
+        seatHoldTimer.schedule(inventories.stream().map(SeatInventory::getId).toList(), expiresAt);
+        seatRealtimeService.broadcastSeatStatuses(showtime.getId(), inventories);
+
+        return SeatHoldResponse.builder()
+                .showtimeId(showtime.getId())
+                .seatIds(request.getSeatIds())
+                .holdExpiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * 본인이 선점한 좌석을 예매(RESERVED) 상태로 전환합니다. 예매 트랜잭션 안에서 호출됩니다.
+     * 선점한 사용자만 접근하는 좌석이므로 행 잠금 경쟁이 없습니다.
+     * @param user 사용자
+     * @param showtime 회차
+     * @param seatIds 좌석 ID 목록
+     * @return 예매로 전환된 좌석 재고 목록
+     */
+    @Transactional
+    public List<SeatInventory> promote(User user, Showtime showtime, List<Long> seatIds) {
+        List<SeatInventory> inventories = seatInventoryRepository.findAllBySeatIdInAndShowtimeIdWithLock(seatIds, showtime.getId());
+        if (inventories.size() != seatIds.size()) {
+            throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (SeatInventory inventory : inventories) {
+            if (inventory.getStatus() != SeatStatus.HOLD || !user.getId().equals(inventory.getHoldUserId())) {
+                throw new CustomException(ErrorCode.SEAT_NOT_HELD);
+            }
+            // 만료 시각이 없는 선점은 만료 워커가 즉시 반환하는 대상이므로 만료로 봅니다.
+            if (inventory.getHoldExpiresAt() == null || !inventory.getHoldExpiresAt().isAfter(now)) {
+                throw new CustomException(ErrorCode.SEAT_HOLD_EXPIRED);
+            }
+            inventory.setStatus(SeatStatus.RESERVED);
+            inventory.setHoldExpiresAt(null);
+            inventory.setHoldUserId(null);
+        }
+        return inventories;
+    }
+
+    /**
+     * 만료된 선점 좌석을 한 번의 UPDATE로 반환하고, 회차별로 한 번씩 브로드캐스트합니다.
+     * 이미 예매로 전환되었거나 다시 선점된 좌석은 건너뜁니다.
+     * @param seatInventoryIds 만료 대상 좌석 재고 ID 목록
+     * @return 반환된 좌석 수
+     */
+    @Transactional
+    public int releaseExpired(List<Long> seatInventoryIds) {
+        List<SeatInventory> expired = seatInventoryRepository.findExpiredHoldsWithLock(seatInventoryIds, SeatStatus.HOLD, LocalDateTime.now());
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        seatInventoryRepository.releaseSeats(expired.stream().map(SeatInventory::getId).toList(), SeatStatus.AVAILABLE);
+
+        Map<Long, List<SeatInventory>> byShowtime = expired.stream()
+                .collect(Collectors.groupingBy(inv -> inv.getShowtime().getId(), LinkedHashMap::new, Collectors.toList()));
+        byShowtime.forEach((showtimeId, inventories) -> {
+            // 벌크 UPDATE 결과를 브로드캐스트용 객체에도 반영합니다.
+            inventories.forEach(inventory -> {
+                inventory.setStatus(SeatStatus.AVAILABLE);
+                inventory.setHoldExpiresAt(null);
+                inventory.setHoldUserId(null);
+            });
+            seatClaimStrategyResolver.resolve(inventories.get(0).getShowtime().getSeatClaimMode()).release(showtimeId, inventories);
+            seatRealtimeService.broadcastSeatStatuses(showtimeId, inventories);
+        });
+        return expired.size();
+    }
+
+    /**
+     * 만료 시각이 grace 이상 지났는데도 남아 있는 선점 좌석 ID를 조회합니다.
+     * 타이머는 노드 메모리에 있으므로, 선점한 노드가 재시작 전에 내려가 있거나 반환 재시도가 유실된 경우를 DB에서 다시 찾습니다.
+     * @param grace 타이머가 처리할 시간을 주기 위한 유예 시간
+     * @param limit 최대 건수
+     * @return 좌석 재고 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findOverdueHolds(Duration grace, int limit) {
+        return seatInventoryRepository.findExpiredHoldIds(SeatStatus.HOLD, LocalDateTime.now().minus(grace), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 선점 중인 좌석을 만료 타이머에 다시 등록합니다. (기동 시 복구)
+     * @return 등록한 좌석 수
+     */
+    @Transactional(readOnly = true)
+    public int rescheduleActiveHolds() {
+        List<SeatInventoryRepository.SeatHoldView> holds = seatInventoryRepository.findHoldsByStatus(SeatStatus.HOLD);
+        LocalDateTime now = LocalDateTime.now();
+        holds.forEach(hold -> seatHoldTimer.schedule(
+                List.of(hold.getSeatInventoryId()),
+                hold.getHoldExpiresAt() != null ? hold.getHoldExpiresAt() : now));
+        return holds.size();
+    }
+}
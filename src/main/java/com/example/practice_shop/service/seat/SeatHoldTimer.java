@@ -0,0 +1,37 @@
+package com.example.practice_shop.service.seat;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 선점(HOLD) 만료 시각을 타이밍 휠로 관리합니다.
+ * 선점 시 만료 시각을 등록해 두면, 만료 워커가 지나간 tick의 항목만 꺼내 처리합니다. (테이블 전체 스캔 없음)
+ */
+@Component
+public class SeatHoldTimer {
+
+    private static final long TICK_MILLIS = 1000;  // tick 간격
+    private static final int WHEEL_SIZE = 512;     // 버킷 수 (tick * 버킷 수 = 한 바퀴 약 8.5분)
+
+    private final HashedTimingWheel<List<Long>> wheel = new HashedTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+
+    /**
+     * 선점 만료를 등록합니다.
+     * @param seatInventoryIds 선점한 좌석 재고 ID 목록
+     * @param expiresAt 만료 시각
+     */
+    public void schedule(List<Long> seatInventoryIds, LocalDateTime expiresAt) {
+        long deadline = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        wheel.schedule(seatInventoryIds, deadline);
+    }
+
+    /**
+     * 현재 시각까지 만료된 선점을 꺼냅니다.
+     * @return 만료된 좌석 재고 ID 묶음 목록
+     */
+    public synchronized List<List<Long>> pollExpired() {
+        return wheel.advance(System.currentTimeMillis());
+    }
+}
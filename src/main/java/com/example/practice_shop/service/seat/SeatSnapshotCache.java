@@ -0,0 +1,173 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.dtos.ticketing.SeatStatusMessage.SeatStatusItem;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import com.example.practice_shop.repository.SeatInventoryRepository.SeatSnapshotView;
+import com.example.practice_shop.repository.SeatRelayRepository;
+import com.example.practice_shop.repository.ShowtimeRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회차별 좌석 전체 상태를 메모리에 유지합니다. (구독 시점 스냅샷용)
+ * <p>
+ * 1. 처음 요청될 때 DB에서 한 번 읽고, 이후에는 SeatBroadcastRelay가 받은 변경을 그대로 반영합니다.
+ * 2. 적재 중에 도착한 변경은 적재를 마칠 때 SeatDeltaLog에서 다시 반영하므로 빠지지 않습니다.
+ * 3. resync 메시지를 받거나 번호가 빠지면 버리고, 다음 요청 때 다시 적재합니다.
+ * </p>
+ * 따라서 판매 중 구독자가 늘어나도 DB 조회는 노드당 회차별 한 번으로 끝납니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatSnapshotCache {
+
+    private static final long IDLE_EVICT_MILLIS = 10 * 60_000;
+
+    private final SeatInventoryRepository seatInventoryRepository;
+    private final SeatRelayRepository seatRelayRepository;
+    private final SeatDeltaLog seatDeltaLog;
+    private final ShowtimeRepository showtimeRepository;
+
+    private final Map<Long, CachedSeatMap> caches = new ConcurrentHashMap<>();
+
+    /**
+     * 회차 전체 좌석 상태를 조회합니다. 캐시에 없으면 DB에서 적재합니다.
+     * 없는 회차는 캐시를 만들지 않고 빈 스냅샷을 돌려줍니다. (공개 API로 임의 회차 ID를 조회해도 메모리가 늘지 않음)
+     * @param showtimeId 회차 ID
+     * @return 좌석 전체 상태와 반영된 일련번호
+     */
+    public SeatSnapshot snapshot(Long showtimeId) {
+        CachedSeatMap cache = caches.get(showtimeId);
+        if (cache == null) {
+            if (!showtimeRepository.existsById(showtimeId)) {
+                return new SeatSnapshot(0, List.of());
+            }
+            cache = caches.computeIfAbsent(showtimeId, id -> new CachedSeatMap());
+        }
+        Optional<SeatSnapshot> cached = cache.read();
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        // 같은 회차를 동시에 적재하지 않도록 적재만 따로 잠급니다. 변경 반영은 이 잠금을 기다리지 않습니다.
+        synchronized (cache.loadLock) {
+            cached = cache.read();
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            return load(showtimeId, cache);
+        }
+    }
+
+    /**
+     * 중계된 변경을 캐시에 반영합니다. SeatDeltaLog에 기록한 뒤 호출됩니다.
+     * @param showtimeId 회차 ID
+     * @param seq 일련번호
+     * @param seats 바뀐 좌석 상태 (null이면 resync)
+     */
+    public void apply(Long showtimeId, long seq, List<SeatStatusItem> seats) {
+        CachedSeatMap cache = caches.get(showtimeId);
+        if (cache != null) {
+            cache.apply(seq, seats);
+        }
+    }
+
+    int cachedShowtimes() {
+        return caches.size();
+    }
+
+    /**
+     * 오래 조회되지 않은 회차의 캐시를 정리합니다.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - IDLE_EVICT_MILLIS;
+        caches.values().removeIf(cache -> cache.lastReadAt < threshold);
+    }
+
+    /**
+     * DB에서 좌석 상태를 읽어 캐시에 넣습니다.
+     * 번호를 DB 조회보다 먼저 읽으므로, 조회 도중 바뀐 좌석은 SeatDeltaLog에서 다시 반영됩니다.
+     * @param showtimeId 회차 ID
+     * @param cache 회차 캐시
+     * @return 적재한 스냅샷
+     */
+    private SeatSnapshot load(Long showtimeId, CachedSeatMap cache) {
+        long seq = seatRelayRepository.currentSeq(showtimeId);
+        Map<Long, SeatStatusItem> seats = new LinkedHashMap<>();
+        for (SeatSnapshotView view : seatInventoryRepository.findSeatSnapshotByShowtimeId(showtimeId)) {
+            seats.put(view.getSeatInventoryId(), toSeatStatusItem(view));
+        }
+        return cache.install(showtimeId, seq, seats, seatDeltaLog);
+    }
+
+    private SeatStatusItem toSeatStatusItem(SeatSnapshotView view) {
+        return SeatStatusItem.builder()
+                .seatInventoryId(view.getSeatInventoryId())
+                .seatId(view.getSeatId())
+                .sectionName(view.getSectionName())
+                .rowLabel(view.getRowLabel())
+                .seatNumber(view.getSeatNumber())
+                .status(view.getStatus())
+                .holdExpiresAt(view.getHoldExpiresAt())
+                .build();
+    }
+
+    /**
+     * 좌석 전체 상태입니다.
+     * @param seq 반영된 마지막 일련번호
+     * @param seats 좌석 상태
+     */
+    public record SeatSnapshot(long seq, List<SeatStatusItem> seats) {
+    }
+
+    private static final class CachedSeatMap {
+        private final Object loadLock = new Object();
+        private Map<Long, SeatStatusItem> seats;
+        private long seq;
+        private volatile long lastReadAt = System.currentTimeMillis();
+
+        private synchronized Optional<SeatSnapshot> read() {
+            lastReadAt = System.currentTimeMillis();
+            if (seats == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new SeatSnapshot(seq, new ArrayList<>(seats.values())));
+        }
+
+        private synchronized SeatSnapshot install(Long showtimeId, long loadedSeq, Map<Long, SeatStatusItem> loaded,
+                                                  SeatDeltaLog deltaLog) {
+            long installedSeq = loadedSeq;
+            Optional<SeatDeltaLog.SeatDelta> delta = deltaLog.since(showtimeId, loadedSeq);
+            if (delta.isPresent()) {
+                delta.get().seats().forEach(item -> loaded.put(item.getSeatInventoryId(), item));
+                installedSeq = delta.get().seq();
+            } else if (deltaLog.latestSeq(showtimeId) > loadedSeq) {
+                // 적재 중에 받은 변경을 다시 반영할 수 없으면 이번 결과만 돌려주고 캐시하지 않습니다.
+                return new SeatSnapshot(loadedSeq, new ArrayList<>(loaded.values()));
+            }
+            seats = loaded;
+            seq = installedSeq;
+            return new SeatSnapshot(seq, new ArrayList<>(seats.values()));
+        }
+
+        private synchronized void apply(long newSeq, List<SeatStatusItem> changed) {
+            if (seats == null || newSeq <= seq) {
+                return;
+            }
+            if (changed == null || newSeq != seq + 1) {
+                // resync 요청이거나 번호가 빠졌으면 다음 조회 때 다시 적재합니다.
+                seats = null;
+                return;
+            }
+            changed.forEach(item -> seats.put(item.getSeatInventoryId(), item));
+            seq = newSeq;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatClaimMode;
+import com.example.practice_shop.constant.SeatClaimResult;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.constant.ShowtimeStatus;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import com.example.practice_shop.repository.ShowtimeRepository;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회차별 좌석 상태를 메모리에 상주시키는 엔진입니다.
+ * <p>
+ * - 기동 시 IN_MEMORY 방식의 진행 중인 회차를 seat_inventory에서 적재합니다.
+ * - 좌석 확인/선점/해제는 DB 왕복 없이 요청 좌석 수만큼의 비트 연산으로 끝납니다.
+ * - 주기적으로 seat_inventory와 비교해 어긋난 좌석을 DB 기준으로 보정합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStateEngine {
+
+    private static final EnumSet<ShowtimeStatus> ACTIVE_STATUSES = EnumSet.of(ShowtimeStatus.SCHEDULED, ShowtimeStatus.ON_SALE);
+    private static final EnumSet<SeatClaimMode> ENGINE_MODES = EnumSet.of(SeatClaimMode.IN_MEMORY, SeatClaimMode.SEQUENCED);
+
+    private final SeatInventoryRepository seatInventoryRepository;
+    private final ShowtimeRepository showtimeRepository;
+
+    private final Map<Long, ShowtimeSeatState> states = new ConcurrentHashMap<>();
+
+    /**
+     * 기동 시 IN_MEMORY/SEQUENCED 방식으로 판매 중인 회차의 좌석 상태를 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void hydrateActiveShowtimes() {
+        showtimeRepository.findBySeatClaimModeInAndStatusIn(ENGINE_MODES, ACTIVE_STATUSES)
+                .forEach(showtime -> hydrate(showtime.getId()));
+        log.info("Seat state engine hydrated {} showtimes", states.size());
+    }
+
+    /**
+     * 회차의 좌석 상태를 DB에서 적재합니다. 이미 적재되어 있으면 아무것도 하지 않습니다.
+     * @param showtimeId 회차 ID
+     */
+    public void hydrate(Long showtimeId) {
+        states.computeIfAbsent(showtimeId,
+                id -> new ShowtimeSeatState(seatInventoryRepository.findSeatStatusesByShowtimeId(id)));
+    }
+
+    /**
+     * 요청 좌석이 모두 AVAILABLE이면 목표 상태로 변경합니다. (all-or-nothing)
+     * 성공한 선점은 트랜잭션이 끝날 때 completeClaim으로 완료를 알려야 합니다.
+     * @param showtimeId 회차 ID
+     * @param seatIds 좌석 ID 목록
+     * @param target 목표 상태
+     * @return 선점 결과
+     */
+    public SeatClaimResult claim(Long showtimeId, List<Long> seatIds, SeatStatus target) {
+        ShowtimeSeatState state = states.get(showtimeId);
+        if (state == null) {
+            return SeatClaimResult.NOT_LOADED;
+        }
+        return state.claim(seatIds, target);
+    }
+
+    /**
+     * 선점한 트랜잭션이 끝났음을 기록합니다.
+     * @param showtimeId 회차 ID
+     */
+    public void completeClaim(Long showtimeId) {
+        ShowtimeSeatState state = states.get(showtimeId);
+        if (state != null) {
+            state.completeClaim();
+        }
+    }
+
+    /**
+     * 좌석을 AVAILABLE로 되돌립니다.
+     * @param showtimeId 회차 ID
+     * @param seatIds 좌석 ID 목록
+     */
+    public void release(Long showtimeId, List<Long> seatIds) {
+        ShowtimeSeatState state = states.get(showtimeId);
+        if (state != null) {
+            state.overwrite(seatIds, SeatStatus.AVAILABLE);
+        }
+    }
+
+    /**
+     * 좌석의 현재 상태를 조회합니다.
+     * @param showtimeId 회차 ID
+     * @param seatId 좌석 ID
+     * @return 좌석 상태, 적재되지 않았으면 null
+     */
+    public SeatStatus statusOf(Long showtimeId, Long seatId) {
+        ShowtimeSeatState state = states.get(showtimeId);
+        return state == null ? null : state.statusOf(seatId);
+    }
+
+    /**
+     * 메모리 상태를 seat_inventory와 비교해 보정합니다.
+     * 다른 경로(취소, 관리자 수정 등)에서 DB만 바뀐 좌석을 바로잡습니다.
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void reconcile() {
+        states.forEach((showtimeId, state) -> {
+            long version = state.version();
+            int drift = state.reconcile(seatInventoryRepository.findSeatStatusesByShowtimeId(showtimeId), version);
+            if (drift > 0) {
+                log.warn("Seat state engine reconciled {} seats for showtime {}", drift, showtimeId);
+            }
+        });
+    }
+}
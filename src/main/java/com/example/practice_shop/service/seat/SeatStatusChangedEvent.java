@@ -0,0 +1,13 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.dtos.ticketing.SeatStatusMessage.SeatStatusItem;
+import java.util.List;
+
+/**
+ * 트랜잭션 안에서 바뀐 좌석 상태입니다. 커밋된 뒤에만 브로드캐스트됩니다.
+ * 엔티티 대신 변환된 값을 담아, 커밋 이후 다른 스레드에서 지연 로딩 없이 읽을 수 있게 합니다.
+ * @param showtimeId 회차 ID
+ * @param seats 바뀐 좌석 상태
+ */
+public record SeatStatusChangedEvent(Long showtimeId, List<SeatStatusItem> seats) {
+}
@@ -0,0 +1,220 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.repository.SeatInventoryRepository.SeatLayoutView;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 회차 하나의 빈 좌석 구간 인덱스입니다.
+ * <p>
+ * 같은 열에서 이어져 있고 가격이 같은 AVAILABLE 좌석을 하나의 구간으로 묶고,
+ * (구역, 가격)별로 "구간 길이 -> 구간 목록" TreeMap을 유지해 N석 연속 구간을 O(log n)에 찾습니다.
+ * 할당한 좌석은 바로 인덱스에서 빠지므로 동시에 들어온 요청끼리는 서로 다른 좌석을 받습니다.
+ * 좌석 하나가 점유되거나 풀리면 그 좌석이 속한 구간만 나누거나 이웃 구간과 합칩니다. (다시 적재하지 않음)
+ * </p>
+ */
+class ShowtimeSeatLayout {
+
+    /** 행 번호("1", "2", "10")와 알파벳 행("A", "Z", "AA")을 사람이 읽는 순서로 정렬합니다. */
+    private static final Comparator<String> LABEL_ORDER =
+            Comparator.nullsLast(Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()));
+
+    /** 같은 길이의 구간은 앞 열, 왼쪽 좌석부터 */
+    private static final Comparator<FreeBlock> POSITION_ORDER =
+            Comparator.comparingInt((FreeBlock block) -> block.row().order).thenComparingInt(FreeBlock::start);
+
+    /** 요청 수를 담을 수 있는 가장 짧은 구간 우선 (큰 구간은 단체 요청을 위해 남겨둡니다) */
+    private static final Comparator<FreeBlock> BEST_FIT =
+            Comparator.comparingInt(FreeBlock::length).thenComparing(POSITION_ORDER);
+
+    private final Map<Tier, TreeMap<Integer, TreeSet<FreeBlock>>> blocksByTier = new HashMap<>();
+    private final Map<Long, SeatPosition> positions = new HashMap<>();
+
+    ShowtimeSeatLayout(List<SeatLayoutView> seats) {
+        Map<String, Map<String, List<SeatLayoutView>>> bySection = seats.stream()
+                .collect(Collectors.groupingBy(seat -> String.valueOf(seat.getSectionName()),
+                        Collectors.groupingBy(seat -> String.valueOf(seat.getRowLabel()))));
+
+        int order = 0;
+        for (String section : bySection.keySet().stream().sorted(LABEL_ORDER).toList()) {
+            Map<String, List<SeatLayoutView>> rows = bySection.get(section);
+            for (String rowLabel : rows.keySet().stream().sorted(LABEL_ORDER).toList()) {
+                List<SeatLayoutView> rowSeats = rows.get(rowLabel).stream()
+                        .sorted(Comparator.comparing(SeatLayoutView::getSeatNumber, LABEL_ORDER))
+                        .toList();
+                indexRow(new SeatRow(order++, rowSeats), rowSeats);
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 연속 좌석을 찾아 인덱스에서 제거하고 좌석 ID를 반환합니다.
+     * @param quantity 좌석 수
+     * @param sectionName 구역 (null이면 전체)
+     * @param price 가격 (null이면 전체)
+     * @return 좌석 ID 목록 (연속 구간이 없으면 빈 목록)
+     */
+    synchronized List<Long> allocate(int quantity, String sectionName, BigDecimal price) {
+        FreeBlock best = null;
+        for (Map.Entry<Tier, TreeMap<Integer, TreeSet<FreeBlock>>> entry : blocksByTier.entrySet()) {
+            if (!entry.getKey().matches(sectionName, price)) {
+                continue;
+            }
+            Map.Entry<Integer, TreeSet<FreeBlock>> fit = entry.getValue().ceilingEntry(quantity);
+            if (fit != null && (best == null || BEST_FIT.compare(fit.getValue().first(), best) < 0)) {
+                best = fit.getValue().first();
+            }
+        }
+        if (best == null) {
+            return List.of();
+        }
+
+        removeBlock(best);
+        if (best.length() > quantity) {
+            addBlock(new FreeBlock(best.row(), best.tier(), best.start() + quantity, best.end()));
+        }
+        SeatRow row = best.row();
+        int start = best.start();
+        for (int i = start; i < start + quantity; i++) {
+            row.free[i] = false;
+        }
+        return IntStream.range(start, start + quantity).mapToObj(i -> row.seatIds[i]).toList();
+    }
+
+    /**
+     * 좌석을 점유 상태로 표시합니다. 좌석이 속한 구간을 둘로 나눕니다.
+     * @param seatIds 좌석 ID 목록 (인덱스에 없거나 이미 점유된 좌석은 무시)
+     */
+    synchronized void markTaken(Collection<Long> seatIds) {
+        for (Long seatId : seatIds) {
+            SeatPosition position = positions.get(seatId);
+            if (position == null || !position.row().free[position.index()]) {
+                continue;
+            }
+            SeatRow row = position.row();
+            int index = position.index();
+            row.free[index] = false;
+            FreeBlock block = row.blocks.floorEntry(index).getValue();
+            removeBlock(block);
+            if (block.start() < index) {
+                addBlock(new FreeBlock(row, block.tier(), block.start(), index - 1));
+            }
+            if (index < block.end()) {
+                addBlock(new FreeBlock(row, block.tier(), index + 1, block.end()));
+            }
+        }
+    }
+
+    /**
+     * 좌석을 빈 상태로 표시합니다. 같은 가격의 이웃 구간과 합칩니다.
+     * @param seatIds 좌석 ID 목록 (인덱스에 없거나 이미 빈 좌석은 무시)
+     */
+    synchronized void markFree(Collection<Long> seatIds) {
+        for (Long seatId : seatIds) {
+            SeatPosition position = positions.get(seatId);
+            if (position == null || position.row().free[position.index()]) {
+                continue;
+            }
+            SeatRow row = position.row();
+            int index = position.index();
+            row.free[index] = true;
+            Tier tier = row.tiers[index];
+            int start = index;
+            int end = index;
+            Map.Entry<Integer, FreeBlock> left = row.blocks.floorEntry(index - 1);
+            if (left != null && left.getValue().end() == index - 1 && left.getValue().tier().equals(tier)) {
+                removeBlock(left.getValue());
+                start = left.getValue().start();
+            }
+            FreeBlock right = row.blocks.get(index + 1);
+            if (right != null && right.tier().equals(tier)) {
+                removeBlock(right);
+                end = right.end();
+            }
+            addBlock(new FreeBlock(row, tier, start, end));
+        }
+    }
+
+    private void indexRow(SeatRow row, List<SeatLayoutView> seats) {
+        int runStart = -1;
+        for (int i = 0; i < seats.size(); i++) {
+            SeatLayoutView seat = seats.get(i);
+            positions.put(seat.getSeatId(), new SeatPosition(row, i));
+            boolean free = seat.getStatus() == SeatStatus.AVAILABLE;
+            row.free[i] = free;
+            // 가격이 바뀌는 지점에서는 구간을 끊습니다.
+            if (runStart >= 0 && (!free || !row.tiers[i].equals(row.tiers[runStart]))) {
+                addBlock(new FreeBlock(row, row.tiers[runStart], runStart, i - 1));
+                runStart = -1;
+            }
+            if (free && runStart < 0) {
+                runStart = i;
+            }
+        }
+        if (runStart >= 0) {
+            addBlock(new FreeBlock(row, row.tiers[runStart], runStart, seats.size() - 1));
+        }
+    }
+
+    private void addBlock(FreeBlock block) {
+        block.row().blocks.put(block.start(), block);
+        blocksByTier.computeIfAbsent(block.tier(), tier -> new TreeMap<>())
+                .computeIfAbsent(block.length(), length -> new TreeSet<>(POSITION_ORDER))
+                .add(block);
+    }
+
+    private void removeBlock(FreeBlock block) {
+        block.row().blocks.remove(block.start());
+        TreeMap<Integer, TreeSet<FreeBlock>> byLength = blocksByTier.get(block.tier());
+        TreeSet<FreeBlock> blocks = byLength.get(block.length());
+        blocks.remove(block);
+        if (blocks.isEmpty()) {
+            byLength.remove(block.length());
+        }
+    }
+
+    /** 한 열의 좌석. 구간 경계를 찾기 위해 빈 좌석 여부와 시작 위치별 구간을 함께 둡니다. (동일성으로 비교) */
+    private static final class SeatRow {
+        private final int order;
+        private final long[] seatIds;
+        private final Tier[] tiers;
+        private final boolean[] free;
+        private final TreeMap<Integer, FreeBlock> blocks = new TreeMap<>();
+
+        private SeatRow(int order, List<SeatLayoutView> seats) {
+            this.order = order;
+            this.seatIds = seats.stream().mapToLong(SeatLayoutView::getSeatId).toArray();
+            this.tiers = seats.stream().map(seat -> Tier.of(seat.getSectionName(), seat.getPrice())).toArray(Tier[]::new);
+            this.free = new boolean[seats.size()];
+        }
+    }
+
+    private record SeatPosition(SeatRow row, int index) {
+    }
+
+    private record FreeBlock(SeatRow row, Tier tier, int start, int end) {
+        int length() {
+            return end - start + 1;
+        }
+    }
+
+    private record Tier(String sectionName, BigDecimal price) {
+        static Tier of(String sectionName, BigDecimal price) {
+            return new Tier(sectionName, price.stripTrailingZeros());
+        }
+
+        boolean matches(String sectionName, BigDecimal price) {
+            return (sectionName == null || sectionName.equals(this.sectionName))
+                    && (price == null || price.compareTo(this.price) == 0);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatClaimResult;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.repository.SeatInventoryRepository.SeatStatusView;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 회차의 좌석 상태를 SeatStatus별 비트맵(long[])으로 보관합니다.
+ * 좌석 ID는 적재 시 0부터 시작하는 연속 번호(ordinal)로 매핑되며, 좌석 하나의 상태 확인/변경은 비트 연산 한 번입니다.
+ * 모든 변경은 회차 단위로 직렬화됩니다.
+ */
+final class ShowtimeSeatState {
+
+    private static final SeatStatus[] STATUSES = SeatStatus.values();
+
+    private final Map<Long, Integer> ordinals; // seatId -> ordinal
+    private final long[][] bitmaps;            // [SeatStatus.ordinal()][ordinal / 64]
+    private long version;                      // 메모리 상태가 바뀔 때마다 증가
+    private int inFlightClaims;                // DB 커밋을 기다리는 선점 수
+
+    ShowtimeSeatState(List<SeatStatusView> views) {
+        this.ordinals = new HashMap<>(views.size() * 2);
+        this.bitmaps = new long[STATUSES.length][(views.size() + 63) >>> 6];
+        int ordinal = 0;
+        for (SeatStatusView view : views) {
+            ordinals.put(view.getSeatId(), ordinal);
+            mark(ordinal, view.getStatus());
+            ordinal++;
+        }
+    }
+
+    /**
+     * 요청 좌석이 모두 AVAILABLE일 때만 목표 상태로 변경합니다. (all-or-nothing)
+     */
+    synchronized SeatClaimResult claim(List<Long> seatIds, SeatStatus target) {
+        int[] targets = new int[seatIds.size()];
+        for (int i = 0; i < targets.length; i++) {
+            Integer ordinal = ordinals.get(seatIds.get(i));
+            if (ordinal == null) {
+                return SeatClaimResult.UNKNOWN_SEAT;
+            }
+            if (!isMarked(ordinal, SeatStatus.AVAILABLE)) {
+                return SeatClaimResult.CONFLICT;
+            }
+            targets[i] = ordinal;
+        }
+        for (int ordinal : targets) {
+            mark(ordinal, target);
+        }
+        version++;
+        inFlightClaims++;
+        return SeatClaimResult.CLAIMED;
+    }
+
+    /**
+     * 선점한 트랜잭션이 끝났음을 기록합니다.
+     */
+    synchronized void completeClaim() {
+        if (inFlightClaims > 0) {
+            inFlightClaims--;
+        }
+    }
+
+    /**
+     * 좌석을 현재 상태와 관계없이 지정한 상태로 변경합니다.
+     */
+    synchronized void overwrite(List<Long> seatIds, SeatStatus status) {
+        for (Long seatId : seatIds) {
+            Integer ordinal = ordinals.get(seatId);
+            if (ordinal != null) {
+                mark(ordinal, status);
+            }
+        }
+        version++;
+    }
+
+    synchronized SeatStatus statusOf(Long seatId) {
+        Integer ordinal = ordinals.get(seatId);
+        return ordinal == null ? null : statusAt(ordinal);
+    }
+
+    synchronized long version() {
+        return version;
+    }
+
+    /**
+     * DB 상태와 비교해 다른 좌석을 DB 기준으로 맞춥니다.
+     * 조회 이후 메모리 상태가 바뀌었거나 커밋 대기 중인 선점이 있으면 건너뜁니다.
+     * @return 보정한 좌석 수, 건너뛴 경우 -1
+     */
+    synchronized int reconcile(List<SeatStatusView> views, long expectedVersion) {
+        if (version != expectedVersion || inFlightClaims > 0) {
+            return -1;
+        }
+        int drift = 0;
+        for (SeatStatusView view : views) {
+            Integer ordinal = ordinals.get(view.getSeatId());
+            if (ordinal != null && statusAt(ordinal) != view.getStatus()) {
+                mark(ordinal, view.getStatus());
+                drift++;
+            }
+        }
+        if (drift > 0) {
+            version++;
+        }
+        return drift;
+    }
+
+    private boolean isMarked(int ordinal, SeatStatus status) {
+        return (bitmaps[status.ordinal()][ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    private SeatStatus statusAt(int ordinal) {
+        for (SeatStatus status : STATUSES) {
+            if (isMarked(ordinal, status)) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    private void mark(int ordinal, SeatStatus status) {
+        long bit = 1L << ordinal;
+        int word = ordinal >>> 6;
+        for (long[] bitmap : bitmaps) {
+            bitmap[word] &= ~bit;
+        }
+        bitmaps[status.ordinal()][word] |= bit;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.practice_shop.service.seat;
+
+import com.example.practice_shop.constant.SeatClaimResult;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.entity.SeatInventory;
+import com.example.practice_shop.entity.Showtime;
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DB 밖의 좌석 상태 저장소에서 선점 경쟁을 끝낸 뒤, 결과만 잠금 없이 DB에 반영하는 선점 전략의 공통 흐름입니다.
+ * <p>
+ * 1. 좌석 상태 저장소에서 요청 좌석 전체를 원자적으로 선점합니다. (미적재 시 DB 기준으로 적재 후 재시도)
+ * 2. 선점에 성공한 좌석만 AVAILABLE일 때만 바꾸는 조건부 UPDATE로 DB에 반영합니다. (write-behind, 행 잠금 대기 없음)
+ * 3. 트랜잭션이 롤백되면 저장소의 선점을 되돌리고, 해제는 DB 커밋 이후에만 반영합니다.
+ * </p>
+ */
+public abstract class WriteBehindSeatClaimStrategy implements SeatClaimStrategy {
+
+    protected final SeatInventoryRepository seatInventoryRepository;
+
+    protected WriteBehindSeatClaimStrategy(SeatInventoryRepository seatInventoryRepository) {
+        this.seatInventoryRepository = seatInventoryRepository;
+    }
+
+    @Override
+    public List<SeatInventory> claim(Showtime showtime, List<Long> seatIds, SeatStatus target) {
+        Long showtimeId = showtime.getId();
+        if (new HashSet<>(seatIds).size() != seatIds.size()) {
+            throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
+        }
+
+        SeatClaimResult result = tryClaim(showtimeId, seatIds, target);
+        if (result == SeatClaimResult.NOT_LOADED) {
+            load(showtimeId);
+            result = tryClaim(showtimeId, seatIds, target);
+        }
+        if (result == SeatClaimResult.CONFLICT) {
+            throw new CustomException(ErrorCode.SEAT_ALREADY_RESERVED);
+        }
+        if (result != SeatClaimResult.CLAIMED) {
+            throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
+        }
+
+        // 트랜잭션이 커밋되지 않으면 선점을 되돌립니다.
+        List<Long> claimedSeatIds = new ArrayList<>(seatIds);
+        registerClaimCompletion(showtimeId, claimedSeatIds);
+
+        // write-behind: DB에서도 AVAILABLE인 경우에만 반영합니다. 저장소와 DB가 어긋나도 DB의 점유를 덮어쓰지 않습니다.
+        // 좌석마다 UPDATE하므로 어느 좌석이 충돌했는지 알 수 있습니다. (변경 감지로 반영하던 때와 문장 수는 같음)
+        for (Long seatId : seatIds) {
+            if (seatInventoryRepository.updateStatusIfCurrent(showtimeId, List.of(seatId), SeatStatus.AVAILABLE, target) == 0) {
+                if (seatInventoryRepository.countByShowtimeIdAndSeatIdIn(showtimeId, List.of(seatId)) == 0) {
+                    throw new CustomException(ErrorCode.SEAT_NOT_FOUND);
+                }
+                // DB가 이미 점유 상태라면 저장소에도 점유 상태를 남겨 둡니다.
+                claimedSeatIds.remove(seatId);
+                throw new CustomException(ErrorCode.SEAT_ALREADY_RESERVED);
+            }
+        }
+
+        // 벌크 UPDATE로 영속성 컨텍스트가 비워졌으므로 변경된 좌석을 다시 조회합니다.
+        return seatInventoryRepository.findAllBySeatIdInAndShowtimeId(seatIds, showtimeId);
+    }
+
+    @Override
+    public void release(Long showtimeId, List<SeatInventory> inventories) {
+        List<Long> seatIds = inventories.stream().map(inv -> inv.getSeat().getId()).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseClaim(showtimeId, seatIds);
+            return;
+        }
+        // DB 커밋 이후에만 좌석을 다시 판매 가능 상태로 돌립니다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseClaim(showtimeId, seatIds);
+            }
+        });
+    }
+
+    /**
+     * 좌석 상태 저장소에서 요청 좌석 전체를 원자적으로 선점합니다.
+     * @param showtimeId 회차 ID
+     * @param seatIds 좌석 ID 목록
+     * @param target 목표 상태
+     * @return 선점 결과
+     */
+    protected abstract SeatClaimResult tryClaim(Long showtimeId, List<Long> seatIds, SeatStatus target);
+
+    /**
+     * 좌석 상태 저장소의 선점을 되돌립니다. (AVAILABLE)
+     * @param showtimeId 회차 ID
+     * @param seatIds 좌석 ID 목록
+     */
+    protected abstract void releaseClaim(Long showtimeId, List<Long> seatIds);
+
+    /**
+     * DB의 좌석 상태를 좌석 상태 저장소에 적재합니다.
+     * @param showtimeId 회차 ID
+     */
+    protected abstract void load(Long showtimeId);
+
+    /**
+     * 선점한 트랜잭션이 끝났을 때(커밋/롤백 모두) 호출됩니다.
+     * @param showtimeId 회차 ID
+     */
+    protected void onClaimCompleted(Long showtimeId) {
+    }
+
+    /**
+     * 트랜잭션 종료 시 롤백이면 선점을 되돌리도록 등록합니다.
+     * @param showtimeId
+     * @param seatIds
+     */
+    private void registerClaimCompletion(Long showtimeId, List<Long> seatIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onClaimCompleted(showtimeId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status != STATUS_COMMITTED) {
+                        releaseClaim(showtimeId, seatIds);
+                    }
+                } finally {
+                    onClaimCompleted(showtimeId);
+                }
+            }
+        });
+    }
+}
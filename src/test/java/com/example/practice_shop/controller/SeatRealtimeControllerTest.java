@@ -0,0 +1,102 @@
+package com.example.practice_shop.controller;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.dtos.ticketing.SeatStatusMessage.SeatStatusItem;
+import com.example.practice_shop.service.SeatRealtimeService;
+import com.example.practice_shop.service.seat.SeatBroadcastRelay;
+import com.example.practice_shop.service.seat.SeatDeltaLog;
+import com.example.practice_shop.service.seat.SeatSnapshotCache;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class SeatRealtimeControllerTest {
+
+	private static final Long SHOWTIME_ID = 7L;
+
+	private SeatDeltaLog seatDeltaLog;
+	private SeatSnapshotCache seatSnapshotCache;
+	private SeatRealtimeService seatRealtimeService;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		seatDeltaLog = new SeatDeltaLog(4);
+		seatSnapshotCache = mock(SeatSnapshotCache.class);
+		seatRealtimeService = new SeatRealtimeService(mock(SeatBroadcastRelay.class), seatDeltaLog, seatSnapshotCache,
+				mock(ApplicationEventPublisher.class), Duration.ofMillis(50), 5000);
+		mockMvc = MockMvcBuilders.standaloneSetup(new SeatRealtimeController(seatRealtimeService)).build();
+
+		when(seatSnapshotCache.snapshot(SHOWTIME_ID)).thenReturn(new SeatSnapshotCache.SeatSnapshot(10,
+				List.of(item(1L, SeatStatus.RESERVED), item(2L, SeatStatus.AVAILABLE), item(3L, SeatStatus.HOLD))));
+	}
+
+	@AfterEach
+	void tearDown() {
+		seatRealtimeService.shutdown();
+	}
+
+	@Test
+	void returnsMergedDeltaWhenSinceIsInRing() throws Exception {
+		seatDeltaLog.record(SHOWTIME_ID, 8, List.of(item(1L, SeatStatus.HOLD)));
+		seatDeltaLog.record(SHOWTIME_ID, 9, List.of(item(3L, SeatStatus.HOLD)));
+		seatDeltaLog.record(SHOWTIME_ID, 10, List.of(item(1L, SeatStatus.RESERVED)));
+
+		mockMvc.perform(get("/api/showtimes/{showtimeId}/seats/realtime/changes", SHOWTIME_ID).param("since", "8"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.showtimeId").value(SHOWTIME_ID))
+				.andExpect(jsonPath("$.seq").value(10))
+				.andExpect(jsonPath("$.snapshot").value(false))
+				.andExpect(jsonPath("$.seats.length()").value(2));
+		verify(seatSnapshotCache, never()).snapshot(anyLong());
+	}
+
+	@Test
+	void fallsBackToSnapshotWhenSinceIsOlderThanRing() throws Exception {
+		for (long seq = 1; seq <= 10; seq++) {
+			seatDeltaLog.record(SHOWTIME_ID, seq, List.of(item(seq, SeatStatus.HOLD)));
+		}
+
+		mockMvc.perform(get("/api/showtimes/{showtimeId}/seats/realtime/changes", SHOWTIME_ID).param("since", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.seq").value(10))
+				.andExpect(jsonPath("$.snapshot").value(true))
+				.andExpect(jsonPath("$.seats.length()").value(3));
+	}
+
+	@Test
+	void fallsBackToSnapshotAcrossGap() throws Exception {
+		seatDeltaLog.record(SHOWTIME_ID, 8, List.of(item(1L, SeatStatus.HOLD)));
+		seatDeltaLog.record(SHOWTIME_ID, 10, List.of(item(2L, SeatStatus.HOLD)));
+
+		mockMvc.perform(get("/api/showtimes/{showtimeId}/seats/realtime/changes", SHOWTIME_ID).param("since", "8"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.snapshot").value(true));
+	}
+
+	@Test
+	void returnsSnapshotWithoutSince() throws Exception {
+		mockMvc.perform(get("/api/showtimes/{showtimeId}/seats/realtime/changes", SHOWTIME_ID))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.snapshot").value(true))
+				.andExpect(jsonPath("$.seats.length()").value(3));
+	}
+
+	private static SeatStatusItem item(Long seatInventoryId, SeatStatus status) {
+		return SeatStatusItem.builder().seatInventoryId(seatInventoryId).status(status).build();
+	}
+}
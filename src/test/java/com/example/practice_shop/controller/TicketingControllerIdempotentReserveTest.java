@@ -0,0 +1,184 @@
+package com.example.practice_shop.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.practice_shop.constant.ReservationStatus;
+import com.example.practice_shop.constant.UserGrade;
+import com.example.practice_shop.dtos.ticketing.ReservationResponse;
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.exception.GlobalExceptionHandler;
+import com.example.practice_shop.repository.IdempotencyRecord;
+import com.example.practice_shop.repository.IdempotencyRepository;
+import com.example.practice_shop.repository.QueueAdmissionClaim;
+import com.example.practice_shop.repository.QueueRepository;
+import com.example.practice_shop.repository.ShowtimeRepository;
+import com.example.practice_shop.security.QueueTokenFilter;
+import com.example.practice_shop.service.TicketingService;
+import com.example.practice_shop.service.idempotency.IdempotencyService;
+import com.example.practice_shop.service.queue.QueueAdmissionGuard;
+import com.example.practice_shop.service.queue.QueueToken;
+import com.example.practice_shop.service.queue.QueueTokenCodec;
+import com.example.practice_shop.service.seat.BestAvailableSeatAllocator;
+import com.example.practice_shop.service.seat.SeatHoldService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * 대기열 게이트를 켠 상태에서 같은 Idempotency-Key로 예매를 재시도하면, 이미 사용한 토큰으로도 처음 예매를 돌려받는지 확인합니다.
+ */
+class TicketingControllerIdempotentReserveTest {
+
+	private static final String USER = "user@test.com";
+	private static final String BODY = "{\"showtimeId\":3,\"seatIds\":[10,11]}";
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private QueueRepository queueRepository;
+	private TicketingService ticketingService;
+	private AtomicBoolean tokenConsumed;
+	private Authentication authentication;
+	private String queueToken;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		QueueTokenCodec codec = new QueueTokenCodec("0123456789abcdef0123456789abcdef", Duration.ofHours(2));
+		queueToken = codec.issue(new QueueToken(1L, UserGrade.BASIC, 5L, System.currentTimeMillis(), USER));
+
+		// 토큰을 한 번 사용 처리하면 다시는 잡을 수 없는 대기열 저장소
+		queueRepository = mock(QueueRepository.class);
+		tokenConsumed = new AtomicBoolean();
+		when(queueRepository.claimAdmission(eq(1L), eq(UserGrade.BASIC), eq(5L), any(Duration.class)))
+				.thenAnswer(invocation -> tokenConsumed.get() ? QueueAdmissionClaim.NOT_READY : QueueAdmissionClaim.CLAIMED);
+		doAnswer(invocation -> {
+			if (invocation.getArgument(3, Boolean.class)) {
+				tokenConsumed.set(true);
+			}
+			return null;
+		}).when(queueRepository).releaseAdmission(eq(1L), eq(UserGrade.BASIC), eq(5L), anyBoolean());
+
+		ShowtimeRepository showtimeRepository = mock(ShowtimeRepository.class);
+		when(showtimeRepository.findEventIdById(anyLong())).thenReturn(Optional.of(1L));
+
+		AtomicLong reservationIds = new AtomicLong(100);
+		ticketingService = mock(TicketingService.class);
+		when(ticketingService.createReservation(eq(USER), any())).thenAnswer(invocation -> ReservationResponse.builder()
+				.reservationId(reservationIds.incrementAndGet())
+				.seatDetails(List.of("A열 10번", "A열 11번"))
+				.totalPrice(20000)
+				.status(ReservationStatus.PENDING_PAYMENT)
+				.orderId("order-" + reservationIds.get())
+				.build());
+
+		TicketingController controller = new TicketingController(ticketingService, mock(SeatHoldService.class),
+				mock(BestAvailableSeatAllocator.class),
+				new IdempotencyService(new InMemoryIdempotencyRepository(), objectMapper, Duration.ofHours(1)),
+				new QueueAdmissionGuard(showtimeRepository, queueRepository));
+		mockMvc = MockMvcBuilders.standaloneSetup(controller)
+				.setControllerAdvice(new GlobalExceptionHandler())
+				.addFilters(new QueueTokenFilter(codec, queueRepository, objectMapper))
+				.build();
+
+		authentication = new TestingAuthenticationToken(USER, null, "ROLE_USER");
+		SecurityContextHolder.getContext().setAuthentication(authentication);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void retryWithSameKeyReplaysReservationAfterTokenWasConsumed() throws Exception {
+		MvcResult first = mockMvc.perform(reserve("key-1")).andExpect(status().isOk()).andReturn();
+
+		mockMvc.perform(reserve("key-1"))
+				.andExpect(status().isOk())
+				.andExpect(content().json(first.getResponse().getContentAsString(), true));
+
+		verify(ticketingService, times(1)).createReservation(eq(USER), any());
+		verify(queueRepository, times(1)).claimAdmission(eq(1L), eq(UserGrade.BASIC), eq(5L), any(Duration.class));
+	}
+
+	@Test
+	void newKeyWithConsumedTokenIsNotAdmitted() throws Exception {
+		mockMvc.perform(reserve("key-1")).andExpect(status().isOk());
+
+		mockMvc.perform(reserve("key-2"))
+				.andExpect(status().isForbidden())
+				.andExpect(jsonPath("$.code").value("Q002"));
+	}
+
+	@Test
+	void failedReserveLeavesTokenUsable() throws Exception {
+		when(ticketingService.createReservation(eq(USER), any()))
+				.thenThrow(new CustomException(ErrorCode.SEAT_ALREADY_RESERVED))
+				.thenReturn(ReservationResponse.builder().reservationId(1L).build());
+
+		mockMvc.perform(reserve("key-1")).andExpect(status().isConflict());
+		mockMvc.perform(reserve("key-1")).andExpect(status().isOk());
+	}
+
+	private RequestBuilder reserve(String idempotencyKey) {
+		return post("/api/ticketing/reserve")
+				.principal(authentication)
+				.header(QueueTokenFilter.HEADER, queueToken)
+				.header("Idempotency-Key", idempotencyKey)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(BODY);
+	}
+
+	private static final class InMemoryIdempotencyRepository implements IdempotencyRepository {
+
+		private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+
+		@Override
+		public boolean tryBegin(String key, String fingerprint, Duration ttl) {
+			return records.putIfAbsent(key, new IdempotencyRecord(fingerprint, null)) == null;
+		}
+
+		@Override
+		public Optional<IdempotencyRecord> find(String key) {
+			return Optional.ofNullable(records.get(key));
+		}
+
+		@Override
+		public void complete(String key, String fingerprint, String result, Duration ttl) {
+			records.put(key, new IdempotencyRecord(fingerprint, result));
+		}
+
+		@Override
+		public void remove(String key) {
+			records.remove(key);
+		}
+	}
+}
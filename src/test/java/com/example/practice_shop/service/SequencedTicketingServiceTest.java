@@ -0,0 +1,77 @@
+package com.example.practice_shop.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.practice_shop.constant.SeatClaimMode;
+import com.example.practice_shop.dtos.ticketing.SeatSelectionRequest;
+import com.example.practice_shop.repository.ReservationRepository;
+import com.example.practice_shop.repository.ShowtimeRepository;
+import com.example.practice_shop.service.queue.ReservationLatencyTracker;
+import com.example.practice_shop.service.seat.ReservationSequencer;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SequencedTicketingServiceTest {
+
+	private TicketingServiceImpl ticketingService;
+	private ReservationSequencer reservationSequencer;
+	private ShowtimeRepository showtimeRepository;
+	private SequencedTicketingService service;
+
+	@BeforeEach
+	void setUp() {
+		ticketingService = mock(TicketingServiceImpl.class);
+		reservationSequencer = mock(ReservationSequencer.class);
+		showtimeRepository = mock(ShowtimeRepository.class);
+		service = new SequencedTicketingService(ticketingService, reservationSequencer, showtimeRepository,
+				mock(ReservationRepository.class), new ReservationLatencyTracker());
+	}
+
+	@Test
+	void looksUpClaimModeOncePerShowtime() {
+		when(showtimeRepository.findSeatClaimModeById(1L)).thenReturn(Optional.of(SeatClaimMode.CONDITIONAL_UPDATE));
+
+		service.createReservation("user@test.com", request(1L));
+		service.createReservation("user@test.com", request(1L));
+
+		verify(showtimeRepository, times(1)).findSeatClaimModeById(1L);
+		verify(ticketingService, times(2)).createReservation(eq("user@test.com"), any());
+		verify(reservationSequencer, never()).execute(any(), any());
+	}
+
+	@Test
+	void routesSequencedShowtimeThroughSequencer() {
+		when(showtimeRepository.findSeatClaimModeById(2L)).thenReturn(Optional.of(SeatClaimMode.SEQUENCED));
+
+		service.createReservation("user@test.com", request(2L));
+
+		verify(reservationSequencer).execute(eq(2L), any());
+	}
+
+	@Test
+	void doesNotCacheMissingShowtime() {
+		when(showtimeRepository.findSeatClaimModeById(3L)).thenReturn(Optional.empty());
+
+		service.createReservation("user@test.com", request(3L));
+		service.createReservation("user@test.com", request(3L));
+
+		verify(showtimeRepository, times(2)).findSeatClaimModeById(3L);
+		verify(ticketingService, times(2)).createReservation(anyString(), any());
+	}
+
+	private SeatSelectionRequest request(Long showtimeId) {
+		return SeatSelectionRequest.builder()
+				.showtimeId(showtimeId)
+				.seatIds(List.of(10L))
+				.build();
+	}
+}
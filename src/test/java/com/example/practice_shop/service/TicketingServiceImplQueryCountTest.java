@@ -0,0 +1,154 @@
+package com.example.practice_shop.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.practice_shop.constant.EventStatus;
+import com.example.practice_shop.constant.ReservationStatus;
+import com.example.practice_shop.constant.Role;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.constant.ShowtimeStatus;
+import com.example.practice_shop.dtos.common.CursorPageResponse;
+import com.example.practice_shop.dtos.ticketing.ReservationResponse;
+import com.example.practice_shop.entity.Event;
+import com.example.practice_shop.entity.Reservation;
+import com.example.practice_shop.entity.ReservationSeat;
+import com.example.practice_shop.entity.Seat;
+import com.example.practice_shop.entity.SeatInventory;
+import com.example.practice_shop.entity.Showtime;
+import com.example.practice_shop.entity.User;
+import com.example.practice_shop.entity.Venue;
+import com.example.practice_shop.repository.ReservationRepository;
+import com.example.practice_shop.repository.ReservationSeatRepository;
+import com.example.practice_shop.repository.ShowtimeRepository;
+import com.example.practice_shop.repository.UserRepository;
+import com.example.practice_shop.service.payment.PaymentOutboxService;
+import com.example.practice_shop.service.seat.SeatClaimStrategyResolver;
+import com.example.practice_shop.service.seat.SeatHoldService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 내 예매 내역 페이지 조회가 페이지 크기와 관계없이 쿼리 두 번(예약 요약 + 좌석 정보)으로 끝나는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:reservation-page;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TicketingServiceImplQueryCountTest {
+
+	private static final String EMAIL = "page@test.com";
+	private static final int RESERVATIONS = 25;
+	private static final int SEATS_PER_RESERVATION = 2;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ShowtimeRepository showtimeRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ReservationSeatRepository reservationSeatRepository;
+
+	private TicketingServiceImpl ticketingService;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		ticketingService = new TicketingServiceImpl(userRepository, showtimeRepository, reservationRepository,
+				reservationSeatRepository, mock(SeatRealtimeService.class), mock(PaymentOutboxService.class),
+				mock(SeatClaimStrategyResolver.class), mock(SeatHoldService.class));
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		Venue venue = Venue.builder().name("test hall").build();
+		entityManager.persist(venue);
+		Event event = Event.builder().title("test event").status(EventStatus.ON_SALE).venue(venue).build();
+		entityManager.persist(event);
+		Showtime showtime = Showtime.builder().event(event).venue(venue)
+				.startDateTime(LocalDateTime.now().plusDays(7)).status(ShowtimeStatus.ON_SALE).build();
+		entityManager.persist(showtime);
+		User user = User.builder().email(EMAIL).name("tester").role(Role.USER).build();
+		entityManager.persist(user);
+
+		for (int i = 0; i < RESERVATIONS; i++) {
+			Reservation reservation = Reservation.builder()
+					.user(user)
+					.showtime(showtime)
+					.totalPrice(20000)
+					.status(ReservationStatus.CONFIRMED)
+					.reservedAt(LocalDateTime.now().minusMinutes(i))
+					.orderId("order-" + i)
+					.build();
+			entityManager.persist(reservation);
+			for (int j = 0; j < SEATS_PER_RESERVATION; j++) {
+				Seat seat = Seat.builder().venue(venue).sectionName("A").rowLabel("R" + i).seatNumber(Integer.toString(j))
+						.seatType("VIP").basePrice(BigDecimal.TEN).status(SeatStatus.AVAILABLE).build();
+				entityManager.persist(seat);
+				SeatInventory inventory = SeatInventory.builder().showtime(showtime).seat(seat).reservation(reservation)
+						.price(BigDecimal.TEN).status(SeatStatus.RESERVED).build();
+				entityManager.persist(inventory);
+				ReservationSeat reservationSeat = ReservationSeat.builder().reservation(reservation).seatInventory(inventory).build();
+				entityManager.persist(reservationSeat);
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+	}
+
+	@Test
+	void firstPageUsesTwoQueries() {
+		CursorPageResponse<ReservationResponse> page = ticketingService.getUserReservationPage(EMAIL, null, 10);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(page.getContent()).hasSize(10)
+				.allSatisfy(reservation -> assertThat(reservation.getSeatDetails()).hasSize(SEATS_PER_RESERVATION));
+		assertThat(page.isHasNext()).isTrue();
+	}
+
+	@Test
+	void nextPageUsesTwoQueriesAndContinuesAfterCursor() {
+		CursorPageResponse<ReservationResponse> first = ticketingService.getUserReservationPage(EMAIL, null, 10);
+		statistics.clear();
+
+		CursorPageResponse<ReservationResponse> second = ticketingService.getUserReservationPage(EMAIL, first.getNextCursor(), 10);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(second.getContent()).hasSize(10)
+				.allSatisfy(reservation -> assertThat(reservation.getReservationId()).isLessThan(first.getNextCursor()));
+	}
+
+	@Test
+	void queryCountDoesNotGrowWithPageSize() {
+		CursorPageResponse<ReservationResponse> page = ticketingService.getUserReservationPage(EMAIL, null, 100);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(page.getContent()).hasSize(RESERVATIONS);
+		assertThat(page.isHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+}
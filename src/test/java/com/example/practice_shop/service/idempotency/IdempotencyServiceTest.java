@@ -0,0 +1,141 @@
+package com.example.practice_shop.service.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.repository.IdempotencyRecord;
+import com.example.practice_shop.repository.IdempotencyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyServiceTest {
+
+	private InMemoryIdempotencyRepository repository;
+	private IdempotencyService idempotencyService;
+	private AtomicInteger calls;
+
+	@BeforeEach
+	void setUp() {
+		repository = new InMemoryIdempotencyRepository();
+		idempotencyService = new IdempotencyService(repository, new ObjectMapper(), Duration.ofHours(1));
+		calls = new AtomicInteger();
+	}
+
+	@Test
+	void runsEveryTimeWithoutKey() {
+		idempotencyService.execute("reserve", "user", null, Map.of("seat", 1), String.class, this::action);
+		idempotencyService.execute("reserve", "user", " ", Map.of("seat", 1), String.class, this::action);
+
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	void replaysFirstResultForSameKeyAndPayload() {
+		String first = idempotencyService.execute("reserve", "user", "k1", Map.of("seat", 1), String.class, this::action);
+		String second = idempotencyService.execute("reserve", "user", "k1", Map.of("seat", 1), String.class, this::action);
+
+		assertThat(second).isEqualTo(first);
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void rejectsSameKeyWithDifferentPayload() {
+		idempotencyService.execute("reserve", "user", "k1", Map.of("seat", 1), String.class, this::action);
+
+		assertThatThrownBy(() -> idempotencyService.execute("reserve", "user", "k1", Map.of("seat", 2), String.class, this::action))
+				.isInstanceOfSatisfying(CustomException.class,
+						e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED));
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void keysAreScopedPerUser() {
+		idempotencyService.execute("reserve", "alice", "k1", Map.of("seat", 1), String.class, this::action);
+		idempotencyService.execute("reserve", "bob", "k1", Map.of("seat", 2), String.class, this::action);
+
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	void failedRequestCanBeRetriedWithSameKey() {
+		assertThatThrownBy(() -> idempotencyService.execute("reserve", "user", "k1", Map.of("seat", 1), String.class, () -> {
+			throw new CustomException(ErrorCode.SEAT_ALREADY_RESERVED);
+		})).isInstanceOf(CustomException.class);
+
+		assertThat(idempotencyService.execute("reserve", "user", "k1", Map.of("seat", 1), String.class, this::action))
+				.isEqualTo("result-1");
+	}
+
+	@Test
+	void nonFinalResultIsNotStoredSoRetryRunsAgain() {
+		String pending = idempotencyService.execute("confirm", "user", "k1", Map.of("order", "o1"), String.class,
+				this::action, result -> false);
+		String done = idempotencyService.execute("confirm", "user", "k1", Map.of("order", "o1"), String.class,
+				this::action, result -> true);
+		String replayed = idempotencyService.execute("confirm", "user", "k1", Map.of("order", "o1"), String.class,
+				this::action, result -> true);
+
+		assertThat(pending).isEqualTo("result-1");
+		assertThat(done).isEqualTo("result-2");
+		assertThat(replayed).isEqualTo("result-2");
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	void requestInProgressElsewhereIsRejected() {
+		repository.tryBegin("reserve:user:k1", fingerprintOf(Map.of("seat", 1)), Duration.ofSeconds(30));
+
+		assertThatThrownBy(() -> idempotencyService.execute("reserve", "user", "k1", Map.of("seat", 1), String.class, this::action))
+				.isInstanceOfSatisfying(CustomException.class,
+						e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS));
+		assertThatThrownBy(() -> idempotencyService.execute("reserve", "user", "k1", Map.of("seat", 2), String.class, this::action))
+				.isInstanceOfSatisfying(CustomException.class,
+						e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED));
+		assertThat(calls).hasValue(0);
+	}
+
+	private String action() {
+		return "result-" + calls.incrementAndGet();
+	}
+
+	/** 서비스가 기록하는 요청 해시를 얻기 위해 한 번 실행한 뒤 저장된 값을 꺼냅니다. */
+	private String fingerprintOf(Object payload) {
+		InMemoryIdempotencyRepository scratch = new InMemoryIdempotencyRepository();
+		new IdempotencyService(scratch, new ObjectMapper(), Duration.ofHours(1))
+				.execute("scratch", "user", "k", payload, String.class, () -> "x");
+		return scratch.find("scratch:user:k").orElseThrow().fingerprint();
+	}
+
+	private static final class InMemoryIdempotencyRepository implements IdempotencyRepository {
+
+		private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+
+		@Override
+		public boolean tryBegin(String key, String fingerprint, Duration ttl) {
+			return records.putIfAbsent(key, new IdempotencyRecord(fingerprint, null)) == null;
+		}
+
+		@Override
+		public Optional<IdempotencyRecord> find(String key) {
+			return Optional.ofNullable(records.get(key));
+		}
+
+		@Override
+		public void complete(String key, String fingerprint, String result, Duration ttl) {
+			records.put(key, new IdempotencyRecord(fingerprint, result));
+		}
+
+		@Override
+		public void remove(String key) {
+			records.remove(key);
+		}
+	}
+}
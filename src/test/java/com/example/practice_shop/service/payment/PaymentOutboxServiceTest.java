@@ -0,0 +1,237 @@
+package com.example.practice_shop.service.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.practice_shop.constant.EventStatus;
+import com.example.practice_shop.constant.PaymentOutboxStatus;
+import com.example.practice_shop.constant.PaymentOutboxType;
+import com.example.practice_shop.constant.PaymentStatus;
+import com.example.practice_shop.constant.ReservationStatus;
+import com.example.practice_shop.constant.Role;
+import com.example.practice_shop.constant.ShowtimeStatus;
+import com.example.practice_shop.controller.PaymentController;
+import com.example.practice_shop.entity.Event;
+import com.example.practice_shop.entity.Payment;
+import com.example.practice_shop.entity.PaymentOutbox;
+import com.example.practice_shop.entity.Reservation;
+import com.example.practice_shop.entity.Showtime;
+import com.example.practice_shop.entity.User;
+import com.example.practice_shop.entity.Venue;
+import com.example.practice_shop.exception.GlobalExceptionHandler;
+import com.example.practice_shop.integration.payment.StubPaymentGatewayClient;
+import com.example.practice_shop.repository.IdempotencyRepository;
+import com.example.practice_shop.repository.PaymentOutboxRepository;
+import com.example.practice_shop.repository.PaymentRepository;
+import com.example.practice_shop.repository.ReservationRepository;
+import com.example.practice_shop.repository.ReservationSeatRepository;
+import com.example.practice_shop.repository.ShowtimeRepository;
+import com.example.practice_shop.repository.UserRepository;
+import com.example.practice_shop.service.SeatRealtimeService;
+import com.example.practice_shop.service.TicketingServiceImpl;
+import com.example.practice_shop.service.idempotency.IdempotencyService;
+import com.example.practice_shop.service.seat.SeatClaimStrategyResolver;
+import com.example.practice_shop.service.seat.SeatHoldService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 로컬 stub PG("retry-", "fail-" 결제 키)로 결제 아웃박스의 상태 전이를 확인합니다.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:payment-outbox;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PaymentOutboxServiceTest {
+
+	private static final int PRICE = 20000;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private PaymentOutboxRepository paymentOutboxRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ReservationSeatRepository reservationSeatRepository;
+
+	@Autowired
+	private ShowtimeRepository showtimeRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private PaymentOutboxService paymentOutboxService;
+	private User user;
+	private Showtime showtime;
+
+	@BeforeEach
+	void setUp() {
+		paymentOutboxService = new PaymentOutboxService(paymentOutboxRepository, reservationRepository, paymentRepository,
+				new StubPaymentGatewayClient(), transactionManager);
+
+		Venue venue = Venue.builder().name("test hall").build();
+		entityManager.persist(venue);
+		Event event = Event.builder().title("test event").status(EventStatus.ON_SALE).venue(venue).build();
+		entityManager.persist(event);
+		showtime = Showtime.builder().event(event).venue(venue)
+				.startDateTime(LocalDateTime.now().plusDays(7)).status(ShowtimeStatus.ON_SALE).build();
+		entityManager.persist(showtime);
+		user = User.builder().email("pay@test.com").name("tester").role(Role.USER).build();
+		entityManager.persist(user);
+	}
+
+	@Test
+	void retryableConfirmStaysPendingAndIsRescheduled() {
+		Reservation reservation = reservation("tck-retry", ReservationStatus.PENDING_PAYMENT, null);
+
+		Long outboxId = paymentOutboxService.beginConfirm("tck-retry", "retry-key", (long) PRICE).orElseThrow();
+		LocalDateTime beforeExecute = LocalDateTime.now();
+		assertThat(paymentOutboxService.execute(outboxId)).isEqualTo(PaymentOutboxStatus.PENDING);
+
+		PaymentOutbox entry = reload(outboxId);
+		assertThat(entry.getStatus()).isEqualTo(PaymentOutboxStatus.PENDING);
+		assertThat(entry.getAttempts()).isEqualTo(1);
+		assertThat(entry.getNextAttemptAt()).isAfter(beforeExecute);
+		assertThat(entry.getLastError()).isNotBlank();
+		assertThat(reservationRepository.findById(reservation.getId()).orElseThrow().getStatus())
+				.isEqualTo(ReservationStatus.PAYMENT_IN_PROGRESS);
+	}
+
+	@Test
+	void confirmEndpointAnswers202WhileRetrying() throws Exception {
+		reservation("tck-accepted", ReservationStatus.PENDING_PAYMENT, null);
+		TicketingServiceImpl ticketingService = new TicketingServiceImpl(userRepository, showtimeRepository, reservationRepository,
+				reservationSeatRepository, mock(SeatRealtimeService.class), paymentOutboxService,
+				mock(SeatClaimStrategyResolver.class), mock(SeatHoldService.class));
+		PaymentController controller = new PaymentController(List.of(new TicketPaymentProcessor(ticketingService)),
+				new IdempotencyService(mock(IdempotencyRepository.class), new ObjectMapper(), Duration.ofHours(1)));
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+				.setControllerAdvice(new GlobalExceptionHandler())
+				.build();
+
+		mockMvc.perform(post("/api/payments/toss/confirm")
+						.principal(new TestingAuthenticationToken("pay@test.com", null))
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"paymentKey\":\"retry-key\",\"orderId\":\"tck-accepted\",\"amount\":" + PRICE + "}"))
+				.andExpect(status().isAccepted())
+				.andExpect(jsonPath("$.orderId").value("tck-accepted"))
+				.andExpect(jsonPath("$.status").value(ReservationStatus.PAYMENT_IN_PROGRESS.name()));
+	}
+
+	@Test
+	void permanentConfirmFailureReturnsReservationToPendingPayment() {
+		Reservation reservation = reservation("tck-fail", ReservationStatus.PENDING_PAYMENT, null);
+
+		Long outboxId = paymentOutboxService.beginConfirm("tck-fail", "fail-key", (long) PRICE).orElseThrow();
+		assertThat(paymentOutboxService.execute(outboxId)).isEqualTo(PaymentOutboxStatus.FAILED);
+
+		assertThat(reload(outboxId).getAttempts()).isEqualTo(1);
+		assertThat(reservationRepository.findById(reservation.getId()).orElseThrow().getStatus())
+				.isEqualTo(ReservationStatus.PENDING_PAYMENT);
+		assertThat(paymentRepository.findByReservation(reservation)).isEmpty();
+	}
+
+	@Test
+	void refundFailingEveryAttemptIsMarkedRefundFailedAndCanBeRetried() {
+		Reservation reservation = reservation("tck-refund", ReservationStatus.PAID, "retry-paid");
+		Payment payment = paymentRepository.save(Payment.builder()
+				.reservation(reservation)
+				.amount(BigDecimal.valueOf(PRICE))
+				.status(PaymentStatus.PAID)
+				.paymentKey("retry-paid")
+				.build());
+
+		paymentOutboxService.enqueueRefund(reservation, "customer request");
+		assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus()).isEqualTo(PaymentStatus.REFUND_PENDING);
+		Long outboxId = paymentOutboxRepository
+				.findByTypeAndStatusOrderByIdDesc(PaymentOutboxType.REFUND, PaymentOutboxStatus.PENDING).get(0).getId();
+
+		PaymentOutboxStatus status = PaymentOutboxStatus.PENDING;
+		int executions = 0;
+		while (status == PaymentOutboxStatus.PENDING && executions < 20) {
+			status = paymentOutboxService.execute(outboxId);
+			executions++;
+		}
+
+		assertThat(status).isEqualTo(PaymentOutboxStatus.FAILED);
+		assertThat(reload(outboxId).getAttempts()).isEqualTo(executions);
+		assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus()).isEqualTo(PaymentStatus.REFUND_FAILED);
+		assertThat(paymentOutboxService.countFailedRefunds()).isEqualTo(1);
+		assertThat(paymentOutboxService.findFailedRefunds()).singleElement()
+				.satisfies(failure -> assertThat(failure.getOutboxId()).isEqualTo(outboxId));
+
+		paymentOutboxService.retryRefund(outboxId);
+
+		PaymentOutbox retried = reload(outboxId);
+		assertThat(retried.getStatus()).isEqualTo(PaymentOutboxStatus.PENDING);
+		assertThat(retried.getAttempts()).isZero();
+		assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus()).isEqualTo(PaymentStatus.REFUND_PENDING);
+	}
+
+	@Test
+	void sameConfirmAgainDoesNotCreateSecondOutboxEntry() {
+		reservation("tck-twice", ReservationStatus.PENDING_PAYMENT, null);
+
+		Optional<Long> first = paymentOutboxService.beginConfirm("tck-twice", "retry-twice", (long) PRICE);
+		paymentOutboxService.execute(first.orElseThrow());
+		Optional<Long> second = paymentOutboxService.beginConfirm("tck-twice", "retry-twice", (long) PRICE);
+
+		assertThat(second).isEmpty();
+		assertThat(paymentOutboxService.confirmStatus("tck-twice")).isEqualTo(PaymentOutboxStatus.PENDING);
+		assertThat(paymentOutboxRepository.count()).isEqualTo(1);
+	}
+
+	private Reservation reservation(String orderId, ReservationStatus status, String paymentKey) {
+		Reservation reservation = Reservation.builder()
+				.user(user)
+				.showtime(showtime)
+				.totalPrice(PRICE)
+				.status(status)
+				.reservedAt(LocalDateTime.now())
+				.orderId(orderId)
+				.paymentKey(paymentKey)
+				.build();
+		entityManager.persist(reservation);
+		entityManager.flush();
+		return reservation;
+	}
+
+	private PaymentOutbox reload(Long outboxId) {
+		entityManager.flush();
+		entityManager.clear();
+		return paymentOutboxRepository.findById(outboxId).orElseThrow();
+	}
+}
@@ -0,0 +1,100 @@
+package com.example.practice_shop.service.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.practice_shop.repository.QueueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdmissionControllerTest {
+
+	private static final Long EVENT_ID = 1L;
+	private static final BackendHealth HEALTHY = new BackendHealth(100, 0.2, 0);
+
+	private QueueRepository queueRepository;
+	private AdmissionController controller;
+
+	@BeforeEach
+	void setUp() {
+		queueRepository = mock(QueueRepository.class);
+		controller = new AdmissionController(queueRepository, 100, 10, 200, 500, 1000);
+	}
+
+	@Test
+	void startsAtInitialRate() {
+		assertThat(controller.nextBatch(EVENT_ID, HEALTHY)).isEqualTo(100);
+	}
+
+	@Test
+	void increasesAdditivelyOnlyWhenBatchWasFilled() {
+		controller.nextBatch(EVENT_ID, HEALTHY);
+		controller.recordAdmitted(EVENT_ID, 100);
+		assertThat(controller.nextBatch(EVENT_ID, HEALTHY)).isEqualTo(125);
+
+		controller.recordAdmitted(EVENT_ID, 40);
+		assertThat(controller.nextBatch(EVENT_ID, HEALTHY)).isEqualTo(125);
+	}
+
+	@Test
+	void increaseIsCappedAtMax() {
+		for (int i = 0; i < 20; i++) {
+			int batch = controller.nextBatch(EVENT_ID, HEALTHY);
+			controller.recordAdmitted(EVENT_ID, batch);
+		}
+
+		assertThat(controller.nextBatch(EVENT_ID, HEALTHY)).isEqualTo(200);
+	}
+
+	@Test
+	void anyOverloadSignalHalvesRateDownToMin() {
+		assertThat(controller.nextBatch(EVENT_ID, new BackendHealth(900, 0.2, 0))).isEqualTo(50);
+		assertThat(controller.nextBatch(EVENT_ID, new BackendHealth(100, 0.95, 0))).isEqualTo(25);
+		assertThat(controller.nextBatch(EVENT_ID, new BackendHealth(100, 0.2, 9))).isEqualTo(12);
+		assertThat(controller.nextBatch(EVENT_ID, new BackendHealth(900, 0.2, 0))).isEqualTo(10);
+		assertThat(controller.nextBatch(EVENT_ID, new BackendHealth(900, 0.2, 0))).isEqualTo(10);
+	}
+
+	@Test
+	void batchNeverPushesReadyTokensPastMaxReady() {
+		when(queueRepository.countReady(EVENT_ID)).thenReturn(950L);
+		assertThat(controller.nextBatch(EVENT_ID, HEALTHY)).isEqualTo(50);
+
+		when(queueRepository.countReady(EVENT_ID)).thenReturn(1200L);
+		assertThat(controller.nextBatch(EVENT_ID, HEALTHY)).isZero();
+	}
+
+	@Test
+	void overrideReplacesAutomaticRate() {
+		when(queueRepository.getAdmissionOverride(EVENT_ID)).thenReturn(7);
+
+		assertThat(controller.nextBatch(EVENT_ID, HEALTHY)).isEqualTo(7);
+		assertThat(controller.status(EVENT_ID).isAutomatic()).isFalse();
+	}
+
+	@Test
+	void forgetRestartsFromInitialRate() {
+		controller.nextBatch(EVENT_ID, new BackendHealth(900, 0.2, 0));
+
+		controller.forget(EVENT_ID);
+
+		assertThat(controller.status(EVENT_ID).getRatePerTick()).isEqualTo(100);
+		assertThat(controller.nextBatch(EVENT_ID, HEALTHY)).isEqualTo(100);
+	}
+
+	@Test
+	void statusOfUnownedEventShowsInitialRate() {
+		assertThat(controller.status(9L).getRatePerTick()).isEqualTo(100);
+		assertThat(controller.status(9L).getLastBatch()).isZero();
+	}
+
+	@Test
+	void eventsAreTunedIndependently() {
+		when(queueRepository.countReady(anyLong())).thenReturn(0L);
+		controller.nextBatch(EVENT_ID, new BackendHealth(900, 0.2, 0));
+
+		assertThat(controller.nextBatch(2L, HEALTHY)).isEqualTo(100);
+	}
+}
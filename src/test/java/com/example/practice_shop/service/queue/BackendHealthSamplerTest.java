@@ -0,0 +1,82 @@
+package com.example.practice_shop.service.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.practice_shop.repository.NodeHealth;
+import com.example.practice_shop.repository.QueueRepository;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class BackendHealthSamplerTest {
+
+	private ReservationLatencyTracker reservationLatencyTracker;
+	private JdbcTemplate jdbcTemplate;
+	private QueueRepository queueRepository;
+	private BackendHealthSampler sampler;
+
+	@BeforeEach
+	void setUp() {
+		reservationLatencyTracker = new ReservationLatencyTracker();
+		jdbcTemplate = mock(JdbcTemplate.class);
+		queueRepository = mock(QueueRepository.class);
+		QueueNodeRegistry queueNodeRegistry = mock(QueueNodeRegistry.class);
+		when(queueNodeRegistry.getNodeId()).thenReturn("node-a");
+		when(jdbcTemplate.queryForObject(any(String.class), eq(Integer.class))).thenReturn(1);
+		sampler = new BackendHealthSampler(reservationLatencyTracker, mock(DataSource.class), jdbcTemplate,
+				queueRepository, queueNodeRegistry);
+	}
+
+	@Test
+	void reportsLocalSampleUnderNodeId() {
+		reservationLatencyTracker.record(120);
+
+		sampler.report();
+
+		ArgumentCaptor<NodeHealth> captor = ArgumentCaptor.forClass(NodeHealth.class);
+		verify(queueRepository).reportHealth(captor.capture());
+		assertThat(captor.getValue().nodeId()).isEqualTo("node-a");
+		assertThat(captor.getValue().reservationP99Millis()).isEqualTo(120);
+		assertThat(captor.getValue().lockWaiters()).isEqualTo(1);
+	}
+
+	@Test
+	void sampleTakesWorstValueAcrossNodes() {
+		reservationLatencyTracker.record(100);
+		when(queueRepository.findHealth(anyLong())).thenReturn(List.of(
+				new NodeHealth("node-b", 900, 0.3, 1, System.currentTimeMillis()),
+				new NodeHealth("node-c", 200, 0.85, 2, System.currentTimeMillis())));
+
+		BackendHealth health = sampler.sample();
+
+		assertThat(health.reservationP99Millis()).isEqualTo(900);
+		assertThat(health.poolUtilization()).isEqualTo(0.85);
+		assertThat(health.lockWaiters()).isEqualTo(2);
+	}
+
+	@Test
+	void fallsBackToLocalSampleWhenRedisFails() {
+		reservationLatencyTracker.record(300);
+		when(queueRepository.findHealth(anyLong())).thenThrow(new RedisConnectionFailureException("down"));
+
+		assertThat(sampler.sample().reservationP99Millis()).isEqualTo(300);
+	}
+
+	@Test
+	void reportFailureDoesNotPropagate() {
+		doThrow(new RedisConnectionFailureException("down")).when(queueRepository).reportHealth(any());
+
+		sampler.report();
+	}
+}
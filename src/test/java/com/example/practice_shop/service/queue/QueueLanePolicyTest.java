@@ -0,0 +1,62 @@
+package com.example.practice_shop.service.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.practice_shop.constant.UserGrade;
+import com.example.practice_shop.repository.UserRepository;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class QueueLanePolicyTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+
+	@Test
+	void parsesWeightsAndDefaultsMissingLanesToOne() {
+		QueueLanePolicy policy = new QueueLanePolicy(userRepository, " PLATINUM = 8 , GOLD=4");
+
+		assertThat(policy.weights()).containsExactlyInAnyOrderEntriesOf(Map.of(
+				UserGrade.PLATINUM, 8, UserGrade.GOLD, 4, UserGrade.SILVER, 1, UserGrade.BASIC, 1));
+	}
+
+	@Test
+	void weightsAreReadOnly() {
+		QueueLanePolicy policy = new QueueLanePolicy(userRepository, "GOLD=4");
+
+		assertThatThrownBy(() -> policy.weights().put(UserGrade.GOLD, 100))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void rejectsMalformedOrNonPositiveWeights() {
+		assertThatThrownBy(() -> new QueueLanePolicy(userRepository, "GOLD"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new QueueLanePolicy(userRepository, "GOLD=0"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new QueueLanePolicy(userRepository, "DIAMOND=3"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void anonymousUsersGoToBasicLane() {
+		QueueLanePolicy policy = new QueueLanePolicy(userRepository, "GOLD=4");
+
+		assertThat(policy.laneFor(null)).isEqualTo(UserGrade.BASIC);
+		verifyNoInteractions(userRepository);
+	}
+
+	@Test
+	void lanesFollowUserGrade() {
+		when(userRepository.findUserGradeByEmail("gold@test.com")).thenReturn(Optional.of(UserGrade.GOLD));
+		when(userRepository.findUserGradeByEmail("missing@test.com")).thenReturn(Optional.empty());
+		QueueLanePolicy policy = new QueueLanePolicy(userRepository, "GOLD=4");
+
+		assertThat(policy.laneFor("gold@test.com")).isEqualTo(UserGrade.GOLD);
+		assertThat(policy.laneFor("missing@test.com")).isEqualTo(UserGrade.BASIC);
+	}
+}
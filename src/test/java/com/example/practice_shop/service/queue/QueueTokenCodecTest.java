@@ -0,0 +1,79 @@
+package com.example.practice_shop.service.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.practice_shop.constant.UserGrade;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class QueueTokenCodecTest {
+
+	private static final String SECRET = "queue-token-secret-for-tests-0123456789";
+
+	private final QueueTokenCodec codec = new QueueTokenCodec(SECRET, Duration.ofHours(2));
+
+	@Test
+	void rejectsShortSecret() {
+		assertThatThrownBy(() -> new QueueTokenCodec("too-short", Duration.ofHours(2)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void verifiesIssuedToken() {
+		QueueToken token = new QueueToken(3L, UserGrade.GOLD, 42, System.currentTimeMillis(), "user@test.com");
+
+		assertThat(codec.verify(codec.issue(token))).contains(token);
+	}
+
+	@Test
+	void userIdMayContainSeparator() {
+		QueueToken token = new QueueToken(3L, UserGrade.BASIC, 1, System.currentTimeMillis(), "a:b:c");
+
+		assertThat(codec.verify(codec.issue(token))).contains(token);
+	}
+
+	@Test
+	void rejectsTamperedPayloadOrSignature() {
+		String value = codec.issue(new QueueToken(3L, UserGrade.BASIC, 42, System.currentTimeMillis(), QueueToken.ANONYMOUS));
+		String forged = codec.issue(new QueueToken(3L, UserGrade.PLATINUM, 1, System.currentTimeMillis(), QueueToken.ANONYMOUS));
+		int dot = value.indexOf('.');
+
+		assertThat(codec.verify(forged.substring(0, forged.indexOf('.')) + value.substring(dot))).isEmpty();
+		assertThat(codec.verify(value.substring(0, dot + 1) + "AAAAAAAAAAAAAAAAAAAAAA")).isEmpty();
+	}
+
+	@Test
+	void rejectsTokenSignedWithAnotherSecret() {
+		QueueTokenCodec other = new QueueTokenCodec(SECRET + "-other", Duration.ofHours(2));
+		String value = other.issue(new QueueToken(3L, UserGrade.BASIC, 1, System.currentTimeMillis(), QueueToken.ANONYMOUS));
+
+		assertThat(codec.verify(value)).isEmpty();
+	}
+
+	@Test
+	void rejectsExpiredToken() {
+		long enteredAt = System.currentTimeMillis() - Duration.ofHours(3).toMillis();
+		String value = codec.issue(new QueueToken(3L, UserGrade.BASIC, 1, enteredAt, QueueToken.ANONYMOUS));
+
+		assertThat(codec.verify(value)).isEmpty();
+	}
+
+	@Test
+	void rejectsMalformedValues() {
+		assertThat(codec.verify(null)).isEmpty();
+		assertThat(codec.verify("")).isEmpty();
+		assertThat(codec.verify("no-dot")).isEmpty();
+		assertThat(codec.verify(".signature")).isEmpty();
+		assertThat(codec.verify("!!!.###")).isEmpty();
+	}
+
+	@Test
+	void readyChannelIsStablePerQueueEntry() {
+		String channel = codec.readyChannel(3L, UserGrade.GOLD, 42);
+
+		assertThat(codec.readyChannel(3L, UserGrade.GOLD, 42)).isEqualTo(channel);
+		assertThat(codec.readyChannel(3L, UserGrade.GOLD, 43)).isNotEqualTo(channel);
+		assertThat(codec.readyChannel(3L, UserGrade.SILVER, 42)).isNotEqualTo(channel);
+	}
+}
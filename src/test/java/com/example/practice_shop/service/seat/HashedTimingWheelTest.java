@@ -0,0 +1,90 @@
+package com.example.practice_shop.service.seat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+
+	private static final long TICK = 100;
+	private static final int SIZE = 8;
+
+	@Test
+	void rejectsWheelSizeThatIsNotPowerOfTwo() {
+		assertThatThrownBy(() -> new HashedTimingWheel<String>(TICK, 6, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void neverExpiresBeforeDeadline() {
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, SIZE, 0);
+		wheel.schedule("a", 250);
+
+		assertThat(wheel.advance(200)).isEmpty();
+		assertThat(wheel.advance(299)).isEmpty();
+		assertThat(wheel.advance(300)).containsExactly("a");
+		assertThat(wheel.advance(400)).isEmpty();
+	}
+
+	@Test
+	void deadlineBeyondOneRotationWaitsForRemainingRounds() {
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, SIZE, 0);
+		// 10 tick 뒤 만료 → 버킷 2, 한 바퀴를 더 돌아야 합니다.
+		wheel.schedule("far", 1000);
+
+		assertThat(wheel.advance(250)).isEmpty();
+		assertThat(wheel.advance(999)).isEmpty();
+		assertThat(wheel.advance(1000)).containsExactly("far");
+	}
+
+	@Test
+	void deadlineInThePastExpiresOnNextAdvance() {
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, SIZE, 0);
+		wheel.advance(500);
+		wheel.schedule("late", 100);
+
+		assertThat(wheel.advance(500)).isEmpty();
+		assertThat(wheel.advance(600)).containsExactly("late");
+	}
+
+	@Test
+	void largeJumpExpiresEverythingDue() {
+		HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>(TICK, SIZE, 0);
+		for (int i = 1; i <= 50; i++) {
+			wheel.schedule(i, i * TICK);
+		}
+
+		assertThat(wheel.advance(25 * TICK)).hasSize(25);
+		assertThat(wheel.advance(50 * TICK)).hasSize(25);
+	}
+
+	@Test
+	void concurrentScheduleIsCollectedBySingleAdvancer() throws InterruptedException {
+		HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>(TICK, SIZE, 0);
+		int threads = 4;
+		int perThread = 1_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			int base = t * perThread;
+			executor.execute(() -> {
+				for (int i = 0; i < perThread; i++) {
+					wheel.schedule(base + i, (i % 20) * TICK);
+				}
+				done.countDown();
+			});
+		}
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		List<Integer> expired = new ArrayList<>(wheel.advance(20 * TICK));
+		assertThat(expired).hasSize(threads * perThread).doesNotHaveDuplicates();
+	}
+}
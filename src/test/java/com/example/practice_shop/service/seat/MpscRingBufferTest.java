@@ -0,0 +1,102 @@
+package com.example.practice_shop.service.seat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MpscRingBufferTest {
+
+	@Test
+	void rejectsCapacityThatIsNotPowerOfTwo() {
+		assertThatThrownBy(() -> new MpscRingBuffer<String>(10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void pollReturnsNullWhenEmpty() {
+		MpscRingBuffer<String> buffer = new MpscRingBuffer<>(4);
+
+		assertThat(buffer.poll()).isNull();
+	}
+
+	@Test
+	void offerFailsWhenFullAndSucceedsAfterPoll() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+		for (int i = 0; i < 4; i++) {
+			assertThat(buffer.offer(i)).isTrue();
+		}
+
+		assertThat(buffer.offer(4)).isFalse();
+		assertThat(buffer.poll()).isZero();
+		assertThat(buffer.offer(4)).isTrue();
+	}
+
+	@Test
+	void keepsFifoOrderAcrossWrapAround() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+		List<Integer> polled = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			buffer.offer(i);
+			if (i % 2 == 1) {
+				polled.add(buffer.poll());
+				polled.add(buffer.poll());
+			}
+		}
+
+		assertThat(polled).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+		assertThat(buffer.poll()).isNull();
+	}
+
+	@Test
+	void concurrentProducersDeliverEveryElementOnceInPerProducerOrder() throws InterruptedException {
+		int producers = 4;
+		int perProducer = 50_000;
+		MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(64);
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		CountDownLatch start = new CountDownLatch(1);
+		for (int p = 0; p < producers; p++) {
+			long producer = p;
+			executor.execute(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (long i = 0; i < perProducer; i++) {
+					long[] element = {producer, i};
+					while (!buffer.offer(element)) {
+						Thread.onSpinWait();
+					}
+				}
+			});
+		}
+		start.countDown();
+
+		long[] nextExpected = new long[producers];
+		int received = 0;
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (received < producers * perProducer && System.nanoTime() < deadline) {
+			long[] element = buffer.poll();
+			if (element == null) {
+				Thread.onSpinWait();
+				continue;
+			}
+			int producer = (int) element[0];
+			assertThat(element[1]).isEqualTo(nextExpected[producer]);
+			nextExpected[producer]++;
+			received++;
+		}
+		executor.shutdownNow();
+
+		assertThat(received).isEqualTo(producers * perProducer);
+		assertThat(buffer.poll()).isNull();
+	}
+}
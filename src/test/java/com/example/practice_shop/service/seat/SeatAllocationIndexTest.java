@@ -0,0 +1,247 @@
+package com.example.practice_shop.service.seat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.dtos.ticketing.SeatStatusMessage.SeatStatusItem;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import com.example.practice_shop.repository.SeatInventoryRepository.SeatLayoutView;
+import com.example.practice_shop.repository.SeatInventoryRepository.SeatStatusView;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SeatAllocationIndexTest {
+
+	private static final BigDecimal VIP = new BigDecimal("150000");
+	private static final BigDecimal R = new BigDecimal("120000");
+
+	@Test
+	void prefersShortestBlockThatFits() {
+		ShowtimeSeatLayout layout = new ShowtimeSeatLayout(List.of(
+				seat(1, "A", "1", VIP), seat(2, "A", "2", VIP), seat(3, "A", "3", VIP), seat(4, "A", "4", VIP),
+				seat(11, "B", "1", VIP), seat(12, "B", "2", VIP)));
+
+		assertThat(layout.allocate(2, null, null)).containsExactly(11L, 12L);
+		assertThat(layout.allocate(2, null, null)).containsExactly(1L, 2L);
+		assertThat(layout.allocate(2, null, null)).containsExactly(3L, 4L);
+		assertThat(layout.allocate(1, null, null)).isEmpty();
+	}
+
+	@Test
+	void unavailableSeatOrPriceChangeSplitsBlock() {
+		ShowtimeSeatLayout layout = new ShowtimeSeatLayout(List.of(
+				seat(1, "A", "1", VIP), seat(2, "A", "2", VIP),
+				seat(3, "A", "3", VIP, SeatStatus.SOLD),
+				seat(4, "A", "4", VIP), seat(5, "A", "5", R), seat(6, "A", "6", R)));
+
+		assertThat(layout.allocate(3, null, null)).isEmpty();
+		assertThat(layout.allocate(2, null, R)).containsExactly(5L, 6L);
+		assertThat(layout.allocate(2, null, VIP)).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void seatNumbersAreOrderedNumerically() {
+		ShowtimeSeatLayout layout = new ShowtimeSeatLayout(List.of(
+				seat(10, "A", "10", VIP), seat(2, "A", "2", VIP), seat(1, "A", "1", VIP), seat(9, "A", "9", VIP)));
+
+		// 1, 2, 9, 10 순서로 이어진 구간
+		assertThat(layout.allocate(4, null, null)).containsExactly(1L, 2L, 9L, 10L);
+	}
+
+	@Test
+	void filtersBySectionAndTreatsEqualPricesAlike() {
+		ShowtimeSeatLayout layout = new ShowtimeSeatLayout(List.of(
+				seat(1, "FLOOR", "A", "1", VIP), seat(2, "FLOOR", "A", "2", VIP),
+				seat(3, "BALCONY", "A", "1", new BigDecimal("150000.00")), seat(4, "BALCONY", "A", "2", VIP)));
+
+		assertThat(layout.allocate(2, "BALCONY", new BigDecimal("150000.0"))).containsExactly(3L, 4L);
+		assertThat(layout.allocate(2, "BALCONY", null)).isEmpty();
+		assertThat(layout.allocate(2, "FLOOR", null)).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void concurrentAllocationsNeverShareSeats() throws InterruptedException {
+		List<SeatLayoutView> seats = new ArrayList<>();
+		for (int row = 0; row < 20; row++) {
+			for (int number = 1; number <= 20; number++) {
+				seats.add(seat(row * 100L + number, "R" + row, Integer.toString(number), VIP));
+			}
+		}
+		ShowtimeSeatLayout layout = new ShowtimeSeatLayout(seats);
+		List<Long> allocated = Collections.synchronizedList(new ArrayList<>());
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			executor.execute(() -> {
+				List<Long> seatIds;
+				while (!(seatIds = layout.allocate(3, null, null)).isEmpty()) {
+					allocated.addAll(seatIds);
+				}
+				done.countDown();
+			});
+		}
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		Set<Long> unique = new HashSet<>(allocated);
+		assertThat(unique).hasSize(allocated.size());
+		// 20석 열마다 3석 구간 6개
+		assertThat(allocated).hasSize(20 * 6 * 3);
+	}
+
+	@Test
+	void takenSeatSplitsBlockAndFreedSeatMergesItBack() {
+		ShowtimeSeatLayout layout = new ShowtimeSeatLayout(List.of(
+				seat(1, "A", "1", VIP), seat(2, "A", "2", VIP), seat(3, "A", "3", VIP),
+				seat(4, "A", "4", VIP), seat(5, "A", "5", VIP)));
+
+		layout.markTaken(List.of(3L));
+		assertThat(layout.allocate(3, null, null)).isEmpty();
+
+		layout.markFree(List.of(3L));
+		assertThat(layout.allocate(5, null, null)).containsExactly(1L, 2L, 3L, 4L, 5L);
+	}
+
+	@Test
+	void freedSeatDoesNotMergeAcrossPriceChange() {
+		ShowtimeSeatLayout layout = new ShowtimeSeatLayout(List.of(
+				seat(1, "A", "1", VIP), seat(2, "A", "2", VIP, SeatStatus.HOLD), seat(3, "A", "3", R)));
+
+		layout.markFree(List.of(2L));
+
+		assertThat(layout.allocate(3, null, null)).isEmpty();
+		assertThat(layout.allocate(2, null, VIP)).containsExactly(1L, 2L);
+		assertThat(layout.allocate(1, null, R)).containsExactly(3L);
+	}
+
+	@Test
+	void indexLoadsOnceAndFollowsRelayedChanges() {
+		SeatInventoryRepository seatInventoryRepository = mock(SeatInventoryRepository.class);
+		when(seatInventoryRepository.findSeatLayoutByShowtimeId(1L))
+				.thenReturn(List.of(seat(1, "A", "1", VIP), seat(2, "A", "2", VIP)));
+		SeatAllocationIndex index = new SeatAllocationIndex(seatInventoryRepository);
+
+		assertThat(index.allocate(1L, 1, null, null)).containsExactly(1L);
+		index.apply(1L, List.of(item(2L, SeatStatus.HOLD)));
+		assertThat(index.allocate(1L, 1, null, null)).isEmpty();
+
+		index.apply(1L, List.of(item(2L, SeatStatus.AVAILABLE)));
+		assertThat(index.allocate(1L, 1, null, null)).containsExactly(2L);
+		verify(seatInventoryRepository, times(1)).findSeatLayoutByShowtimeId(1L);
+	}
+
+	@Test
+	void conflictKeepsOnlyTakenSeatsAndFailureReturnsSeats() {
+		SeatInventoryRepository seatInventoryRepository = mock(SeatInventoryRepository.class);
+		when(seatInventoryRepository.findSeatLayoutByShowtimeId(1L))
+				.thenReturn(List.of(seat(1, "A", "1", VIP), seat(2, "A", "2", VIP), seat(3, "A", "3", VIP)));
+		when(seatInventoryRepository.findSeatStatusesBySeatIds(1L, List.of(1L, 2L)))
+				.thenReturn(List.of(status(1L, SeatStatus.AVAILABLE), status(2L, SeatStatus.HOLD)));
+		SeatAllocationIndex index = new SeatAllocationIndex(seatInventoryRepository);
+
+		List<Long> first = index.allocate(1L, 2, null, null);
+		assertThat(first).containsExactly(1L, 2L);
+		index.reconcile(1L, first);
+		assertThat(index.allocate(1L, 2, null, null)).isEmpty();
+		assertThat(index.allocate(1L, 1, null, null)).containsExactly(1L);
+
+		index.release(1L, List.of(1L));
+		assertThat(index.allocate(1L, 1, null, null)).containsExactly(1L);
+		verify(seatInventoryRepository, times(1)).findSeatLayoutByShowtimeId(1L);
+	}
+
+	@Test
+	void resyncDropsIndexAndChangesForUnknownShowtimeAreIgnored() {
+		SeatInventoryRepository seatInventoryRepository = mock(SeatInventoryRepository.class);
+		when(seatInventoryRepository.findSeatLayoutByShowtimeId(1L)).thenReturn(List.of(seat(1, "A", "1", VIP)));
+		SeatAllocationIndex index = new SeatAllocationIndex(seatInventoryRepository);
+
+		index.apply(2L, List.of(item(1L, SeatStatus.HOLD)));
+		assertThat(index.allocate(1L, 1, null, null)).containsExactly(1L);
+
+		index.apply(1L, null);
+		assertThat(index.allocate(1L, 1, null, null)).containsExactly(1L);
+		verify(seatInventoryRepository, times(2)).findSeatLayoutByShowtimeId(1L);
+		verify(seatInventoryRepository, never()).findSeatLayoutByShowtimeId(2L);
+	}
+
+	private static SeatStatusItem item(long seatId, SeatStatus status) {
+		return SeatStatusItem.builder().seatId(seatId).status(status).build();
+	}
+
+	private static SeatStatusView status(long seatId, SeatStatus status) {
+		return new SeatStatusView() {
+			@Override
+			public Long getSeatId() {
+				return seatId;
+			}
+
+			@Override
+			public SeatStatus getStatus() {
+				return status;
+			}
+		};
+	}
+
+	private static SeatLayoutView seat(long seatId, String row, String number, BigDecimal price) {
+		return seat(seatId, "MAIN", row, number, price, SeatStatus.AVAILABLE);
+	}
+
+	private static SeatLayoutView seat(long seatId, String row, String number, BigDecimal price, SeatStatus status) {
+		return seat(seatId, "MAIN", row, number, price, status);
+	}
+
+	private static SeatLayoutView seat(long seatId, String section, String row, String number, BigDecimal price) {
+		return seat(seatId, section, row, number, price, SeatStatus.AVAILABLE);
+	}
+
+	private static SeatLayoutView seat(long seatId, String section, String row, String number, BigDecimal price,
+			SeatStatus status) {
+		return new SeatLayoutView() {
+			@Override
+			public Long getSeatId() {
+				return seatId;
+			}
+
+			@Override
+			public String getSectionName() {
+				return section;
+			}
+
+			@Override
+			public String getRowLabel() {
+				return row;
+			}
+
+			@Override
+			public String getSeatNumber() {
+				return number;
+			}
+
+			@Override
+			public BigDecimal getPrice() {
+				return price;
+			}
+
+			@Override
+			public SeatStatus getStatus() {
+				return status;
+			}
+		};
+	}
+}
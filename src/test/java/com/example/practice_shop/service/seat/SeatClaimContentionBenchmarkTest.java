@@ -0,0 +1,271 @@
+package com.example.practice_shop.service.seat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.practice_shop.constant.EventStatus;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.constant.ShowtimeStatus;
+import com.example.practice_shop.entity.Event;
+import com.example.practice_shop.entity.Seat;
+import com.example.practice_shop.entity.SeatInventory;
+import com.example.practice_shop.entity.Showtime;
+import com.example.practice_shop.entity.Venue;
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 조건부 UPDATE와 비관적 잠금(PESSIMISTIC_WRITE) 좌석 선점을 같은 경합 상황에서 비교합니다.
+ * <p>
+ * - 여러 스레드가 적은 수의 인기 좌석 중 이웃한 두 좌석을 반복해서 선점하고, 성공하면 바로 반환합니다.
+ * - 선점 트랜잭션 안에서 예매의 나머지 작업을 work-ms만큼 흉내 내므로, 잠금을 트랜잭션 끝까지 잡는 방식일수록 대기가 길어집니다.
+ * - 방식별 처리량과 선점 지연(p50/p99/max)을 출력합니다.
+ * - 이어서 모든 스레드가 반환 없이 한 번씩 동시에 선점해, 좌석마다 성공한 선점이 하나뿐이고 DB에 남은 HOLD 좌석과 일치하는지 확인합니다.
+ * </p>
+ * 잠금 동작은 DB마다 다르므로 실제 PostgreSQL에서만 의미가 있어 기본 test 작업에서는 제외됩니다.
+ * 빈 DB를 지정해 {@code ./gradlew benchmark -Pbenchmark.jdbc-url=... -Pbenchmark.username=... -Pbenchmark.password=...}로 실행합니다.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.jdbc-url", matches = ".+")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ConditionalUpdateSeatClaimStrategy.class, PessimisticSeatClaimStrategy.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatClaimContentionBenchmarkTest {
+
+	private static final int HOT_SEATS = Integer.getInteger("benchmark.hot-seats", 20);
+	private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+	private static final int ATTEMPTS_PER_THREAD = Integer.getInteger("benchmark.attempts", 200);
+	private static final long WORK_MILLIS = Long.getLong("benchmark.work-ms", 5);
+	private static final int CONSISTENCY_ROUNDS = Integer.getInteger("benchmark.consistency-rounds", 20);
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> System.getProperty("benchmark.jdbc-url"));
+		registry.add("spring.datasource.username", () -> System.getProperty("benchmark.username", "postgres"));
+		registry.add("spring.datasource.password", () -> System.getProperty("benchmark.password", ""));
+		registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS + 2);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+		registry.add("spring.jpa.show-sql", () -> "false");
+	}
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private SeatInventoryRepository seatInventoryRepository;
+
+	@Autowired
+	private ConditionalUpdateSeatClaimStrategy conditionalUpdateStrategy;
+
+	@Autowired
+	private PessimisticSeatClaimStrategy pessimisticStrategy;
+
+	private TransactionTemplate transactionTemplate;
+	private Showtime showtime;
+	private List<Long> seatIds;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> {
+			Venue venue = Venue.builder().name("bench hall").build();
+			entityManager.persist(venue);
+			Event event = Event.builder().title("bench").status(EventStatus.ON_SALE).venue(venue).build();
+			entityManager.persist(event);
+			showtime = Showtime.builder().event(event).venue(venue)
+					.startDateTime(LocalDateTime.now().plusDays(1)).status(ShowtimeStatus.ON_SALE).build();
+			entityManager.persist(showtime);
+			seatIds = new ArrayList<>();
+			for (int i = 1; i <= HOT_SEATS; i++) {
+				Seat seat = Seat.builder().venue(venue).sectionName("A").rowLabel("1").seatNumber(Integer.toString(i))
+						.basePrice(BigDecimal.TEN).status(SeatStatus.AVAILABLE).build();
+				entityManager.persist(seat);
+				entityManager.persist(SeatInventory.builder().showtime(showtime).seat(seat)
+						.price(BigDecimal.TEN).status(SeatStatus.AVAILABLE).build());
+				seatIds.add(seat.getId());
+			}
+		});
+	}
+
+	@Test
+	void conditionalUpdate() throws InterruptedException {
+		report("CONDITIONAL_UPDATE", run(conditionalUpdateStrategy));
+		assertNoDoubleClaim(conditionalUpdateStrategy);
+	}
+
+	@Test
+	void pessimisticLock() throws InterruptedException {
+		report("PESSIMISTIC_LOCK", run(pessimisticStrategy));
+		assertNoDoubleClaim(pessimisticStrategy);
+	}
+
+	private Result run(SeatClaimStrategy strategy) throws InterruptedException {
+		AtomicLongArray latencies = new AtomicLongArray(THREADS * ATTEMPTS_PER_THREAD);
+		AtomicInteger recorded = new AtomicInteger();
+		AtomicInteger claimed = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(THREADS);
+
+		for (int t = 0; t < THREADS; t++) {
+			executor.execute(() -> {
+				try {
+					start.await();
+					for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+						int first = ThreadLocalRandom.current().nextInt(HOT_SEATS - 1);
+						List<Long> pair = List.of(seatIds.get(first), seatIds.get(first + 1));
+						long begin = System.nanoTime();
+						List<SeatInventory> inventories = claim(strategy, pair);
+						latencies.set(recorded.getAndIncrement(), System.nanoTime() - begin);
+						if (inventories == null) {
+							continue;
+						}
+						claimed.incrementAndGet();
+						release(strategy, inventories);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		long begin = System.nanoTime();
+		start.countDown();
+		assertThat(done.await(10, TimeUnit.MINUTES)).isTrue();
+		long elapsed = System.nanoTime() - begin;
+		executor.shutdown();
+
+		long[] sorted = new long[recorded.get()];
+		for (int i = 0; i < sorted.length; i++) {
+			sorted[i] = latencies.get(i);
+		}
+		Arrays.sort(sorted);
+		return new Result(sorted, claimed.get(), elapsed);
+	}
+
+	/**
+	 * 모든 스레드가 반환하지 않고 한 번씩 동시에 선점합니다. 좌석마다 성공한 선점은 하나뿐이어야 하고,
+	 * 성공한 선점이 가진 좌석과 DB에 HOLD로 남은 좌석이 정확히 같아야 합니다. 라운드마다 모두 반환하고 다시 시도합니다.
+	 * @param strategy 선점 방식
+	 */
+	private void assertNoDoubleClaim(SeatClaimStrategy strategy) throws InterruptedException {
+		for (int round = 0; round < CONSISTENCY_ROUNDS; round++) {
+			ConcurrentHashMap<Long, AtomicInteger> winners = new ConcurrentHashMap<>();
+			ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+			CountDownLatch start = new CountDownLatch(1);
+			CountDownLatch done = new CountDownLatch(THREADS);
+			for (int t = 0; t < THREADS; t++) {
+				executor.execute(() -> {
+					try {
+						start.await();
+						int first = ThreadLocalRandom.current().nextInt(HOT_SEATS - 1);
+						List<SeatInventory> inventories = claim(strategy, List.of(seatIds.get(first), seatIds.get(first + 1)));
+						if (inventories != null) {
+							inventories.forEach(inventory -> winners.computeIfAbsent(inventory.getId(), id -> new AtomicInteger()).incrementAndGet());
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+			start.countDown();
+			assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+			executor.shutdown();
+
+			List<SeatInventory> held = transactionTemplate.execute(
+					status -> seatInventoryRepository.findByShowtimeAndStatus(showtime, SeatStatus.HOLD));
+			assertThat(winners.values()).as("seat claimed twice").allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+			assertThat(held).extracting(SeatInventory::getId).as("committed HOLD rows")
+					.containsExactlyInAnyOrderElementsOf(winners.keySet());
+			if (!held.isEmpty()) {
+				release(strategy, held);
+			}
+		}
+	}
+
+	/**
+	 * 운영 코드와 같이 DB를 AVAILABLE로 되돌리고 같은 트랜잭션에서 선점 방식에도 반영합니다.
+	 * (Redis/메모리 선점 방식으로 넓혀도 선점 엔진의 상태가 DB와 어긋나지 않음)
+	 */
+	private void release(SeatClaimStrategy strategy, List<SeatInventory> inventories) {
+		transactionTemplate.executeWithoutResult(status -> {
+			seatInventoryRepository.releaseSeats(inventories.stream().map(SeatInventory::getId).toList(), SeatStatus.AVAILABLE);
+			inventories.forEach(inventory -> {
+				inventory.setStatus(SeatStatus.AVAILABLE);
+				inventory.setHoldExpiresAt(null);
+				inventory.setHoldUserId(null);
+			});
+			strategy.release(showtime.getId(), inventories);
+		});
+	}
+
+	private List<SeatInventory> claim(SeatClaimStrategy strategy, List<Long> pair) {
+		try {
+			return transactionTemplate.execute(status -> {
+				List<SeatInventory> inventories = strategy.claim(showtime, pair, SeatStatus.HOLD);
+				simulateWork();
+				return inventories;
+			});
+		} catch (CustomException e) {
+			return null;
+		}
+	}
+
+	private static void simulateWork() {
+		try {
+			Thread.sleep(WORK_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void report(String mode, Result result) {
+		long[] latencies = result.latencies();
+		System.out.printf("%-18s threads=%d attempts=%d claimed=%d throughput=%.0f/s p50=%.1fms p99=%.1fms max=%.1fms%n",
+				mode, THREADS, latencies.length, result.claimed(),
+				latencies.length / (result.elapsedNanos() / 1e9),
+				percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+	}
+
+	private static double percentile(long[] sorted, double percentile) {
+		return sorted[(int) Math.ceil(sorted.length * percentile) - 1] / 1e6;
+	}
+
+	private record Result(long[] latencies, int claimed, long elapsedNanos) {
+	}
+}
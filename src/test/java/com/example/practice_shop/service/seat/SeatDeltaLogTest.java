@@ -0,0 +1,139 @@
+package com.example.practice_shop.service.seat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.dtos.ticketing.SeatStatusMessage.SeatStatusItem;
+import com.example.practice_shop.service.seat.SeatDeltaLog.SeatDelta;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SeatDeltaLogTest {
+
+	private static final Long SHOWTIME_ID = 1L;
+
+	@Test
+	void latestSeqIsZeroBeforeFirstRecord() {
+		SeatDeltaLog log = new SeatDeltaLog(4);
+
+		assertThat(log.latestSeq(SHOWTIME_ID)).isZero();
+		assertThat(log.since(SHOWTIME_ID, 0)).isEmpty();
+	}
+
+	@Test
+	void readsDoNotCreateRings() {
+		SeatDeltaLog log = new SeatDeltaLog(4);
+
+		for (long showtimeId = 1; showtimeId <= 100; showtimeId++) {
+			log.latestSeq(showtimeId);
+			log.since(showtimeId, 5);
+		}
+		assertThat(log.trackedShowtimes()).isZero();
+
+		log.record(SHOWTIME_ID, 1, List.of(item(10L, SeatStatus.HOLD)));
+		assertThat(log.trackedShowtimes()).isEqualTo(1);
+	}
+
+	@Test
+	void mergesChangesToLastStatePerSeat() {
+		SeatDeltaLog log = new SeatDeltaLog(8);
+		log.record(SHOWTIME_ID, 1, List.of(item(10L, SeatStatus.HOLD)));
+		log.record(SHOWTIME_ID, 2, List.of(item(11L, SeatStatus.HOLD)));
+		log.record(SHOWTIME_ID, 3, List.of(item(10L, SeatStatus.RESERVED)));
+
+		SeatDelta delta = log.since(SHOWTIME_ID, 1).orElseThrow();
+
+		assertThat(delta.seq()).isEqualTo(3);
+		assertThat(delta.seats()).extracting(SeatStatusItem::getSeatInventoryId, SeatStatusItem::getStatus)
+				.containsExactlyInAnyOrder(
+						tuple(10L, SeatStatus.RESERVED),
+						tuple(11L, SeatStatus.HOLD));
+	}
+
+	@Test
+	void sinceLatestReturnsEmptyDeltaAndSinceFutureIsRejected() {
+		SeatDeltaLog log = new SeatDeltaLog(4);
+		log.record(SHOWTIME_ID, 5, List.of(item(10L, SeatStatus.HOLD)));
+
+		assertThat(log.since(SHOWTIME_ID, 5)).get().satisfies(delta -> {
+			assertThat(delta.seq()).isEqualTo(5);
+			assertThat(delta.seats()).isEmpty();
+		});
+		assertThat(log.since(SHOWTIME_ID, 6)).isEmpty();
+	}
+
+	@Test
+	void duplicateSeqIsIgnored() {
+		SeatDeltaLog log = new SeatDeltaLog(4);
+
+		assertThat(log.record(SHOWTIME_ID, 1, List.of(item(10L, SeatStatus.HOLD)))).isTrue();
+		assertThat(log.record(SHOWTIME_ID, 1, List.of(item(10L, SeatStatus.AVAILABLE)))).isFalse();
+		assertThat(log.since(SHOWTIME_ID, 0).orElseThrow().seats())
+				.extracting(SeatStatusItem::getStatus).containsExactly(SeatStatus.HOLD);
+	}
+
+	@Test
+	void nullFrameMakesCoveringRangeUnavailable() {
+		SeatDeltaLog log = new SeatDeltaLog(8);
+		log.record(SHOWTIME_ID, 1, List.of(item(10L, SeatStatus.HOLD)));
+		log.record(SHOWTIME_ID, 2, null);
+		log.record(SHOWTIME_ID, 3, List.of(item(11L, SeatStatus.HOLD)));
+
+		assertThat(log.since(SHOWTIME_ID, 0)).isEmpty();
+		assertThat(log.since(SHOWTIME_ID, 1)).isEmpty();
+		assertThat(log.since(SHOWTIME_ID, 2)).isPresent();
+	}
+
+	@Test
+	void skippedSeqsAreRecordedAsGaps() {
+		SeatDeltaLog log = new SeatDeltaLog(8);
+		log.record(SHOWTIME_ID, 1, List.of(item(10L, SeatStatus.HOLD)));
+		log.record(SHOWTIME_ID, 4, List.of(item(11L, SeatStatus.HOLD)));
+
+		assertThat(log.latestSeq(SHOWTIME_ID)).isEqualTo(4);
+		assertThat(log.since(SHOWTIME_ID, 1)).isEmpty();
+		assertThat(log.since(SHOWTIME_ID, 3).orElseThrow().seats()).hasSize(1);
+		// 뒤늦게 도착한 건너뛴 번호는 이미 지나간 것으로 보고 무시합니다.
+		assertThat(log.record(SHOWTIME_ID, 2, List.of(item(12L, SeatStatus.HOLD)))).isFalse();
+	}
+
+	@Test
+	void wrapsAroundRingAndDropsOldestFrames() {
+		SeatDeltaLog log = new SeatDeltaLog(4);
+		for (long seq = 1; seq <= 10; seq++) {
+			log.record(SHOWTIME_ID, seq, List.of(item(seq, SeatStatus.HOLD)));
+		}
+
+		// 링에는 7~10만 남아 있습니다.
+		assertThat(log.since(SHOWTIME_ID, 6).orElseThrow().seats())
+				.extracting(SeatStatusItem::getSeatInventoryId).containsExactly(7L, 8L, 9L, 10L);
+		assertThat(log.since(SHOWTIME_ID, 8).orElseThrow().seats())
+				.extracting(SeatStatusItem::getSeatInventoryId).containsExactly(9L, 10L);
+		assertThat(log.since(SHOWTIME_ID, 5)).isEmpty();
+	}
+
+	@Test
+	void jumpLargerThanRingStartsOver() {
+		SeatDeltaLog log = new SeatDeltaLog(4);
+		log.record(SHOWTIME_ID, 1, List.of(item(1L, SeatStatus.HOLD)));
+		log.record(SHOWTIME_ID, 20, List.of(item(20L, SeatStatus.HOLD)));
+
+		assertThat(log.latestSeq(SHOWTIME_ID)).isEqualTo(20);
+		assertThat(log.since(SHOWTIME_ID, 19).orElseThrow().seats()).hasSize(1);
+		assertThat(log.since(SHOWTIME_ID, 18)).isEmpty();
+	}
+
+	@Test
+	void showtimesAreIndependent() {
+		SeatDeltaLog log = new SeatDeltaLog(4);
+		log.record(1L, 3, List.of(item(1L, SeatStatus.HOLD)));
+
+		assertThat(log.latestSeq(2L)).isZero();
+		assertThat(log.since(2L, 0)).isEmpty();
+	}
+
+	private static SeatStatusItem item(Long seatInventoryId, SeatStatus status) {
+		return SeatStatusItem.builder().seatInventoryId(seatInventoryId).status(status).build();
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.practice_shop.service.seat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SeatHoldExpiryWorkerTest {
+
+	private SeatHoldService seatHoldService;
+	private SeatHoldExpiryWorker worker;
+
+	@BeforeEach
+	void setUp() {
+		seatHoldService = mock(SeatHoldService.class);
+		worker = new SeatHoldExpiryWorker(new SeatHoldTimer(), seatHoldService);
+	}
+
+	@Test
+	void sweepDoesNothingWhenTimerKeptUp() {
+		when(seatHoldService.findOverdueHolds(any(Duration.class), anyInt())).thenReturn(List.of());
+
+		worker.sweepOverdueHolds();
+
+		verify(seatHoldService, never()).releaseExpired(anyList());
+	}
+
+	@Test
+	void sweepReleasesOverdueHoldsUntilBatchIsShort() {
+		List<Long> full = LongStream.rangeClosed(1, 500).boxed().toList();
+		List<Long> rest = List.of(501L, 502L);
+		when(seatHoldService.findOverdueHolds(any(Duration.class), anyInt())).thenReturn(full, rest);
+
+		worker.sweepOverdueHolds();
+
+		verify(seatHoldService).releaseExpired(full);
+		verify(seatHoldService).releaseExpired(rest);
+		verify(seatHoldService, times(2)).findOverdueHolds(any(Duration.class), anyInt());
+	}
+
+	@Test
+	void sweepStopsWhenReleaseFails() {
+		List<Long> full = LongStream.rangeClosed(1, 500).boxed().toList();
+		when(seatHoldService.findOverdueHolds(any(Duration.class), anyInt())).thenReturn(full);
+		when(seatHoldService.releaseExpired(full)).thenThrow(new IllegalStateException("db down"));
+
+		worker.sweepOverdueHolds();
+
+		verify(seatHoldService, times(1)).findOverdueHolds(any(Duration.class), anyInt());
+	}
+}
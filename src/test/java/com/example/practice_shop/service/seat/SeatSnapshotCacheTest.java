@@ -0,0 +1,101 @@
+package com.example.practice_shop.service.seat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import com.example.practice_shop.repository.SeatInventoryRepository.SeatSnapshotView;
+import com.example.practice_shop.repository.SeatRelayRepository;
+import com.example.practice_shop.repository.ShowtimeRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SeatSnapshotCacheTest {
+
+	private static final Long SHOWTIME_ID = 1L;
+
+	private SeatInventoryRepository seatInventoryRepository;
+	private ShowtimeRepository showtimeRepository;
+	private SeatSnapshotCache cache;
+
+	@BeforeEach
+	void setUp() {
+		seatInventoryRepository = mock(SeatInventoryRepository.class);
+		showtimeRepository = mock(ShowtimeRepository.class);
+		SeatRelayRepository seatRelayRepository = mock(SeatRelayRepository.class);
+		when(seatRelayRepository.currentSeq(anyLong())).thenReturn(5L);
+		cache = new SeatSnapshotCache(seatInventoryRepository, seatRelayRepository, new SeatDeltaLog(4), showtimeRepository);
+	}
+
+	@Test
+	void unknownShowtimeIsNotLoadedOrCached() {
+		when(showtimeRepository.existsById(anyLong())).thenReturn(false);
+
+		for (long showtimeId = 100; showtimeId < 200; showtimeId++) {
+			assertThat(cache.snapshot(showtimeId).seats()).isEmpty();
+		}
+
+		assertThat(cache.cachedShowtimes()).isZero();
+		verify(seatInventoryRepository, never()).findSeatSnapshotByShowtimeId(anyLong());
+	}
+
+	@Test
+	void existingShowtimeIsLoadedOnce() {
+		when(showtimeRepository.existsById(SHOWTIME_ID)).thenReturn(true);
+		when(seatInventoryRepository.findSeatSnapshotByShowtimeId(SHOWTIME_ID)).thenReturn(List.of(view(10L, SeatStatus.AVAILABLE)));
+
+		assertThat(cache.snapshot(SHOWTIME_ID).seats()).hasSize(1);
+		assertThat(cache.snapshot(SHOWTIME_ID).seq()).isEqualTo(5);
+
+		verify(seatInventoryRepository, times(1)).findSeatSnapshotByShowtimeId(SHOWTIME_ID);
+		verify(showtimeRepository, times(1)).existsById(SHOWTIME_ID);
+		assertThat(cache.cachedShowtimes()).isEqualTo(1);
+	}
+
+	private static SeatSnapshotView view(long seatInventoryId, SeatStatus status) {
+		return new SeatSnapshotView() {
+			@Override
+			public Long getSeatInventoryId() {
+				return seatInventoryId;
+			}
+
+			@Override
+			public Long getSeatId() {
+				return seatInventoryId;
+			}
+
+			@Override
+			public String getSectionName() {
+				return "MAIN";
+			}
+
+			@Override
+			public String getRowLabel() {
+				return "A";
+			}
+
+			@Override
+			public String getSeatNumber() {
+				return "1";
+			}
+
+			@Override
+			public SeatStatus getStatus() {
+				return status;
+			}
+
+			@Override
+			public LocalDateTime getHoldExpiresAt() {
+				return null;
+			}
+		};
+	}
+}
@@ -0,0 +1,126 @@
+package com.example.practice_shop.service.seat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.practice_shop.constant.SeatClaimResult;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import com.example.practice_shop.repository.SeatInventoryRepository.SeatStatusView;
+import com.example.practice_shop.repository.ShowtimeRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SeatStateEngineTest {
+
+	private static final Long SHOWTIME_ID = 1L;
+
+	private SeatInventoryRepository seatInventoryRepository;
+	private SeatStateEngine engine;
+
+	@BeforeEach
+	void setUp() {
+		seatInventoryRepository = mock(SeatInventoryRepository.class);
+		engine = new SeatStateEngine(seatInventoryRepository, mock(ShowtimeRepository.class));
+	}
+
+	@Test
+	void claimBeforeHydrateReportsNotLoaded() {
+		assertThat(engine.claim(SHOWTIME_ID, List.of(1L), SeatStatus.HOLD)).isEqualTo(SeatClaimResult.NOT_LOADED);
+		assertThat(engine.statusOf(SHOWTIME_ID, 1L)).isNull();
+	}
+
+	@Test
+	void claimIsAllOrNothing() {
+		load(view(1L, SeatStatus.AVAILABLE), view(2L, SeatStatus.AVAILABLE), view(3L, SeatStatus.AVAILABLE));
+
+		assertThat(engine.claim(SHOWTIME_ID, List.of(1L, 2L), SeatStatus.HOLD)).isEqualTo(SeatClaimResult.CLAIMED);
+		assertThat(engine.claim(SHOWTIME_ID, List.of(3L, 2L), SeatStatus.HOLD)).isEqualTo(SeatClaimResult.CONFLICT);
+
+		assertThat(engine.statusOf(SHOWTIME_ID, 2L)).isEqualTo(SeatStatus.HOLD);
+		assertThat(engine.statusOf(SHOWTIME_ID, 3L)).isEqualTo(SeatStatus.AVAILABLE);
+	}
+
+	@Test
+	void claimWithSeatOutsideShowtimeReportsUnknownSeat() {
+		load(view(1L, SeatStatus.AVAILABLE));
+
+		assertThat(engine.claim(SHOWTIME_ID, List.of(1L, 99L), SeatStatus.HOLD)).isEqualTo(SeatClaimResult.UNKNOWN_SEAT);
+		assertThat(engine.statusOf(SHOWTIME_ID, 1L)).isEqualTo(SeatStatus.AVAILABLE);
+	}
+
+	@Test
+	void releaseMakesSeatsAvailableAgain() {
+		load(view(1L, SeatStatus.AVAILABLE));
+		engine.claim(SHOWTIME_ID, List.of(1L), SeatStatus.RESERVED);
+
+		engine.release(SHOWTIME_ID, List.of(1L));
+
+		assertThat(engine.statusOf(SHOWTIME_ID, 1L)).isEqualTo(SeatStatus.AVAILABLE);
+		assertThat(engine.claim(SHOWTIME_ID, List.of(1L), SeatStatus.HOLD)).isEqualTo(SeatClaimResult.CLAIMED);
+	}
+
+	@Test
+	void seatsAcrossBitmapWordBoundaryAreIndependent() {
+		List<SeatStatusView> views = new ArrayList<>();
+		LongStream.rangeClosed(1, 130).forEach(id -> views.add(view(id, SeatStatus.AVAILABLE)));
+		load(views.toArray(SeatStatusView[]::new));
+
+		assertThat(engine.claim(SHOWTIME_ID, List.of(64L, 65L, 129L), SeatStatus.HOLD)).isEqualTo(SeatClaimResult.CLAIMED);
+
+		assertThat(engine.statusOf(SHOWTIME_ID, 1L)).isEqualTo(SeatStatus.AVAILABLE);
+		assertThat(engine.statusOf(SHOWTIME_ID, 63L)).isEqualTo(SeatStatus.AVAILABLE);
+		assertThat(engine.statusOf(SHOWTIME_ID, 65L)).isEqualTo(SeatStatus.HOLD);
+		assertThat(engine.statusOf(SHOWTIME_ID, 129L)).isEqualTo(SeatStatus.HOLD);
+		assertThat(engine.statusOf(SHOWTIME_ID, 130L)).isEqualTo(SeatStatus.AVAILABLE);
+	}
+
+	@Test
+	void reconcileAppliesDatabaseStateOnceClaimsComplete() {
+		load(view(1L, SeatStatus.AVAILABLE), view(2L, SeatStatus.AVAILABLE));
+		engine.claim(SHOWTIME_ID, List.of(1L), SeatStatus.HOLD);
+		// DB에서만 2번 좌석이 예매된 상태
+		when(seatInventoryRepository.findSeatStatusesByShowtimeId(SHOWTIME_ID))
+				.thenReturn(List.of(view(1L, SeatStatus.HOLD), view(2L, SeatStatus.RESERVED)));
+
+		engine.reconcile();
+		assertThat(engine.statusOf(SHOWTIME_ID, 2L)).as("in-flight claim blocks reconcile").isEqualTo(SeatStatus.AVAILABLE);
+
+		engine.completeClaim(SHOWTIME_ID);
+		engine.reconcile();
+		assertThat(engine.statusOf(SHOWTIME_ID, 2L)).isEqualTo(SeatStatus.RESERVED);
+	}
+
+	@Test
+	void reconcileSkipsWhenStateChangedSinceSnapshot() {
+		ShowtimeSeatState state = new ShowtimeSeatState(List.of(view(1L, SeatStatus.AVAILABLE)));
+		long version = state.version();
+		state.overwrite(List.of(1L), SeatStatus.SOLD);
+
+		assertThat(state.reconcile(List.of(view(1L, SeatStatus.AVAILABLE)), version)).isEqualTo(-1);
+		assertThat(state.statusOf(1L)).isEqualTo(SeatStatus.SOLD);
+	}
+
+	private void load(SeatStatusView... views) {
+		when(seatInventoryRepository.findSeatStatusesByShowtimeId(SHOWTIME_ID)).thenReturn(List.of(views));
+		engine.hydrate(SHOWTIME_ID);
+	}
+
+	private static SeatStatusView view(Long seatId, SeatStatus status) {
+		return new SeatStatusView() {
+			@Override
+			public Long getSeatId() {
+				return seatId;
+			}
+
+			@Override
+			public SeatStatus getStatus() {
+				return status;
+			}
+		};
+	}
+}
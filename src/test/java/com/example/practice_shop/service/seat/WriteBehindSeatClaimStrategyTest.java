@@ -0,0 +1,112 @@
+package com.example.practice_shop.service.seat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.practice_shop.constant.SeatClaimMode;
+import com.example.practice_shop.constant.SeatClaimResult;
+import com.example.practice_shop.constant.SeatStatus;
+import com.example.practice_shop.entity.SeatInventory;
+import com.example.practice_shop.entity.Showtime;
+import com.example.practice_shop.exception.CustomException;
+import com.example.practice_shop.exception.ErrorCode;
+import com.example.practice_shop.repository.SeatInventoryRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WriteBehindSeatClaimStrategyTest {
+
+	private static final Long SHOWTIME_ID = 1L;
+
+	private SeatInventoryRepository seatInventoryRepository;
+	private RecordingStrategy strategy;
+	private Showtime showtime;
+
+	@BeforeEach
+	void setUp() {
+		seatInventoryRepository = mock(SeatInventoryRepository.class);
+		strategy = new RecordingStrategy(seatInventoryRepository);
+		showtime = mock(Showtime.class);
+		when(showtime.getId()).thenReturn(SHOWTIME_ID);
+	}
+
+	@Test
+	void writesClaimWithConditionalUpdate() {
+		List<SeatInventory> inventories = List.of(mock(SeatInventory.class), mock(SeatInventory.class));
+		when(seatInventoryRepository.updateStatusIfCurrent(eq(SHOWTIME_ID), anyCollection(), eq(SeatStatus.AVAILABLE), eq(SeatStatus.HOLD)))
+				.thenReturn(1);
+		when(seatInventoryRepository.findAllBySeatIdInAndShowtimeId(List.of(10L, 11L), SHOWTIME_ID)).thenReturn(inventories);
+
+		assertThat(strategy.claim(showtime, List.of(10L, 11L), SeatStatus.HOLD)).isEqualTo(inventories);
+		verify(seatInventoryRepository).updateStatusIfCurrent(SHOWTIME_ID, List.of(10L), SeatStatus.AVAILABLE, SeatStatus.HOLD);
+		verify(seatInventoryRepository).updateStatusIfCurrent(SHOWTIME_ID, List.of(11L), SeatStatus.AVAILABLE, SeatStatus.HOLD);
+	}
+
+	@Test
+	void zeroRowsUpdatedIsConflict() {
+		when(seatInventoryRepository.updateStatusIfCurrent(SHOWTIME_ID, List.of(10L), SeatStatus.AVAILABLE, SeatStatus.HOLD)).thenReturn(1);
+		when(seatInventoryRepository.updateStatusIfCurrent(SHOWTIME_ID, List.of(11L), SeatStatus.AVAILABLE, SeatStatus.HOLD)).thenReturn(0);
+		when(seatInventoryRepository.countByShowtimeIdAndSeatIdIn(SHOWTIME_ID, List.of(11L))).thenReturn(1L);
+
+		assertThatThrownBy(() -> strategy.claim(showtime, List.of(10L, 11L), SeatStatus.HOLD))
+				.isInstanceOfSatisfying(CustomException.class,
+						e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SEAT_ALREADY_RESERVED));
+		verify(seatInventoryRepository, never()).findAllBySeatIdInAndShowtimeId(anyList(), anyLong());
+	}
+
+	@Test
+	void zeroRowsForMissingSeatIsNotFound() {
+		when(seatInventoryRepository.updateStatusIfCurrent(SHOWTIME_ID, List.of(10L), SeatStatus.AVAILABLE, SeatStatus.HOLD)).thenReturn(0);
+		when(seatInventoryRepository.countByShowtimeIdAndSeatIdIn(SHOWTIME_ID, List.of(10L))).thenReturn(0L);
+
+		assertThatThrownBy(() -> strategy.claim(showtime, List.of(10L), SeatStatus.HOLD))
+				.isInstanceOfSatisfying(CustomException.class,
+						e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SEAT_NOT_FOUND));
+	}
+
+	@Test
+	void rejectsDuplicateSeatsBeforeClaiming() {
+		assertThatThrownBy(() -> strategy.claim(showtime, List.of(10L, 10L), SeatStatus.HOLD))
+				.isInstanceOf(CustomException.class);
+		assertThat(strategy.claimed).isEmpty();
+	}
+
+	/** 저장소 선점은 항상 성공시키고, 호출만 기록합니다. */
+	private static final class RecordingStrategy extends WriteBehindSeatClaimStrategy {
+
+		private final List<Long> claimed = new ArrayList<>();
+
+		RecordingStrategy(SeatInventoryRepository seatInventoryRepository) {
+			super(seatInventoryRepository);
+		}
+
+		@Override
+		public boolean supports(SeatClaimMode mode) {
+			return false;
+		}
+
+		@Override
+		protected SeatClaimResult tryClaim(Long showtimeId, List<Long> seatIds, SeatStatus target) {
+			claimed.addAll(seatIds);
+			return SeatClaimResult.CLAIMED;
+		}
+
+		@Override
+		protected void releaseClaim(Long showtimeId, List<Long> seatIds) {
+		}
+
+		@Override
+		protected void load(Long showtimeId) {
+		}
+	}
+}